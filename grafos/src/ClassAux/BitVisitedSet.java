@@ -0,0 +1,47 @@
+package ClassAux;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de visitados sobre un bitset long[]: 1 bit por vértice.
+ * Es la opción más compacta; reset limpia solo las palabras en uso.
+ */
+public class BitVisitedSet implements VisitedSet {
+    private long[] bits;
+    private int capacity;
+    private int count;
+
+    public BitVisitedSet(int capacity) {
+        this.bits = new long[(capacity + 63) >>> 6];
+        this.capacity = capacity;
+        this.count = 0;
+    }
+
+    public boolean mark(int id) {
+        int w = id >>> 6;
+        long mask = 1L << id;
+        if ((bits[w] & mask) != 0) return false;
+        bits[w] |= mask;
+        count++;
+        return true;
+    }
+
+    public boolean isMarked(int id) {
+        return (bits[id >>> 6] & (1L << id)) != 0;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public void reset(int capacity) {
+        int words = (capacity + 63) >>> 6;
+        if (words > bits.length) {
+            bits = new long[words];
+        } else {
+            Arrays.fill(bits, 0, Math.min(bits.length, (this.capacity + 63) >>> 6), 0L);
+        }
+        this.capacity = capacity;
+        this.count = 0;
+    }
+}
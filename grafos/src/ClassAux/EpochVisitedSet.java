@@ -0,0 +1,49 @@
+package ClassAux;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de visitados con marcas por época sobre un int[].
+ * Un vértice está marcado si su marca coincide con la época actual, así que
+ * reset solo incrementa la época y no recorre el arreglo. Conviene cuando el
+ * mismo conjunto se reutiliza en muchos recorridos sobre grafos grandes.
+ */
+public class EpochVisitedSet implements VisitedSet {
+    private int[] marks;
+    private int epoch;
+    private int count;
+
+    public EpochVisitedSet(int capacity) {
+        this.marks = new int[capacity];
+        this.epoch = 1;
+        this.count = 0;
+    }
+
+    public boolean mark(int id) {
+        if (marks[id] == epoch) return false;
+        marks[id] = epoch;
+        count++;
+        return true;
+    }
+
+    public boolean isMarked(int id) {
+        return marks[id] == epoch;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public void reset(int capacity) {
+        if (capacity > marks.length) {
+            marks = Arrays.copyOf(marks, Math.max(capacity, marks.length * 2));
+        }
+        epoch++;
+        if (epoch == 0) {
+            /* La época dio la vuelta: limpiar una vez para no confundir marcas viejas */
+            Arrays.fill(marks, 0);
+            epoch = 1;
+        }
+        count = 0;
+    }
+}
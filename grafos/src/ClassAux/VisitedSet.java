@@ -0,0 +1,29 @@
+package ClassAux;
+
+/**
+ * Conjunto de vértices visitados indexado por id denso (0..n-1).
+ * Marcar y consultar cuestan O(1), a diferencia de buscar en una lista.
+ */
+public interface VisitedSet {
+    /**
+     * Marca el vértice como visitado.
+     * 
+     * @param id Id denso del vértice
+     * @return true si no estaba marcado, false si ya lo estaba
+     */
+    boolean mark(int id);
+
+    boolean isMarked(int id);
+
+    /**
+     * @return Cantidad de vértices marcados desde el último reset
+     */
+    int count();
+
+    /**
+     * Desmarca todos los vértices y asegura capacidad para ids en [0, capacity).
+     * 
+     * @param capacity Cantidad de vértices a soportar
+     */
+    void reset(int capacity);
+}
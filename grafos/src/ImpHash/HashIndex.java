@@ -0,0 +1,160 @@
+package ImpHash;
+
+/**
+ * Diccionario hash de direccionamiento abierto (sondeo lineal).
+ * Asocia una clave con un valor y ofrece búsqueda, inserción y
+ * eliminación en tiempo O(1) esperado.
+ * 
+ * La eliminación usa desplazamiento hacia atrás (backward shift), por lo
+ * que la tabla nunca acumula lápidas y las búsquedas no se degradan.
+ * 
+ * @param <K> Tipo de la clave (debe implementar equals/hashCode)
+ * @param <V> Tipo del valor asociado
+ */
+public class HashIndex<K, V> {
+	private static final int CAPACIDAD_INICIAL = 16;
+
+	private Object[] keys;
+	private Object[] values;
+	private int size;
+	private int mask;
+
+	public HashIndex() {
+		this(CAPACIDAD_INICIAL);
+	}
+
+	/**
+	 * Crea el índice reservando espacio para la cantidad esperada de claves.
+	 * 
+	 * @param expected Cantidad esperada de claves
+	 */
+	public HashIndex(int expected) {
+		int cap = CAPACIDAD_INICIAL;
+		/* Mantener el factor de carga por debajo de 0.5 */
+		while (cap < expected * 2) cap <<= 1;
+		keys = new Object[cap];
+		values = new Object[cap];
+		mask = cap - 1;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Retorna el valor asociado a la clave.
+	 * 
+	 * @param key Clave a buscar
+	 * @return Valor asociado, null si la clave no existe
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(K key) {
+		if (key == null) return null;
+		int i = indexOf(key);
+		return i < 0 ? null : (V) values[i];
+	}
+
+	public boolean containsKey(K key) {
+		return key != null && indexOf(key) >= 0;
+	}
+
+	/**
+	 * Asocia el valor a la clave, reemplazando el valor anterior si existía.
+	 * 
+	 * @param key Clave (no null)
+	 * @param value Valor a asociar
+	 * @return Valor anterior, null si la clave era nueva
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if (key == null) throw new IllegalArgumentException("La clave no puede ser null");
+		int i = hash(key) & mask;
+		while (keys[i] != null) {
+			if (keys[i].equals(key)) {
+				V old = (V) values[i];
+				values[i] = value;
+				return old;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+		if (++size * 2 > keys.length) resize(keys.length << 1);
+		return null;
+	}
+
+	/**
+	 * Elimina la clave del índice.
+	 * 
+	 * @param key Clave a eliminar
+	 * @return Valor que estaba asociado, null si la clave no existía
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(K key) {
+		if (key == null) return null;
+		int i = indexOf(key);
+		if (i < 0) return null;
+		V old = (V) values[i];
+
+		/* Desplazar hacia atrás las claves del mismo grupo para no dejar huecos */
+		int hueco = i;
+		int j = (i + 1) & mask;
+		while (keys[j] != null) {
+			int ideal = hash(keys[j]) & mask;
+			/* Mover la clave j al hueco si su posición ideal no está entre (hueco, j] */
+			if (((j - ideal) & mask) >= ((j - hueco) & mask)) {
+				keys[hueco] = keys[j];
+				values[hueco] = values[j];
+				hueco = j;
+			}
+			j = (j + 1) & mask;
+		}
+		keys[hueco] = null;
+		values[hueco] = null;
+		size--;
+		return old;
+	}
+
+	public void clear() {
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = null;
+			values[i] = null;
+		}
+		size = 0;
+	}
+
+	private int indexOf(Object key) {
+		int i = hash(key) & mask;
+		while (keys[i] != null) {
+			if (keys[i].equals(key)) return i;
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void resize(int newCap) {
+		Object[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new Object[newCap];
+		values = new Object[newCap];
+		mask = newCap - 1;
+		for (int k = 0; k < oldKeys.length; k++) {
+			if (oldKeys[k] != null) {
+				int i = hash(oldKeys[k]) & mask;
+				while (keys[i] != null) i = (i + 1) & mask;
+				keys[i] = oldKeys[k];
+				values[i] = oldValues[k];
+			}
+		}
+	}
+
+	/* Mezcla los bits del hashCode para repartir mejor claves con patrones */
+	private static int hash(Object key) {
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,131 @@
+package ImpHash;
+
+/**
+ * Diccionario hash con claves long primitivas (sondeo lineal). Igual que
+ * HashIndex, pero sin encajar las claves en Long ni llamar a equals: sirve
+ * para claves compuestas empaquetadas en un long, como un par de ids.
+ *
+ * La eliminación usa desplazamiento hacia atrás, así que la tabla no
+ * acumula lápidas. Una casilla está vacía cuando su valor es null, por lo
+ * que los valores no pueden ser null.
+ *
+ * @param <V> Tipo del valor asociado
+ */
+public class LongHashIndex<V> {
+	private static final int CAPACIDAD_INICIAL = 16;
+
+	private long[] keys;
+	private Object[] values;
+	private int size;
+	private int mask;
+
+	public LongHashIndex() {
+		this(CAPACIDAD_INICIAL);
+	}
+
+	/**
+	 * @param expected Cantidad esperada de claves
+	 */
+	public LongHashIndex(int expected) {
+		int cap = CAPACIDAD_INICIAL;
+		/* Mantener el factor de carga por debajo de 0.5 */
+		while (cap < expected * 2) cap <<= 1;
+		keys = new long[cap];
+		values = new Object[cap];
+		mask = cap - 1;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return Valor asociado, null si la clave no existe
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		int i = hash(key) & mask;
+		for (Object value; (value = values[i]) != null; i = (i + 1) & mask) {
+			if (keys[i] == key) return (V) value;
+		}
+		return null;
+	}
+
+	public boolean containsKey(long key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Asocia el valor a la clave solo si la clave no existe.
+	 *
+	 * @param value Valor a asociar (no null)
+	 * @return Valor que ya tenía la clave, null si se agregó
+	 */
+	@SuppressWarnings("unchecked")
+	public V putIfAbsent(long key, V value) {
+		if (value == null) throw new IllegalArgumentException("El valor no puede ser null");
+		int i = hash(key) & mask;
+		for (Object actual; (actual = values[i]) != null; i = (i + 1) & mask) {
+			if (keys[i] == key) return (V) actual;
+		}
+		keys[i] = key;
+		values[i] = value;
+		if (++size * 2 > keys.length) resize(keys.length << 1);
+		return null;
+	}
+
+	/**
+	 * @return Valor que estaba asociado, null si la clave no existía
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		int i = hash(key) & mask;
+		while (values[i] != null && keys[i] != key) {
+			i = (i + 1) & mask;
+		}
+		V old = (V) values[i];
+		if (old == null) return null;
+
+		/* Desplazar hacia atrás las claves del mismo grupo para no dejar huecos */
+		int hueco = i;
+		int j = (i + 1) & mask;
+		while (values[j] != null) {
+			int ideal = hash(keys[j]) & mask;
+			/* Mover la clave j al hueco si su posición ideal no está entre (hueco, j] */
+			if (((j - ideal) & mask) >= ((j - hueco) & mask)) {
+				keys[hueco] = keys[j];
+				values[hueco] = values[j];
+				hueco = j;
+			}
+			j = (j + 1) & mask;
+		}
+		values[hueco] = null;
+		size--;
+		return old;
+	}
+
+	private void resize(int newCap) {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new long[newCap];
+		values = new Object[newCap];
+		mask = newCap - 1;
+		for (int k = 0; k < oldValues.length; k++) {
+			if (oldValues[k] != null) {
+				int i = hash(oldKeys[k]) & mask;
+				while (values[i] != null) i = (i + 1) & mask;
+				keys[i] = oldKeys[k];
+				values[i] = oldValues[k];
+			}
+		}
+	}
+
+	/* Bits altos del producto: dependen de los 64 bits de la clave */
+	private static int hash(long key) {
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+	}
+}
@@ -0,0 +1,118 @@
+package ImpHash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Arena compacta de cadenas: los bytes UTF-8 de todas las cadenas viven en un
+ * único byte[] compartido y cada cadena se identifica por una referencia int
+ * (su posición en el arreglo de inicios).
+ *
+ * Evita el encabezado del String, el del arreglo interno y la referencia por
+ * cadena: para etiquetas cortas ocupa cerca de (largo + 4) bytes en lugar de
+ * unos 40 + largo. A cambio, leer una cadena crea un String nuevo, así que
+ * conviene para guardar muchas etiquetas y decodificarlas solo al mostrar.
+ *
+ * La arena solo crece; no busca duplicados (eso lo hace quien la usa, por
+ * ejemplo VertexDictionary).
+ */
+public class StringPool {
+	private byte[] datos;
+	/* inicios[r] es la posición del primer byte de la cadena r; inicios[count] el fin */
+	private int[] inicios;
+	private int count;
+
+	public StringPool() {
+		this(16, 256);
+	}
+
+	/**
+	 * @param expectedStrings Cantidad esperada de cadenas
+	 * @param expectedBytes Bytes esperados en total
+	 */
+	public StringPool(int expectedStrings, int expectedBytes) {
+		datos = new byte[Math.max(16, expectedBytes)];
+		inicios = new int[Math.max(2, expectedStrings + 1)];
+	}
+
+	/**
+	 * Copia la cadena al final de la arena.
+	 *
+	 * @param s Cadena a guardar (no null)
+	 * @return Referencia de la cadena
+	 */
+	public int add(String s) {
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		return add(b, 0, b.length);
+	}
+
+	/**
+	 * Copia bytes UTF-8 ya codificados, por ejemplo un campo de un búfer de
+	 * lectura, sin crear un String.
+	 *
+	 * @param bytes Arreglo que contiene la cadena
+	 * @param desde Primer byte de la cadena
+	 * @param hasta Fin exclusivo de la cadena
+	 * @return Referencia de la cadena
+	 */
+	public int add(byte[] bytes, int desde, int hasta) {
+		int largo = hasta - desde;
+		int fin = inicios[count];
+		if (fin + largo > datos.length) {
+			datos = Arrays.copyOf(datos, Math.max(fin + largo, datos.length * 2));
+		}
+		if (count + 2 > inicios.length) {
+			inicios = Arrays.copyOf(inicios, inicios.length * 2);
+		}
+		System.arraycopy(bytes, desde, datos, fin, largo);
+		inicios[count + 1] = fin + largo;
+		return count++;
+	}
+
+	/**
+	 * @param ref Referencia devuelta por add
+	 * @return Cadena nueva con el contenido guardado
+	 */
+	public String get(int ref) {
+		return new String(datos, inicios[ref], inicios[ref + 1] - inicios[ref], StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Compara sin decodificar: la cadena guardada contra bytes UTF-8 ya codificados.
+	 *
+	 * @param ref Referencia de la cadena guardada
+	 * @param utf8 Bytes UTF-8 de la cadena a comparar
+	 * @return true si son iguales
+	 */
+	public boolean equalsAt(int ref, byte[] utf8) {
+		return equalsAt(ref, utf8, 0, utf8.length);
+	}
+
+	/**
+	 * Igual que equalsAt(ref, utf8), sobre un rango [desde, hasta) del arreglo.
+	 */
+	public boolean equalsAt(int ref, byte[] bytes, int desde, int hasta) {
+		return Arrays.equals(datos, inicios[ref], inicios[ref + 1], bytes, desde, hasta);
+	}
+
+	/**
+	 * @return Cantidad de cadenas guardadas
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * @return Bytes ocupados por el contenido de las cadenas
+	 */
+	public int getByteCount() {
+		return inicios[count];
+	}
+
+	/**
+	 * @return Bytes reservados por la arena y sus índices
+	 */
+	public long getCapacityBytes() {
+		return datos.length + 4L * inicios.length;
+	}
+}
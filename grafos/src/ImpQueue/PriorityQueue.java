@@ -0,0 +1,20 @@
+package ImpQueue;
+
+import Excepciones.ExceptionIsEmpty;
+
+/**
+ * Cola de prioridad mínima: dequeue() retorna el elemento de menor prioridad.
+ * 
+ * @param <E> Tipo de los elementos
+ * @param <P> Tipo de la prioridad
+ */
+public interface PriorityQueue<E, P extends Comparable<P>> {
+    void enqueue(E x, P pr);
+    E dequeue() throws ExceptionIsEmpty;
+    E front() throws ExceptionIsEmpty;
+    P frontPriority() throws ExceptionIsEmpty;
+    boolean updatePriority(E x, P pr);
+    boolean contains(E x);
+    boolean isEmpty();
+    int size();
+}
@@ -0,0 +1,177 @@
+package ImpQueue;
+
+import Excepciones.ExceptionIsEmpty;
+import ImpHash.HashIndex;
+
+import java.util.Arrays;
+
+/**
+ * Cola de prioridad mínima implementada con un montículo binario indexado.
+ * 
+ * Cada elemento guarda su posición actual en el montículo y un diccionario
+ * hash lleva de elemento a entrada, por lo que enqueue, dequeue y
+ * updatePriority (decrease-key / increase-key) cuestan O(log n).
+ * Los elementos deben ser únicos dentro de la cola (equals/hashCode).
+ * 
+ * @param <E> Tipo de los elementos
+ * @param <P> Tipo de la prioridad
+ */
+public class PriorityQueueHeap<E, P extends Comparable<P>> implements PriorityQueue<E, P> {
+    private Entry<E, P>[] heap;
+    private int size;
+    private HashIndex<E, Entry<E, P>> index;
+
+    /** Entrada del montículo: elemento, prioridad y posición actual. */
+    private static class Entry<E, P> {
+        E data;
+        P priority;
+        int pos;
+
+        Entry(E data, P priority, int pos) {
+            this.data = data;
+            this.priority = priority;
+            this.pos = pos;
+        }
+    }
+
+    public PriorityQueueHeap() {
+        this(16);
+    }
+
+    @SuppressWarnings("unchecked")
+    public PriorityQueueHeap(int capacity) {
+        this.heap = (Entry<E, P>[]) new Entry<?, ?>[Math.max(1, capacity)];
+        this.size = 0;
+        this.index = new HashIndex<>(capacity);
+    }
+
+    /**
+     * Inserta un elemento con su prioridad.
+     * Si el elemento ya está en la cola, solo se actualiza su prioridad.
+     */
+    public void enqueue(E x, P pr) {
+        Entry<E, P> entry = index.get(x);
+        if (entry != null) {
+            changePriority(entry, pr);
+            return;
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        entry = new Entry<>(x, pr, size);
+        heap[size++] = entry;
+        index.put(x, entry);
+        siftUp(entry.pos);
+    }
+
+    public E dequeue() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Cola vacía");
+        }
+        Entry<E, P> min = heap[0];
+        Entry<E, P> ultimo = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            heap[0] = ultimo;
+            ultimo.pos = 0;
+            siftDown(0);
+        }
+        index.remove(min.data);
+        return min.data;
+    }
+
+    public E front() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Cola vacía");
+        }
+        return heap[0].data;
+    }
+
+    public P frontPriority() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Cola vacía");
+        }
+        return heap[0].priority;
+    }
+
+    /**
+     * Cambia la prioridad de un elemento (sube o baja según corresponda).
+     * Si el elemento no está en la cola, se inserta con esa prioridad.
+     * 
+     * @return true si el elemento ya estaba en la cola, false si se insertó
+     */
+    public boolean updatePriority(E x, P pr) {
+        Entry<E, P> entry = index.get(x);
+        if (entry == null) {
+            enqueue(x, pr);
+            return false;
+        }
+        changePriority(entry, pr);
+        return true;
+    }
+
+    public boolean contains(E x) {
+        return index.containsKey(x);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void changePriority(Entry<E, P> entry, P pr) {
+        int cmp = pr.compareTo(entry.priority);
+        entry.priority = pr;
+        if (cmp < 0) {
+            siftUp(entry.pos);
+        } else if (cmp > 0) {
+            siftDown(entry.pos);
+        }
+    }
+
+    private void siftUp(int i) {
+        Entry<E, P> x = heap[i];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heap[p].priority.compareTo(x.priority) <= 0) break;
+            heap[i] = heap[p];
+            heap[i].pos = i;
+            i = p;
+        }
+        heap[i] = x;
+        x.pos = i;
+    }
+
+    private void siftDown(int i) {
+        Entry<E, P> x = heap[i];
+        int mitad = size >>> 1;
+        while (i < mitad) {
+            int c = 2 * i + 1;
+            if (c + 1 < size && heap[c + 1].priority.compareTo(heap[c].priority) < 0) c++;
+            if (x.priority.compareTo(heap[c].priority) <= 0) break;
+            heap[i] = heap[c];
+            heap[i].pos = i;
+            i = c;
+        }
+        heap[i] = x;
+        x.pos = i;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Cola vacía";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.append(heap[i].data).append("(").append(heap[i].priority).append(")");
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        return sb.toString();
+    }
+}
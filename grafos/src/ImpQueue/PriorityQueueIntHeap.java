@@ -0,0 +1,159 @@
+package ImpQueue;
+
+import Excepciones.ExceptionIsEmpty;
+
+import java.util.Arrays;
+
+/**
+ * Cola de prioridad mínima de claves enteras con prioridades enteras.
+ * 
+ * Las claves son ids densos en [0, capacity). Se usan arreglos primitivos
+ * para el montículo, la prioridad de cada clave y la posición de cada clave
+ * dentro del montículo, sin crear objetos por operación. enqueue, dequeue y
+ * updatePriority cuestan O(log n); contains y la prioridad actual, O(1).
+ */
+public class PriorityQueueIntHeap {
+    private final int[] heap;
+    private final int[] pos;
+    private final int[] priority;
+    private int size;
+
+    /**
+     * @param capacity Cantidad de claves posibles (claves en [0, capacity))
+     */
+    public PriorityQueueIntHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.priority = new int[capacity];
+        Arrays.fill(pos, -1);
+        this.size = 0;
+    }
+
+    /**
+     * Inserta una clave con su prioridad.
+     * Si la clave ya está en la cola, solo se actualiza su prioridad.
+     */
+    public void enqueue(int key, int pr) {
+        if (pos[key] >= 0) {
+            changePriority(key, pr);
+            return;
+        }
+        priority[key] = pr;
+        heap[size] = key;
+        pos[key] = size;
+        siftUp(size++);
+    }
+
+    public int dequeue() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Cola vacía");
+        }
+        int min = heap[0];
+        int ultimo = heap[--size];
+        pos[min] = -1;
+        if (size > 0) {
+            heap[0] = ultimo;
+            pos[ultimo] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public int front() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Cola vacía");
+        }
+        return heap[0];
+    }
+
+    public int frontPriority() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Cola vacía");
+        }
+        return priority[heap[0]];
+    }
+
+    /**
+     * Cambia la prioridad de una clave (sube o baja según corresponda).
+     * Si la clave no está en la cola, se inserta con esa prioridad.
+     * 
+     * @return true si la clave ya estaba en la cola, false si se insertó
+     */
+    public boolean updatePriority(int key, int pr) {
+        if (pos[key] < 0) {
+            enqueue(key, pr);
+            return false;
+        }
+        changePriority(key, pr);
+        return true;
+    }
+
+    public boolean contains(int key) {
+        return pos[key] >= 0;
+    }
+
+    /**
+     * @return Prioridad actual de la clave (solo válida si contains(key))
+     */
+    public int getPriority(int key) {
+        return priority[key];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Vacía la cola en O(size) para reutilizarla sin reservar memoria nueva.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void changePriority(int key, int pr) {
+        int anterior = priority[key];
+        priority[key] = pr;
+        if (pr < anterior) {
+            siftUp(pos[key]);
+        } else if (pr > anterior) {
+            siftDown(pos[key]);
+        }
+    }
+
+    private void siftUp(int i) {
+        int x = heap[i];
+        int px = priority[x];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (priority[heap[p]] <= px) break;
+            heap[i] = heap[p];
+            pos[heap[i]] = i;
+            i = p;
+        }
+        heap[i] = x;
+        pos[x] = i;
+    }
+
+    private void siftDown(int i) {
+        int x = heap[i];
+        int px = priority[x];
+        int mitad = size >>> 1;
+        while (i < mitad) {
+            int c = 2 * i + 1;
+            if (c + 1 < size && priority[heap[c + 1]] < priority[heap[c]]) c++;
+            if (px <= priority[heap[c]]) break;
+            heap[i] = heap[c];
+            pos[heap[i]] = i;
+            i = c;
+        }
+        heap[i] = x;
+        pos[x] = i;
+    }
+}
@@ -0,0 +1,10 @@
+package ImpStack;
+
+import Excepciones.ExceptionIsEmpty;
+
+public interface Stack<E> {
+    void push(E x);
+    E pop() throws ExceptionIsEmpty;
+    E top() throws ExceptionIsEmpty;
+    boolean isEmpty();
+}
@@ -0,0 +1,56 @@
+package ImpStack;
+
+import Excepciones.ExceptionIsEmpty;
+import ListLinked.Node;
+
+public class StackLink<E> implements Stack<E> {
+    private Node<E> top;
+
+    public StackLink() {
+        this.top = null;
+    }
+
+    public void push(E x) {
+        Node<E> aux = new Node<>(x);
+        aux.setNext(this.top);
+        this.top = aux;
+    }
+
+    public E pop() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Pila vacía");
+        }
+        E data = this.top.getData();
+        this.top = this.top.getNext();
+        return data;
+    }
+
+    public E top() throws ExceptionIsEmpty {
+        if (this.isEmpty()) {
+            throw new ExceptionIsEmpty("Pila vacía");
+        }
+        return this.top.getData();
+    }
+
+    public boolean isEmpty() {
+        return this.top == null;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "Pila vacía";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        Node<E> current = this.top;
+        while (current != null) {
+            sb.append(current.getData());
+            if (current.getNext() != null) {
+                sb.append(" -> ");
+            }
+            current = current.getNext();
+        }
+        return sb.toString();
+    }
+}
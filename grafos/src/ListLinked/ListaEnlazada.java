@@ -1,13 +1,18 @@
 package ListLinked;
 
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 public class ListaEnlazada <E extends Comparable<E>> implements Iterable<E> {
 
     private Node<E> first;
+    private Node<E> last;
+    private int size;
 
     public ListaEnlazada() {
         this.first = null;
+        this.last = null;
+        this.size = 0;
     }
 
     public Node<E> getFirst() {
@@ -19,17 +24,13 @@ public class ListaEnlazada <E extends Comparable<E>> implements Iterable<E> {
     }
 
     public int length() {
-        int size = 0;
-        Node<E> actual = this.first;
-        while (actual != null) {
-            actual = actual.next;
-            size++;
-        }
-        return size;
+        return this.size;
     }
 
     public void destroyList() {
         this.first = null;
+        this.last = null;
+        this.size = 0;
     }
 
     public int search(E data) {
@@ -50,6 +51,10 @@ public class ListaEnlazada <E extends Comparable<E>> implements Iterable<E> {
         Node<E> nodo = new Node<>(data);
         nodo.next = this.first;
         this.first = nodo;
+        if (this.last == null) {
+            this.last = nodo;
+        }
+        this.size++;
     }
 
     public void insertLast(E data) {
@@ -57,18 +62,20 @@ public class ListaEnlazada <E extends Comparable<E>> implements Iterable<E> {
         if (this.isEmptyList()) {
             this.first = nodo;
         } else {
-            Node<E> actual = this.first;
-            while (actual.next != null) {
-                actual = actual.next;
-            }
-            actual.next = nodo;
+            this.last.next = nodo;
         }
+        this.last = nodo;
+        this.size++;
     }
 
     public boolean remove(E data) {
         if (this.isEmptyList()) return false;
         if (this.first.data.equals(data)) {
             this.first = this.first.next;
+            if (this.first == null) {
+                this.last = null;
+            }
+            this.size--;
             return true;
         }
         Node<E> actual = this.first;
@@ -76,10 +83,38 @@ public class ListaEnlazada <E extends Comparable<E>> implements Iterable<E> {
             actual = actual.next;
         }
         if (actual.next == null) return false;
+        if (actual.next == this.last) {
+            this.last = actual;
+        }
         actual.next = actual.next.next;
+        this.size--;
         return true;
     }
 
+    /**
+     * Elimina en una sola pasada los elementos que cumplen el filtro. A
+     * diferencia de remove(), no usa equals, así que sirve para quitar
+     * objetos concretos por identidad o varios a la vez.
+     *
+     * @return Cantidad de elementos eliminados
+     */
+    public int removeIf(Predicate<? super E> filtro) {
+        int eliminados = 0;
+        Node<E> anterior = null;
+        for (Node<E> actual = this.first; actual != null; actual = actual.next) {
+            if (filtro.test(actual.data)) {
+                if (anterior == null) this.first = actual.next;
+                else anterior.next = actual.next;
+                if (actual == this.last) this.last = anterior;
+                eliminados++;
+            } else {
+                anterior = actual;
+            }
+        }
+        this.size -= eliminados;
+        return eliminados;
+    }
+
     public boolean contains(E obj) {
         return this.search(obj) != -1;
     }
@@ -106,6 +141,7 @@ public class ListaEnlazada <E extends Comparable<E>> implements Iterable<E> {
             actual = actual.next;
         }
         this.first = aux.first;
+        this.last = aux.last;
     }
 
     public boolean equals(ListaEnlazada<E> otraLista) {
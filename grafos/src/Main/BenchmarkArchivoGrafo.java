@@ -0,0 +1,183 @@
+package Main;
+
+import graph.CsrGraph;
+import graph.GraphFile;
+import graph.GraphLink;
+import graph.GraphView;
+import graph.LabelCodec;
+import graph.MappedCsrGraph;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Tiempo de arranque con GraphFile frente a reconstruir el grafo.
+ *
+ * 1. Un GraphLink de etiquetas String se reconstruye con insertVertex e
+ *    insertEdgeWeight (lo que haría un cargador de texto sin el parseo) y se
+ *    compara con abrir su archivo y responder la primera consulta.
+ * 2. Una grilla generada al vuelo con unos 10^7 aristas y etiquetas String
+ *    se escribe y se abre; abrir no depende del tamaño del archivo.
+ *
+ * En ambos casos el grafo reabierto se compara completo con el de origen
+ * (además de la suma de verificación) y cualquier diferencia aborta con
+ * IllegalStateException.
+ */
+public class BenchmarkArchivoGrafo {
+	public static void main(String[] args) throws Exception {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		int lado = args.length > 1 ? Integer.parseInt(args[1]) : 1582;
+		compararConReconstruccion(n, 4 * n);
+		arranqueGrande(lado);
+	}
+
+	private static void compararConReconstruccion(int n, int m) throws Exception {
+		Random rnd = new Random(42);
+		int[] origenes = new int[m], destinos = new int[m], pesos = new int[m];
+		for (int k = 0; k < m; k++) {
+			origenes[k] = rnd.nextInt(n);
+			destinos[k] = rnd.nextInt(n);
+			pesos[k] = 1 + rnd.nextInt(100);
+		}
+		String[] etiquetas = new String[n];
+		for (int v = 0; v < n; v++) {
+			etiquetas[v] = "nodo-" + v;
+		}
+
+		long t0 = System.nanoTime();
+		GraphLink<String> grafo = new GraphLink<>(true);
+		for (String e : etiquetas) {
+			grafo.insertVertex(e);
+		}
+		for (int k = 0; k < m; k++) {
+			grafo.insertEdgeWeight(etiquetas[origenes[k]], etiquetas[destinos[k]], pesos[k]);
+		}
+		long reconstruir = System.nanoTime() - t0;
+
+		Path archivo = Files.createTempFile("grafo", ".csrm");
+		t0 = System.nanoTime();
+		GraphFile.write(grafo, LabelCodec.STRING, archivo);
+		long escribir = System.nanoTime() - t0;
+
+		t0 = System.nanoTime();
+		GraphFile<String> abierto = GraphFile.open(archivo, LabelCodec.STRING);
+		long abrir = System.nanoTime() - t0;
+		int consulta = abierto.Dijkstra(etiquetas[origenes[0]], etiquetas[destinos[0]]).length();
+		long primeraConsulta = System.nanoTime() - t0;
+
+		System.out.printf("== GraphLink %d vértices, %d aristas, archivo %d MB (escrito en %.0f ms)%n", n, m,
+				Files.size(archivo) >> 20, escribir / 1e6);
+		System.out.printf("Reconstruir con insertVertex/insertEdgeWeight: %8.1f ms%n", reconstruir / 1e6);
+		System.out.printf("GraphFile.open:                              %8.3f ms%n", abrir / 1e6);
+		System.out.printf("open + primer Dijkstra (%d vértices):        %8.1f ms%n", consulta, primeraConsulta / 1e6);
+		System.out.println(abierto.verifyChecksum() ? "Suma de verificación correcta" : "Suma de verificación INCORRECTA");
+
+		/* write congela el grafo con freeze(): mismos ids que esta instantánea */
+		CsrGraph<String> fuente = grafo.freeze();
+		verificar(fuente, fuente::labelOf, abierto);
+		Files.delete(archivo);
+	}
+
+	private static void arranqueGrande(int lado) throws Exception {
+		GraphView grilla = new Grilla(lado);
+		Path archivo = Files.createTempFile("grilla", ".csrm");
+		long t0 = System.nanoTime();
+		GraphFile.write(grilla, true, v -> "celda-" + v, LabelCodec.STRING, archivo);
+		long escribir = System.nanoTime() - t0;
+
+		t0 = System.nanoTime();
+		GraphFile<String> abierto = GraphFile.open(archivo, LabelCodec.STRING);
+		long abrir = System.nanoTime() - t0;
+		MappedCsrGraph g = abierto.getGraph();
+		int id = abierto.indexOf("celda-" + (lado * lado / 2));
+		String vecino = abierto.labelOf(g.target(id, 0));
+		long primeraConsulta = System.nanoTime() - t0;
+
+		System.out.printf("== Grilla %dx%d: %d aristas, archivo %d MB (escrito en %.0f ms)%n", lado, lado,
+				g.getEdgeCount(), Files.size(archivo) >> 20, escribir / 1e6);
+		System.out.printf("GraphFile.open:                              %8.3f ms%n", abrir / 1e6);
+		System.out.printf("open + búsqueda de etiqueta y vecino (%s): %8.3f ms%n", vecino, primeraConsulta / 1e6);
+		t0 = System.nanoTime();
+		boolean correcta = abierto.verifyChecksum();
+		System.out.printf("verifyChecksum (lee todo el archivo):        %8.1f ms, %s%n", (System.nanoTime() - t0) / 1e6,
+				correcta ? "correcta" : "INCORRECTA");
+		verificar(grilla, v -> "celda-" + v, abierto);
+		Files.delete(archivo);
+	}
+
+	/**
+	 * Compara el grafo abierto con el de origen: cantidad de vértices,
+	 * etiquetas (en ambos sentidos), desplazamientos, destinos y pesos.
+	 *
+	 * @throws IllegalStateException En la primera diferencia
+	 */
+	private static void verificar(GraphView fuente, IntFunction<String> etiquetas, GraphFile<String> abierto) {
+		long t0 = System.nanoTime();
+		MappedCsrGraph g = abierto.getGraph();
+		int n = fuente.getVertexCount();
+		if (g.getVertexCount() != n) {
+			throw new IllegalStateException("Cantidad de vértices: " + g.getVertexCount() + " en lugar de " + n);
+		}
+		long desplazamiento = 0;
+		for (int v = 0; v < n; v++) {
+			String etiqueta = etiquetas.apply(v);
+			if (!etiqueta.equals(abierto.labelOf(v)) || abierto.indexOf(etiqueta) != v) {
+				throw new IllegalStateException("Etiqueta del vértice " + v + ": " + abierto.labelOf(v)
+						+ " en lugar de " + etiqueta);
+			}
+			int grado = fuente.degree(v);
+			if (g.degree(v) != grado) {
+				throw new IllegalStateException("Desplazamiento del vértice " + (v + 1) + ": "
+						+ (desplazamiento + g.degree(v)) + " en lugar de " + (desplazamiento + grado));
+			}
+			for (int i = 0; i < grado; i++) {
+				if (g.target(v, i) != fuente.target(v, i)) {
+					throw new IllegalStateException("Destino " + i + " del vértice " + v + ": " + g.target(v, i)
+							+ " en lugar de " + fuente.target(v, i));
+				}
+				if (g.weight(v, i) != fuente.weight(v, i)) {
+					throw new IllegalStateException("Peso " + i + " del vértice " + v + ": " + g.weight(v, i)
+							+ " en lugar de " + fuente.weight(v, i));
+				}
+			}
+			desplazamiento += grado;
+		}
+		if (g.getEdgeCount() != desplazamiento) {
+			throw new IllegalStateException("Cantidad de aristas: " + g.getEdgeCount() + " en lugar de " + desplazamiento);
+		}
+		System.out.printf("Grafo reabierto igual al de origen (%d vértices, %d aristas): %8.1f ms%n", n,
+				desplazamiento, (System.nanoTime() - t0) / 1e6);
+	}
+
+	/* Grilla con aristas en ambos sentidos, igual a la de BenchmarkGrafoMapeado */
+	private static class Grilla implements GraphView {
+		private final int lado;
+
+		Grilla(int lado) {
+			this.lado = lado;
+		}
+
+		public int getVertexCount() {
+			return lado * lado;
+		}
+
+		public int degree(int v) {
+			int f = v / lado, c = v % lado;
+			return (f > 0 ? 1 : 0) + (f < lado - 1 ? 1 : 0) + (c > 0 ? 1 : 0) + (c < lado - 1 ? 1 : 0);
+		}
+
+		public int target(int v, int i) {
+			int f = v / lado, c = v % lado;
+			if (f > 0 && i-- == 0) return v - lado;
+			if (f < lado - 1 && i-- == 0) return v + lado;
+			if (c > 0 && i-- == 0) return v - 1;
+			return v + 1;
+		}
+
+		public int weight(int v, int i) {
+			return 10 + (v * 31 + target(v, i) * 17) % 10;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package Main;
+
+import graph.BfsResult;
+import graph.CsrGraph;
+import graph.GraphLink;
+import graph.ParallelBfs;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Escalabilidad del BFS paralelo con optimización de dirección.
+ * Ejecuta el mismo recorrido con 1..N hilos y lo compara con el BFS
+ * secuencial de CsrGraph.
+ */
+public class BenchmarkBfsParalelo {
+	public static void main(String[] args) {
+		int numVertices = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+		int numAristas = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+		int repeticiones = 5;
+
+		/* Grafo aleatorio no dirigido con generador congruencial reproducible */
+		GraphLink<Integer> grafo = new GraphLink<>(false);
+		for (int v = 0; v < numVertices; v++) {
+			grafo.insertVertex(v);
+		}
+		long semilla = 42;
+		for (int i = 0; i < numAristas / 2; i++) {
+			semilla = semilla * 6364136223846793005L + 1442695040888963407L;
+			int a = (int) ((semilla >>> 33) % numVertices);
+			semilla = semilla * 6364136223846793005L + 1442695040888963407L;
+			int b = (int) ((semilla >>> 33) % numVertices);
+			grafo.insertEdge(a, b);
+		}
+		CsrGraph<Integer> csr = grafo.freeze();
+		System.out.println("Vértices: " + csr.getVertexCount() + ", aristas: " + csr.getEdgeCount());
+
+		/* Referencia secuencial (con calentamiento) */
+		int[] visitados = new int[1];
+		for (int r = 0; r < repeticiones; r++) {
+			csr.bfs(0, v -> true);
+		}
+		long t0 = System.nanoTime();
+		for (int r = 0; r < repeticiones; r++) {
+			visitados[0] = 0;
+			csr.bfs(0, v -> {
+				visitados[0]++;
+				return true;
+			});
+		}
+		double secuencialMs = (System.nanoTime() - t0) / 1e6 / repeticiones;
+		System.out.printf("Secuencial: %.1f ms (%d alcanzados)%n", secuencialMs, visitados[0]);
+
+		int maxHilos = Runtime.getRuntime().availableProcessors();
+		for (int hilos = 1; hilos <= maxHilos; hilos *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(hilos);
+			ParallelBfs<Integer> bfs = new ParallelBfs<>(csr, pool);
+			for (int r = 0; r < repeticiones; r++) {
+				bfs.run(0); // calentamiento
+			}
+			long t1 = System.nanoTime();
+			BfsResult<Integer> resultado = null;
+			for (int r = 0; r < repeticiones; r++) {
+				resultado = bfs.run(0);
+			}
+			double ms = (System.nanoTime() - t1) / 1e6 / repeticiones;
+			System.out.printf("%2d hilos: %.1f ms (speedup %.2fx, %d alcanzados, profundidad %d)%n",
+					hilos, ms, secuencialMs / ms, resultado.getReachedCount(), resultado.getDepth());
+			pool.shutdown();
+		}
+	}
+}
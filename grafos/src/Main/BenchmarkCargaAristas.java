@@ -0,0 +1,85 @@
+package Main;
+
+import graph.CsrGraph;
+import graph.EdgeList;
+import graph.EdgeListLoader;
+import graph.GraphLink;
+import graph.GraphListEdge;
+import graph.IntGraph;
+import graph.LabelParser;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Carga de una lista de aristas en texto ("origen,destino,peso").
+ *
+ * "Antes": BufferedReader.readLine, String.split e insertVertex/
+ * insertEdgeWeight en un GraphLink, una arista a la vez.
+ * "Después": EdgeListLoader (lectura NIO por trozos en paralelo, sin split)
+ * y los constructores en bloque de EdgeList para cada representación.
+ * Se reporta el rendimiento en aristas leídas por segundo.
+ */
+public class BenchmarkCargaAristas {
+	public static void main(String[] args) throws Exception {
+		int numVertices = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+		int numAristas = args.length > 1 ? Integer.parseInt(args[1]) : 4_000_000;
+		Path archivo = Files.createTempFile("aristas", ".csv");
+		Random rnd = new Random(7);
+		try (BufferedWriter w = Files.newBufferedWriter(archivo)) {
+			for (int k = 0; k < numAristas; k++) {
+				w.write("v" + rnd.nextInt(numVertices) + ",v" + rnd.nextInt(numVertices) + "," + (1 + rnd.nextInt(100)));
+				w.newLine();
+			}
+		}
+		System.out.printf("Archivo: %d aristas, %d MB, %d hilos%n", numAristas, Files.size(archivo) >> 20,
+				Runtime.getRuntime().availableProcessors());
+
+		/* Calentamiento para no medir la compilación JIT */
+		EdgeListLoader.load(archivo, LabelParser.STRING, true);
+
+		long t0 = System.nanoTime();
+		GraphLink<String> antes = new GraphLink<>(true);
+		try (BufferedReader r = Files.newBufferedReader(archivo)) {
+			String linea;
+			while ((linea = r.readLine()) != null) {
+				String[] campos = linea.split(",");
+				antes.insertVertex(campos[0]);
+				antes.insertVertex(campos[1]);
+				antes.insertEdgeWeight(campos[0], campos[1], Integer.parseInt(campos[2]));
+			}
+		}
+		reportar("Antes: readLine + split + insertEdgeWeight", numAristas, System.nanoTime() - t0);
+		antes = null;
+
+		t0 = System.nanoTime();
+		EdgeList<String> aristas = EdgeListLoader.load(archivo, LabelParser.STRING, true);
+		long lectura = System.nanoTime() - t0;
+		reportar("EdgeListLoader.load (ordenadas, sin duplicados)", numAristas, lectura);
+
+		t0 = System.nanoTime();
+		GraphLink<String> link = aristas.toGraphLink();
+		reportar("  + toGraphLink", numAristas, lectura + System.nanoTime() - t0);
+		t0 = System.nanoTime();
+		GraphListEdge<String, Integer> listEdge = aristas.toGraphListEdge(Integer::valueOf);
+		reportar("  + toGraphListEdge", numAristas, lectura + System.nanoTime() - t0);
+		t0 = System.nanoTime();
+		IntGraph intGraph = aristas.toIntGraph();
+		reportar("  + toIntGraph", numAristas, lectura + System.nanoTime() - t0);
+		t0 = System.nanoTime();
+		CsrGraph<String> csr = aristas.toCsrGraph();
+		reportar("  + toCsrGraph", numAristas, lectura + System.nanoTime() - t0);
+
+		System.out.printf("Aristas distintas: %d de %d; vértices: %d / %d / %d / %d%n", aristas.getEdgeCount(),
+				aristas.getLinesRead(), link.freeze().getVertexCount(), listEdge.getVertexCount(),
+				intGraph.getNumVertices(), csr.getVertexCount());
+		Files.delete(archivo);
+	}
+
+	private static void reportar(String nombre, int aristas, long nanos) {
+		System.out.printf("%-50s %8.0f ms  %,12.0f aristas/s%n", nombre, nanos / 1e6, aristas / (nanos / 1e9));
+	}
+}
@@ -0,0 +1,62 @@
+package Main;
+
+import ListLinked.ListaEnlazada;
+import graph.GraphLink;
+
+/**
+ * Mide el tiempo de carga de un GraphLink con 10^6 aristas.
+ * 
+ * "Después": construcción real con el diccionario hash de vértices.
+ * "Antes": costo estimado de la búsqueda lineal que hacía searchVertexObject,
+ * medido sobre una muestra de búsquedas y extrapolado al total de la carga
+ * (2 búsquedas por arista + 1 por vértice), ya que ejecutarla completa
+ * tomaría horas.
+ */
+public class BenchmarkCargaGrafo {
+	public static void main(String[] args) {
+		int numVertices = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		int numAristas = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+		/* Generador congruencial para tener aristas reproducibles */
+		long semilla = 12345;
+		int[] origenes = new int[numAristas];
+		int[] destinos = new int[numAristas];
+		for (int i = 0; i < numAristas; i++) {
+			semilla = semilla * 6364136223846793005L + 1442695040888963407L;
+			origenes[i] = (int) ((semilla >>> 33) % numVertices);
+			semilla = semilla * 6364136223846793005L + 1442695040888963407L;
+			destinos[i] = (int) ((semilla >>> 33) % numVertices);
+		}
+
+		/* Después: carga completa con el índice hash */
+		long t0 = System.nanoTime();
+		GraphLink<Integer> grafo = new GraphLink<>(true);
+		for (int v = 0; v < numVertices; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int i = 0; i < numAristas; i++) {
+			grafo.insertEdgeWeight(origenes[i], destinos[i], 1);
+		}
+		long despuesMs = (System.nanoTime() - t0) / 1_000_000;
+
+		/* Antes: búsqueda lineal sobre la lista enlazada, por muestreo */
+		ListaEnlazada<Integer> lista = new ListaEnlazada<>();
+		for (int v = numVertices - 1; v >= 0; v--) {
+			lista.insertFirst(v);
+		}
+		int muestras = 2_000;
+		long t1 = System.nanoTime();
+		long encontrados = 0;
+		for (int i = 0; i < muestras; i++) {
+			if (lista.search(origenes[i]) >= 0) encontrados++;
+		}
+		double nsPorBusqueda = (double) (System.nanoTime() - t1) / muestras;
+		long busquedas = 2L * numAristas + numVertices;
+		long antesMs = (long) (nsPorBusqueda * busquedas / 1_000_000);
+
+		System.out.println("Vértices: " + numVertices + ", aristas: " + numAristas);
+		System.out.println("Antes  (búsqueda lineal, estimado): " + antesMs + " ms");
+		System.out.println("Después (diccionario hash):         " + despuesMs + " ms");
+		System.out.println("(verificación: " + encontrados + "/" + muestras + ")");
+	}
+}
@@ -0,0 +1,118 @@
+package Main;
+
+import graph.ContractionHierarchy;
+import graph.CsrGraph;
+import graph.GraphLink;
+import graph.PathResult;
+import graph.PointToPointSearch;
+import graph.ShortestPathTree;
+
+import java.util.Random;
+
+/**
+ * Jerarquía de contracción sobre una grilla con pesos y sobre un grafo
+ * aleatorio: reporta tiempo de preprocesamiento, atajos y latencia por
+ * consulta frente a Dijkstra, y verifica las distancias contra Dijkstra.
+ */
+public class BenchmarkContraccion {
+	public static void main(String[] args) {
+		int lado = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int consultas = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+		Random azar = new Random(42);
+		GraphLink<Integer> grilla = new GraphLink<>(true);
+		for (int v = 0; v < lado * lado; v++) {
+			grilla.insertVertex(v);
+		}
+		for (int f = 0; f < lado; f++) {
+			for (int c = 0; c < lado; c++) {
+				int v = f * lado + c;
+				if (c + 1 < lado) {
+					grilla.insertEdgeWeight(v, v + 1, 10 + azar.nextInt(10));
+					grilla.insertEdgeWeight(v + 1, v, 10 + azar.nextInt(10));
+				}
+				if (f + 1 < lado) {
+					grilla.insertEdgeWeight(v, v + lado, 10 + azar.nextInt(10));
+					grilla.insertEdgeWeight(v + lado, v, 10 + azar.nextInt(10));
+				}
+			}
+		}
+		medir("Grilla " + lado + "x" + lado, grilla, consultas, azar);
+
+		int n = lado * lado / 4;
+		GraphLink<Integer> aleatorio = new GraphLink<>(false);
+		for (int v = 0; v < n; v++) {
+			aleatorio.insertVertex(v);
+		}
+		for (int i = 0; i < n * 2; i++) {
+			aleatorio.insertEdgeWeight(azar.nextInt(n), azar.nextInt(n), 1 + azar.nextInt(100));
+		}
+		medir("Aleatorio no dirigido", aleatorio, consultas, azar);
+	}
+
+	private static void medir(String nombre, GraphLink<Integer> grafo, int consultas, Random azar) {
+		CsrGraph<Integer> csr = grafo.freeze();
+		int n = csr.getVertexCount();
+		ContractionHierarchy<Integer> ch = ContractionHierarchy.build(grafo);
+		System.out.println("== " + nombre + ": " + n + " vértices, " + csr.getEdgeCount() + " aristas");
+		System.out.println("Preprocesamiento: " + ch.getPreprocessingMillis() + " ms, atajos: " + ch.getShortcutCount());
+
+		int[][] pares = new int[consultas][2];
+		for (int q = 0; q < consultas; q++) {
+			pares[q][0] = azar.nextInt(n);
+			pares[q][1] = azar.nextInt(n);
+		}
+		PointToPointSearch<Integer> dijkstra = new PointToPointSearch<>(csr);
+		long asentadosD = 0, asentadosCH = 0, tiempoD = 0, tiempoCH = 0;
+		int diferencias = 0;
+		for (int ronda = 0; ronda < 2; ronda++) { // la primera ronda es calentamiento
+			asentadosD = asentadosCH = tiempoD = tiempoCH = 0;
+			for (int[] par : pares) {
+				long t0 = System.nanoTime();
+				PathResult<Integer> d = dijkstra.dijkstra(par[0], par[1]);
+				long t1 = System.nanoTime();
+				PathResult<Integer> c = ch.query(par[0], par[1]);
+				long t2 = System.nanoTime();
+				tiempoD += t1 - t0;
+				tiempoCH += t2 - t1;
+				asentadosD += d.getSettledCount();
+				asentadosCH += c.getSettledCount();
+				if (d.getDistance() != c.getDistance() || !caminoValido(csr, c)) diferencias++;
+			}
+		}
+		System.out.printf("Dijkstra:   %8.0f asentados/consulta, %8.3f ms/consulta%n",
+				(double) asentadosD / consultas, tiempoD / 1e6 / consultas);
+		System.out.printf("Jerarquía:  %8.0f asentados/consulta, %8.3f ms/consulta (%.0fx)%n",
+				(double) asentadosCH / consultas, tiempoCH / 1e6 / consultas, (double) tiempoD / tiempoCH);
+
+		/* Verificación uno-a-todos contra el Dijkstra existente */
+		for (int prueba = 0; prueba < 5; prueba++) {
+			int s = azar.nextInt(n);
+			ShortestPathTree<Integer> arbol = csr.Dijkstra(s);
+			for (int t = 0; t < n; t++) {
+				if (arbol.getDistance(t) != ch.distance(s, t)) diferencias++;
+			}
+		}
+		System.out.println(diferencias == 0 ? "Distancias iguales a Dijkstra" : diferencias + " diferencias");
+	}
+
+	/* El camino desplegado debe usar aristas originales y sumar la distancia */
+	private static boolean caminoValido(CsrGraph<Integer> csr, PathResult<Integer> r) {
+		if (!r.hasPath()) return r.getPath().length() == 0;
+		long suma = 0;
+		Integer anterior = null;
+		for (Integer v : r.getPath()) {
+			if (anterior != null) {
+				int u = csr.indexOf(anterior);
+				int mejor = Integer.MAX_VALUE;
+				for (int i = 0; i < csr.degree(u); i++) {
+					if (csr.labelOf(csr.target(u, i)).equals(v)) mejor = Math.min(mejor, csr.weight(u, i));
+				}
+				if (mejor == Integer.MAX_VALUE) return false;
+				suma += mejor;
+			}
+			anterior = v;
+		}
+		return suma == r.getDistance();
+	}
+}
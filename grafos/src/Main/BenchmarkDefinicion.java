@@ -0,0 +1,52 @@
+package Main;
+
+import graph.GraphListEdge;
+
+import java.util.Random;
+
+/**
+ * Definición de GraphListEdge desde una matriz de adyacencia: insertando
+ * vértice por vértice y arista por arista contra defineFromAdjacencyMatrix,
+ * que valida una vez, recorre las filas en paralelo y carga en bloque.
+ */
+public class BenchmarkDefinicion {
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		int porMil = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+		Integer[] orden = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			orden[i] = i;
+		}
+		Integer[][] matriz = new Integer[n][n];
+		Random rnd = new Random(7);
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				Integer w = rnd.nextInt(1000) < porMil ? 1 + rnd.nextInt(100) : 0;
+				matriz[i][j] = w;
+				matriz[j][i] = w;
+			}
+		}
+		System.out.println("Matriz " + n + "x" + n + " con densidad " + porMil + "/1000");
+
+		long t0 = System.nanoTime();
+		GraphListEdge<Integer, Integer> uno = new GraphListEdge<>();
+		for (Integer v : orden) {
+			uno.insertVertex(v);
+		}
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				if (matriz[i][j] != 0) uno.insertEdgeWeight(orden[i], orden[j], matriz[i][j]);
+			}
+		}
+		long t1 = System.nanoTime();
+		System.out.printf("Uno por uno:    %8.0f ms (%d aristas)%n", (t1 - t0) / 1e6, uno.getEdgeCount());
+		uno = null;
+
+		t0 = System.nanoTime();
+		GraphListEdge<Integer, Integer> bloque = new GraphListEdge<>();
+		bloque.defineFromAdjacencyMatrix(orden, matriz);
+		t1 = System.nanoTime();
+		System.out.printf("En bloque:      %8.0f ms (%d aristas)%n", (t1 - t0) / 1e6, bloque.getEdgeCount());
+	}
+}
@@ -0,0 +1,85 @@
+package Main;
+
+import graph.CsrGraph;
+import graph.DistanceMatrix;
+import graph.GraphLink;
+import graph.ShortestPathTree;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Matriz de distancias muchos-a-muchos sobre una grilla con pesos: compara
+ * la matriz por lotes (1..N hilos) con una llamada a GraphLink.Dijkstra(E)
+ * por origen, y verifica los valores contra esos árboles.
+ */
+public class BenchmarkDistanceMatrix {
+	public static void main(String[] args) {
+		int lado = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+		int cantOrigenes = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+		int cantDestinos = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+		Random azar = new Random(42);
+		GraphLink<Integer> grafo = new GraphLink<>(true);
+		for (int v = 0; v < lado * lado; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int f = 0; f < lado; f++) {
+			for (int c = 0; c < lado; c++) {
+				int v = f * lado + c;
+				if (c + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + 1, 10 + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + 1, v, 10 + azar.nextInt(10));
+				}
+				if (f + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + lado, 10 + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + lado, v, 10 + azar.nextInt(10));
+				}
+			}
+		}
+		Integer[] origenes = new Integer[cantOrigenes];
+		Integer[] destinos = new Integer[cantDestinos];
+		for (int i = 0; i < cantOrigenes; i++) {
+			origenes[i] = azar.nextInt(lado * lado);
+		}
+		for (int j = 0; j < cantDestinos; j++) {
+			destinos[j] = azar.nextInt(lado * lado);
+		}
+		System.out.println("Vértices: " + lado * lado + ", matriz " + cantOrigenes + " x " + cantDestinos);
+
+		long t0 = System.nanoTime();
+		ShortestPathTree<Integer>[] arboles = arboles(grafo, origenes);
+		long porOrigen = System.nanoTime() - t0;
+		System.out.printf("Dijkstra(E) por origen:  %8.1f ms%n", porOrigen / 1e6);
+
+		CsrGraph<Integer> csr = grafo.freeze();
+		DistanceMatrix<Integer> matriz = null;
+		int maxHilos = Runtime.getRuntime().availableProcessors();
+		for (int hilos = 1; hilos <= maxHilos; hilos *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(hilos);
+			long t1 = System.nanoTime();
+			matriz = DistanceMatrix.compute(csr, origenes, destinos, pool);
+			long lote = System.nanoTime() - t1;
+			System.out.printf("Matriz con %2d hilos:     %8.1f ms (%.1fx)%n", hilos, lote / 1e6, (double) porOrigen / lote);
+			pool.shutdown();
+		}
+
+		int diferencias = 0;
+		int[] plana = matriz.getDistances();
+		for (int i = 0; i < cantOrigenes; i++) {
+			for (int j = 0; j < cantDestinos; j++) {
+				if (plana[i * cantDestinos + j] != arboles[i].getDistance(destinos[j])) diferencias++;
+			}
+		}
+		System.out.println(diferencias == 0 ? "Distancias iguales a Dijkstra" : diferencias + " diferencias");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ShortestPathTree<Integer>[] arboles(GraphLink<Integer> grafo, Integer[] origenes) {
+		ShortestPathTree<Integer>[] arboles = (ShortestPathTree<Integer>[]) new ShortestPathTree<?>[origenes.length];
+		for (int i = 0; i < origenes.length; i++) {
+			arboles[i] = grafo.Dijkstra(origenes[i]);
+		}
+		return arboles;
+	}
+}
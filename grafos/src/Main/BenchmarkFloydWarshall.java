@@ -0,0 +1,129 @@
+package Main;
+
+import graph.AllPairsShortestPaths;
+import graph.CsrGraph;
+import graph.GraphLink;
+import graph.ShortestPathTree;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Floyd–Warshall por bloques frente a la versión de triple ciclo, con 1..N
+ * hilos. Verifica las distancias contra Dijkstra desde algunos orígenes.
+ */
+public class BenchmarkFloydWarshall {
+	public static void main(String[] args) {
+		int numVertices = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+		int gradoPromedio = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+		Random azar = new Random(42);
+		GraphLink<Integer> grafo = new GraphLink<>(true);
+		for (int v = 0; v < numVertices; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int i = 0; i < numVertices * gradoPromedio; i++) {
+			grafo.insertEdgeWeight(azar.nextInt(numVertices), azar.nextInt(numVertices), 1 + azar.nextInt(100));
+		}
+		CsrGraph<Integer> csr = grafo.freeze();
+		System.out.println("Vértices: " + csr.getVertexCount() + ", aristas: " + csr.getEdgeCount());
+
+		/* Referencia: triple ciclo sobre la misma matriz plana */
+		long t0 = System.nanoTime();
+		int[] ingenua = floydWarshallIngenuo(csr);
+		double ingenuaMs = (System.nanoTime() - t0) / 1e6;
+		System.out.printf("Triple ciclo: %.1f ms%n", ingenuaMs);
+
+		int maxHilos = Runtime.getRuntime().availableProcessors();
+		AllPairsShortestPaths<Integer> resultado = null;
+		for (int hilos = 1; hilos <= maxHilos; hilos *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(hilos);
+			long t1 = System.nanoTime();
+			resultado = AllPairsShortestPaths.from(csr, pool);
+			double ms = (System.nanoTime() - t1) / 1e6;
+			System.out.printf("%2d hilos, por bloques: %.1f ms (speedup %.2fx)%n", hilos, ms, ingenuaMs / ms);
+			pool.shutdown();
+		}
+
+		/* Verificación */
+		int n = csr.getVertexCount();
+		int fallas = 0;
+		int[] dist = resultado.getDistances();
+		for (int i = 0; i < dist.length; i++) {
+			if (dist[i] != ingenua[i]) fallas++;
+		}
+		for (int prueba = 0; prueba < 20; prueba++) {
+			int s = azar.nextInt(n);
+			ShortestPathTree<Integer> arbol = csr.Dijkstra(s);
+			for (int t = 0; t < n; t++) {
+				if (arbol.getDistance(t) != resultado.getDistance(s, t)) fallas++;
+				if (!caminoValido(resultado, csr, s, t)) fallas++;
+			}
+		}
+		AllPairsShortestPaths<Integer> porMatriz = AllPairsShortestPaths
+				.fromAdjacencyMatrix(grafo.getAdjacencyMatrix(), orden(grafo), ForkJoinPool.commonPool());
+		for (int s = 0; s < n; s += 97) {
+			for (int t = 0; t < n; t++) {
+				if (porMatriz.getDistance(s, t) != resultado.getDistance(s, t)) fallas++;
+			}
+		}
+		System.out.println(fallas == 0 ? "Distancias y caminos iguales a Dijkstra" : fallas + " diferencias");
+	}
+
+	/* getVertexOrder() devuelve un Comparable[]; se copia a Integer[] */
+	private static Integer[] orden(GraphLink<Integer> grafo) {
+		Object[] datos = ((GraphLink<?>) grafo).getVertexOrder();
+		Integer[] orden = new Integer[datos.length];
+		for (int i = 0; i < datos.length; i++) {
+			orden[i] = (Integer) datos[i];
+		}
+		return orden;
+	}
+
+	private static int[] floydWarshallIngenuo(CsrGraph<Integer> csr) {
+		int n = csr.getVertexCount();
+		int inf = Integer.MAX_VALUE;
+		int[] d = new int[n * n];
+		java.util.Arrays.fill(d, inf);
+		for (int u = 0; u < n; u++) {
+			d[u * n + u] = 0;
+			for (int i = 0; i < csr.degree(u); i++) {
+				int v = csr.target(u, i);
+				d[u * n + v] = Math.min(d[u * n + v], csr.weight(u, i));
+			}
+		}
+		for (int k = 0; k < n; k++) {
+			for (int i = 0; i < n; i++) {
+				int dik = d[i * n + k];
+				if (dik == inf) continue;
+				for (int j = 0; j < n; j++) {
+					int dkj = d[k * n + j];
+					if (dkj != inf && dik + dkj < d[i * n + j]) d[i * n + j] = dik + dkj;
+				}
+			}
+		}
+		return d;
+	}
+
+	/* El camino reconstruido debe usar aristas reales y sumar la distancia */
+	private static boolean caminoValido(AllPairsShortestPaths<Integer> apsp, CsrGraph<Integer> csr, int s, int t) {
+		int esperado = apsp.getDistance(s, t);
+		int suma = 0;
+		Integer anterior = null;
+		int largo = 0;
+		for (Integer v : apsp.getPath(s, t)) {
+			if (anterior != null) {
+				int mejor = Integer.MAX_VALUE;
+				int u = csr.indexOf(anterior);
+				for (int i = 0; i < csr.degree(u); i++) {
+					if (csr.labelOf(csr.target(u, i)).equals(v)) mejor = Math.min(mejor, csr.weight(u, i));
+				}
+				if (mejor == Integer.MAX_VALUE) return false;
+				suma += mejor;
+			}
+			anterior = v;
+			largo++;
+		}
+		return esperado == -1 ? largo == 0 : suma == esperado;
+	}
+}
@@ -0,0 +1,135 @@
+package Main;
+
+import graph.GraphView;
+import graph.GraphViewSearch;
+import graph.IntGraph;
+import graph.MappedCsrGraph;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Grafo mapeado en memoria frente al mismo grafo en heap (IntGraph) para
+ * grillas de tamaño creciente: heap retenido, pausas del recolector durante
+ * BFS y Dijkstra, y verificación de que ambos dan las mismas distancias.
+ *
+ * La grilla se genera al vuelo como GraphView, así que escribir el archivo
+ * no requiere tenerla en memoria.
+ */
+public class BenchmarkGrafoMapeado {
+	public static void main(String[] args) throws Exception {
+		int ladoMaximo = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		for (int lado = ladoMaximo / 4; lado <= ladoMaximo; lado *= 2) {
+			medir(lado);
+		}
+	}
+
+	private static void medir(int lado) throws Exception {
+		GraphView grilla = new Grilla(lado);
+		Path archivo = Files.createTempFile("grafo", ".csrm");
+		long t0 = System.nanoTime();
+		MappedCsrGraph.write(grilla, true, archivo);
+		long t1 = System.nanoTime();
+		System.out.printf("== Grilla %dx%d: %d vértices, archivo %d MB escrito en %.0f ms%n", lado, lado,
+				grilla.getVertexCount(), Files.size(archivo) >> 20, (t1 - t0) / 1e6);
+
+		long base = heapUsado();
+		MappedCsrGraph mapeado = MappedCsrGraph.open(archivo);
+		long heapMapeado = heapUsado() - base;
+		long[] gc = pausas();
+		int[] distMapeado = GraphViewSearch.dijkstra(mapeado, 0);
+		int alcanzados = GraphViewSearch.bfs(mapeado, 0, v -> true);
+		long[] gcMapeado = diferencia(pausas(), gc);
+		System.out.printf("Mapeado:  heap del grafo %8.1f MB, GC %3d pausas / %5d ms, %d alcanzados%n",
+				heapMapeado / 1e6, gcMapeado[0], gcMapeado[1], alcanzados);
+
+		base = heapUsado();
+		IntGraph enHeap = new IntGraph(true, grilla.getVertexCount());
+		for (int v = 0; v < grilla.getVertexCount(); v++) {
+			enHeap.insertVertex(v);
+		}
+		for (int v = 0; v < grilla.getVertexCount(); v++) {
+			for (int i = 0; i < grilla.degree(v); i++) {
+				enHeap.insertEdgeWeight(v, grilla.target(v, i), grilla.weight(v, i));
+			}
+		}
+		long heapIntGraph = heapUsado() - base;
+		gc = pausas();
+		int[] distHeap = GraphViewSearch.dijkstra(enHeap, 0);
+		GraphViewSearch.bfs(enHeap, 0, v -> true);
+		long[] gcHeap = diferencia(pausas(), gc);
+		System.out.printf("IntGraph: heap del grafo %8.1f MB, GC %3d pausas / %5d ms%n", heapIntGraph / 1e6, gcHeap[0],
+				gcHeap[1]);
+
+		int diferencias = 0;
+		for (int v = 0; v < distHeap.length; v++) {
+			if (distHeap[v] != distMapeado[v]) diferencias++;
+		}
+		System.out.println(diferencias == 0 ? "Mismas distancias" : diferencias + " diferencias");
+		Files.delete(archivo);
+	}
+
+	/* Grilla dirigida con aristas en ambos sentidos y pesos derivados de los extremos */
+	private static class Grilla implements GraphView {
+		private final int lado;
+
+		Grilla(int lado) {
+			this.lado = lado;
+		}
+
+		public int getVertexCount() {
+			return lado * lado;
+		}
+
+		public int degree(int v) {
+			int f = v / lado, c = v % lado;
+			return (f > 0 ? 1 : 0) + (f < lado - 1 ? 1 : 0) + (c > 0 ? 1 : 0) + (c < lado - 1 ? 1 : 0);
+		}
+
+		public int target(int v, int i) {
+			int f = v / lado, c = v % lado;
+			if (f > 0 && i-- == 0) return v - lado;
+			if (f < lado - 1 && i-- == 0) return v + lado;
+			if (c > 0 && i-- == 0) return v - 1;
+			return v + 1;
+		}
+
+		public int weight(int v, int i) {
+			return 10 + (v * 31 + target(v, i) * 17) % 10;
+		}
+	}
+
+	/* Cantidad y tiempo acumulado de recolecciones */
+	private static long[] pausas() {
+		long[] total = new long[2];
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			total[0] += Math.max(0, gc.getCollectionCount());
+			total[1] += Math.max(0, gc.getCollectionTime());
+		}
+		return total;
+	}
+
+	private static long[] diferencia(long[] a, long[] b) {
+		return new long[] { a[0] - b[0], a[1] - b[1] };
+	}
+
+	/* Heap ocupado tras recolectar hasta que la medición se estabiliza */
+	private static long heapUsado() {
+		Runtime rt = Runtime.getRuntime();
+		long anterior = Long.MAX_VALUE;
+		long usada = rt.totalMemory() - rt.freeMemory();
+		for (int i = 0; i < 10 && usada < anterior; i++) {
+			anterior = usada;
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			usada = rt.totalMemory() - rt.freeMemory();
+		}
+		return usada;
+	}
+}
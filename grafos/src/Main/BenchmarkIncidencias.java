@@ -0,0 +1,81 @@
+package Main;
+
+import graph.EdgeObj;
+import graph.GraphListEdge;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * BFS y grados de GraphListEdge sobre una grilla: recorriendo las aristas
+ * incidentes de cada vértice contra recorrer la lista global de aristas por
+ * cada vértice expandido, como se hacía antes.
+ */
+public class BenchmarkIncidencias {
+	public static void main(String[] args) {
+		int lado = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+		GraphListEdge<Integer, Integer> grafo = new GraphListEdge<>();
+
+		long t0 = System.nanoTime();
+		for (int v = 0; v < lado * lado; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int f = 0; f < lado; f++) {
+			for (int c = 0; c < lado; c++) {
+				int v = f * lado + c;
+				if (c + 1 < lado) grafo.insertEdge(v, v + 1);
+				if (f + 1 < lado) grafo.insertEdge(v, v + lado);
+			}
+		}
+		long t1 = System.nanoTime();
+		System.out.println("Grilla " + lado + "x" + lado + ": " + grafo.getVertexCount() + " vértices, "
+				+ grafo.getEdgeCount() + " aristas, construida en " + (t1 - t0) / 1_000_000 + " ms");
+
+		int[] visitados = new int[1];
+		t0 = System.nanoTime();
+		grafo.bfs(0, v -> {
+			visitados[0]++;
+			return true;
+		});
+		t1 = System.nanoTime();
+		long grados = 0;
+		for (int v = 0; v < lado * lado; v++) {
+			grados += grafo.getNodeDegree(v);
+		}
+		long t2 = System.nanoTime();
+		System.out.printf("Incidencias:    BFS %8.2f ms (%d visitados), grados %8.2f ms (suma %d)%n",
+				(t1 - t0) / 1e6, visitados[0], (t2 - t1) / 1e6, grados);
+
+		t0 = System.nanoTime();
+		int visitadosLista = bfsPorLista(grafo, 0);
+		t1 = System.nanoTime();
+		long gradosLista = 0;
+		for (int v = 0; v < lado * lado; v++) {
+			for (EdgeObj<Integer, Integer> arista : grafo.getEdges()) {
+				if (arista.getEndVertex1().getInfo() == v || arista.getEndVertex2().getInfo() == v) gradosLista++;
+			}
+		}
+		t2 = System.nanoTime();
+		System.out.printf("Lista global:   BFS %8.2f ms (%d visitados), grados %8.2f ms (suma %d)%n",
+				(t1 - t0) / 1e6, visitadosLista, (t2 - t1) / 1e6, gradosLista);
+	}
+
+	/* Vecinos buscados en toda la lista de aristas: O(V·E) */
+	private static int bfsPorLista(GraphListEdge<Integer, Integer> grafo, int inicio) {
+		Set<Integer> visitados = new HashSet<>();
+		ArrayDeque<Integer> cola = new ArrayDeque<>();
+		visitados.add(inicio);
+		cola.add(inicio);
+		while (!cola.isEmpty()) {
+			int actual = cola.poll();
+			for (EdgeObj<Integer, Integer> arista : grafo.getEdges()) {
+				int a = arista.getEndVertex1().getInfo();
+				int b = arista.getEndVertex2().getInfo();
+				int vecino = a == actual ? b : b == actual ? a : -1;
+				if (vecino >= 0 && visitados.add(vecino)) cola.add(vecino);
+			}
+		}
+		return visitados.size();
+	}
+}
@@ -0,0 +1,78 @@
+package Main;
+
+import graph.GraphListEdge;
+
+import java.util.Random;
+
+/**
+ * Inserción de aristas (con la verificación de duplicados), búsquedas,
+ * eliminaciones y complemento de GraphListEdge, que usan el índice de
+ * aristas por par de posiciones.
+ */
+public class BenchmarkIndiceAristas {
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+		int m = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+		int nComplemento = args.length > 2 ? Integer.parseInt(args[2]) : 400;
+
+		GraphListEdge<Integer, Integer> grafo = new GraphListEdge<>();
+		for (int v = 0; v < n; v++) {
+			grafo.insertVertex(v);
+		}
+		Random rnd = new Random(42);
+		long t0 = System.nanoTime();
+		int rechazadas = 0;
+		for (int k = 0; k < m; k++) {
+			if (!grafo.insertEdgeWeight(rnd.nextInt(n), rnd.nextInt(n), k)) rechazadas++;
+		}
+		long t1 = System.nanoTime();
+		/* Repetir las mismas aristas: todas deben rechazarse como duplicadas */
+		rnd = new Random(42);
+		int duplicadas = 0;
+		for (int k = 0; k < m; k++) {
+			if (!grafo.insertEdgeWeight(rnd.nextInt(n), rnd.nextInt(n), k)) duplicadas++;
+		}
+		long t2 = System.nanoTime();
+		int encontradas = 0;
+		for (int k = 0; k < m; k++) {
+			if (grafo.searchEdge(rnd.nextInt(n), rnd.nextInt(n))) encontradas++;
+		}
+		long t3 = System.nanoTime();
+		/* Repetir la secuencia de inserción para eliminar aristas que existen */
+		rnd = new Random(42);
+		int eliminadas = 0;
+		for (int k = 0; k < m / 2; k++) {
+			if (grafo.removeEdge(rnd.nextInt(n), rnd.nextInt(n))) eliminadas++;
+		}
+		long t6 = System.nanoTime();
+		int aristasAntes = grafo.getEdgeCount();
+		int nVertices = n / 100;
+		for (int v = 0; v < nVertices; v++) {
+			grafo.removeVertex(v);
+		}
+		long t7 = System.nanoTime();
+
+		GraphListEdge<Integer, Integer> denso = new GraphListEdge<>();
+		for (int v = 0; v < nComplemento; v++) {
+			denso.insertVertex(v);
+		}
+		for (int v = 0; v < nComplemento; v++) {
+			denso.insertEdge(v, (v + 1) % nComplemento);
+		}
+		long t4 = System.nanoTime();
+		denso.isSelfComplementary();
+		long t5 = System.nanoTime();
+
+		System.out.printf("Inserción:   %d aristas en %.0f ms (%.2f M/s, %d repetidas)%n",
+				m, (t1 - t0) / 1e6, m * 1e3 / (t1 - t0), rechazadas);
+		System.out.printf("Duplicadas:  %d rechazadas en %.0f ms (%.2f M/s)%n",
+				duplicadas, (t2 - t1) / 1e6, m * 1e3 / (t2 - t1));
+		System.out.printf("searchEdge:  %d consultas en %.0f ms (%d encontradas)%n",
+				m, (t3 - t2) / 1e6, encontradas);
+		System.out.printf("removeEdge:  %d eliminadas en %.0f ms (%.2f µs por llamada)%n",
+				eliminadas, (t6 - t3) / 1e6, (t6 - t3) / 1e3 / (m / 2));
+		System.out.printf("removeVertex: %d vértices y %d aristas en %.0f ms%n",
+				nVertices, aristasAntes - grafo.getEdgeCount(), (t7 - t6) / 1e6);
+		System.out.printf("Complemento: ciclo de %d vértices en %.0f ms%n", nComplemento, (t5 - t4) / 1e6);
+	}
+}
@@ -0,0 +1,101 @@
+package Main;
+
+import graph.GraphLink;
+import graph.IntGraph;
+import graph.ShortestPathTree;
+
+import java.util.Random;
+
+/**
+ * Memoria y tiempo de IntGraph frente a GraphLink<Integer> con las mismas
+ * aristas: bytes de heap por arista medidos tras forzar la recolección,
+ * tiempo de construcción, BFS y Dijkstra, y verificación de distancias.
+ */
+public class BenchmarkIntGraph {
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+		int m = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+		int[] origenes = new int[m], destinos = new int[m], pesos = new int[m];
+		Random azar = new Random(42);
+		for (int i = 0; i < m; i++) {
+			origenes[i] = azar.nextInt(n);
+			destinos[i] = azar.nextInt(n);
+			pesos[i] = 1 + azar.nextInt(100);
+		}
+		System.out.println("Vértices: " + n + ", aristas: " + m);
+
+		long base = memoriaUsada();
+		long t0 = System.nanoTime();
+		GraphLink<Integer> enlazado = new GraphLink<>(true);
+		for (int v = 0; v < n; v++) {
+			enlazado.insertVertex(v);
+		}
+		for (int i = 0; i < m; i++) {
+			enlazado.insertEdgeWeight(origenes[i], destinos[i], pesos[i]);
+		}
+		long t1 = System.nanoTime();
+		long memEnlazado = memoriaUsada() - base;
+
+		base = memoriaUsada();
+		long t2 = System.nanoTime();
+		IntGraph primitivo = new IntGraph(true, n);
+		for (int v = 0; v < n; v++) {
+			primitivo.insertVertex(v);
+		}
+		for (int i = 0; i < m; i++) {
+			primitivo.insertEdgeWeight(origenes[i], destinos[i], pesos[i]);
+		}
+		long t3 = System.nanoTime();
+		long memPrimitivo = memoriaUsada() - base;
+
+		System.out.printf("GraphLink: %7.1f MB (%5.1f bytes/arista), construcción %7.1f ms%n",
+				memEnlazado / 1e6, (double) memEnlazado / m, (t1 - t0) / 1e6);
+		System.out.printf("IntGraph:  %7.1f MB (%5.1f bytes/arista), construcción %7.1f ms (%.1fx menos memoria)%n",
+				memPrimitivo / 1e6, (double) memPrimitivo / m, (t3 - t2) / 1e6, (double) memEnlazado / memPrimitivo);
+
+		int[] visitadosEnlazado = new int[1];
+		int[] visitadosPrimitivo = new int[1];
+		long t4 = System.nanoTime();
+		enlazado.bfs(0, v -> ++visitadosEnlazado[0] > 0);
+		long t5 = System.nanoTime();
+		primitivo.bfs(0, v -> ++visitadosPrimitivo[0] > 0);
+		long t6 = System.nanoTime();
+		System.out.printf("BFS:       GraphLink %7.1f ms, IntGraph %7.1f ms%n", (t5 - t4) / 1e6, (t6 - t5) / 1e6);
+
+		long t7 = System.nanoTime();
+		ShortestPathTree<Integer> arbol = enlazado.Dijkstra(0);
+		long t8 = System.nanoTime();
+		int[] dist = primitivo.Dijkstra(0);
+		long t9 = System.nanoTime();
+		System.out.printf("Dijkstra:  GraphLink %7.1f ms, IntGraph %7.1f ms%n", (t8 - t7) / 1e6, (t9 - t8) / 1e6);
+
+		int diferencias = visitadosEnlazado[0] == visitadosPrimitivo[0] ? 0 : 1;
+		for (int v = 0; v < n; v++) {
+			if (arbol.getDistance(v) != dist[v]) diferencias++;
+		}
+		/* Usar las aristas de entrada al final también evita que se recolecten durante las mediciones */
+		for (int i = 0; i < m; i += 97) {
+			if (!primitivo.searchEdge(origenes[i], destinos[i])) diferencias++;
+		}
+		System.out.println(diferencias == 0 ? "Mismos resultados en ambos grafos" : diferencias + " diferencias");
+	}
+
+	/* Heap ocupado tras recolectar hasta que la medición se estabiliza */
+	private static long memoriaUsada() {
+		Runtime rt = Runtime.getRuntime();
+		long anterior = Long.MAX_VALUE;
+		long usada = rt.totalMemory() - rt.freeMemory();
+		for (int i = 0; i < 10 && usada < anterior; i++) {
+			anterior = usada;
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			usada = rt.totalMemory() - rt.freeMemory();
+		}
+		return usada;
+	}
+}
@@ -0,0 +1,89 @@
+package Main;
+
+import graph.CsrGraph;
+import graph.GraphLink;
+import graph.LandmarkIndex;
+import graph.PathResult;
+import graph.PointToPointSearch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Índice de landmarks (ALT) sobre una grilla con pesos: tiempo de
+ * construcción con 1..N hilos, guardado y carga desde disco, y vértices
+ * asentados por A* con el índice frente a Dijkstra.
+ */
+public class BenchmarkLandmarks {
+	public static void main(String[] args) throws IOException {
+		int lado = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+		int k = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+		int consultas = 200;
+
+		Random azar = new Random(42);
+		GraphLink<Integer> grafo = new GraphLink<>(true);
+		for (int v = 0; v < lado * lado; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int f = 0; f < lado; f++) {
+			for (int c = 0; c < lado; c++) {
+				int v = f * lado + c;
+				if (c + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + 1, 10 + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + 1, v, 10 + azar.nextInt(10));
+				}
+				if (f + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + lado, 10 + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + lado, v, 10 + azar.nextInt(10));
+				}
+			}
+		}
+		CsrGraph<Integer> csr = grafo.freeze();
+		System.out.println("Vértices: " + csr.getVertexCount() + ", aristas: " + csr.getEdgeCount() + ", landmarks: " + k);
+
+		LandmarkIndex<Integer> indice = null;
+		int maxHilos = Runtime.getRuntime().availableProcessors();
+		for (int hilos = 1; hilos <= maxHilos; hilos *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(hilos);
+			long t0 = System.nanoTime();
+			indice = LandmarkIndex.build(csr, k, pool);
+			System.out.printf("Construcción con %2d hilos: %.1f ms%n", hilos, (System.nanoTime() - t0) / 1e6);
+			pool.shutdown();
+		}
+
+		Path archivo = Files.createTempFile("landmarks", ".alt");
+		long t1 = System.nanoTime();
+		indice.save(archivo);
+		long t2 = System.nanoTime();
+		LandmarkIndex<Integer> cargado = LandmarkIndex.load(archivo, csr);
+		long t3 = System.nanoTime();
+		System.out.printf("Guardado: %.1f ms, carga: %.1f ms (%d KB)%n", (t2 - t1) / 1e6, (t3 - t2) / 1e6,
+				Files.size(archivo) / 1024);
+		Files.delete(archivo);
+
+		PointToPointSearch<Integer> busqueda = new PointToPointSearch<>(csr);
+		long asentadosD = 0, asentadosB = 0, asentadosA = 0;
+		int diferencias = 0;
+		for (int q = 0; q < consultas; q++) {
+			int s = azar.nextInt(lado * lado);
+			int t = azar.nextInt(lado * lado);
+			PathResult<Integer> d = busqueda.dijkstra(s, t);
+			PathResult<Integer> b = busqueda.bidirectionalDijkstra(s, t);
+			PathResult<Integer> a = busqueda.aStar(s, t, cargado);
+			asentadosD += d.getSettledCount();
+			asentadosB += b.getSettledCount();
+			asentadosA += a.getSettledCount();
+			if (d.getDistance() != a.getDistance() || d.getDistance() != b.getDistance()) diferencias++;
+			if (indice.estimate(csr.indexOf(s), csr.indexOf(t)) != cargado.estimate(csr.indexOf(s), csr.indexOf(t))) {
+				diferencias++;
+			}
+		}
+		System.out.printf("Dijkstra:      %8.0f asentados/consulta%n", (double) asentadosD / consultas);
+		System.out.printf("Bidireccional: %8.0f asentados/consulta%n", (double) asentadosB / consultas);
+		System.out.printf("A* con ALT:    %8.0f asentados/consulta%n", (double) asentadosA / consultas);
+		System.out.println(diferencias == 0 ? "Mismas distancias que Dijkstra" : diferencias + " diferencias");
+	}
+}
@@ -0,0 +1,60 @@
+package Main;
+
+import graph.AdjacencyMatrix;
+import graph.GraphLink;
+
+import java.util.Random;
+
+/**
+ * Matrices de adyacencia exportadas por GraphLink para un grafo disperso:
+ * representación elegida, memoria y tiempo, contra los 4·n² bytes de la
+ * matriz densa int[n][n] (que solo se construye si n es chico).
+ */
+public class BenchmarkMatrizAdyacencia {
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		int grado = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		GraphLink<Integer> grafo = new GraphLink<>(false);
+		for (int v = 0; v < n; v++) {
+			grafo.insertVertex(v);
+		}
+		Random rnd = new Random(3);
+		for (long k = 0; k < (long) n * grado / 2; k++) {
+			grafo.insertEdgeWeight(rnd.nextInt(n), rnd.nextInt(n), 1 + rnd.nextInt(50));
+		}
+		System.out.println("Grafo de " + n + " vértices, grado medio ~" + grado);
+		System.out.printf("int[n][n] ocuparía: %,d bytes%n", 4L * n * n);
+
+		long t0 = System.nanoTime();
+		AdjacencyMatrix pesos = grafo.exportAdjacencyMatrix();
+		long t1 = System.nanoTime();
+		AdjacencyMatrix binaria = grafo.exportBinaryAdjacencyMatrix();
+		long t2 = System.nanoTime();
+		reportar("Con pesos", pesos, t1 - t0);
+		reportar("Binaria", binaria, t2 - t1);
+
+		/* Recorrer todas las entradas fila por fila */
+		long suma = 0;
+		t0 = System.nanoTime();
+		for (int i = 0; i < n; i++) {
+			for (int j = pesos.nextNonZero(i, 0); j < n; j = pesos.nextNonZero(i, j + 1)) {
+				suma += pesos.get(i, j);
+			}
+		}
+		t1 = System.nanoTime();
+		System.out.printf("Recorrido de entradas: %.1f ms (suma de pesos %d)%n", (t1 - t0) / 1e6, suma);
+
+		if (4L * n * n <= 400L << 20) {
+			t0 = System.nanoTime();
+			int[][] densa = grafo.getAdjacencyMatrix();
+			t1 = System.nanoTime();
+			System.out.printf("getAdjacencyMatrix(): %.1f ms (%d filas)%n", (t1 - t0) / 1e6, densa.length);
+		}
+	}
+
+	private static void reportar(String nombre, AdjacencyMatrix matriz, long nanos) {
+		System.out.printf("%-10s %-22s %,14d bytes  %8.1f ms%n", nombre, matriz.getClass().getSimpleName(),
+				matriz.memoryBytes(), nanos / 1e6);
+	}
+}
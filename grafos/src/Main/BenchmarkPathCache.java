@@ -0,0 +1,105 @@
+package Main;
+
+import graph.GraphLink;
+import graph.PathCache;
+import graph.ShortestPathTree;
+import ImpStack.StackLink;
+
+import java.util.Random;
+
+/**
+ * Caché de caminos sobre una grilla con pesos: consultas repetidas con
+ * distribución sesgada (pocos pares frecuentes), con y sin caché, tasa de
+ * aciertos y descartes con presupuestos distintos, e invalidación al
+ * modificar el grafo.
+ */
+public class BenchmarkPathCache {
+	public static void main(String[] args) throws Exception {
+		int lado = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int consultas = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+		Random azar = new Random(42);
+		GraphLink<Integer> grafo = new GraphLink<>(true);
+		for (int v = 0; v < lado * lado; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int f = 0; f < lado; f++) {
+			for (int c = 0; c < lado; c++) {
+				int v = f * lado + c;
+				if (c + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + 1, 10 + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + 1, v, 10 + azar.nextInt(10));
+				}
+				if (f + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + lado, 10 + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + lado, v, 10 + azar.nextInt(10));
+				}
+			}
+		}
+		System.out.println("Vértices: " + lado * lado + ", consultas: " + consultas);
+
+		/* 200 pares distintos; el cuadrado del azar concentra las consultas en los primeros */
+		int[][] pares = new int[200][2];
+		for (int[] par : pares) {
+			par[0] = azar.nextInt(lado * lado);
+			par[1] = azar.nextInt(lado * lado);
+		}
+		int[] secuencia = new int[consultas];
+		for (int q = 0; q < consultas; q++) {
+			double x = azar.nextDouble();
+			secuencia[q] = (int) (x * x * pares.length);
+		}
+
+		long t0 = System.nanoTime();
+		for (int q : secuencia) {
+			grafo.Dijkstra(pares[q][0], pares[q][1]);
+		}
+		long sinCache = System.nanoTime() - t0;
+		System.out.printf("Sin caché:          %8.1f ms%n", sinCache / 1e6);
+
+		int diferencias = 0;
+		for (long presupuesto : new long[] { 4 * 1024, 32 * 1024, 1024 * 1024 }) {
+			PathCache<Integer> cache = new PathCache<>(grafo, presupuesto);
+			long t1 = System.nanoTime();
+			for (int q : secuencia) {
+				cache.Dijkstra(pares[q][0], pares[q][1]);
+			}
+			long conCache = System.nanoTime() - t1;
+			System.out.printf("Caché de %5d KB:   %8.1f ms (%.1fx), aciertos %.1f%%, descartes %d, %d entradas%n",
+					presupuesto / 1024, conCache / 1e6, (double) sinCache / conCache,
+					100.0 * cache.getHits() / (cache.getHits() + cache.getMisses()), cache.getEvictions(), cache.size());
+			for (int q = 0; q < 20; q++) {
+				if (!iguales(cache.Dijkstra(pares[q][0], pares[q][1]), grafo.Dijkstra(pares[q][0], pares[q][1]))) {
+					diferencias++;
+				}
+			}
+		}
+
+		/* Árbol uno-a-todos: responde también las consultas punto a punto del mismo origen */
+		PathCache<Integer> cache = new PathCache<>(grafo, 1024 * 1024);
+		ShortestPathTree<Integer> arbol = cache.Dijkstra(0);
+		for (int t = 0; t < 100; t++) {
+			if (!iguales(cache.Dijkstra(0, t), arbol.pathTo(t))) diferencias++;
+		}
+		System.out.println("Árbol desde 0: " + cache.getHits() + " aciertos, " + cache.getMisses() + " fallos");
+
+		/* Al cambiar el grafo, la siguiente consulta no ve resultados viejos */
+		int destino = lado * lado - 1;
+		cache.Dijkstra(0, destino);
+		grafo.insertEdgeWeight(0, destino, 1);
+		StackLink<Integer> nuevo = cache.Dijkstra(0, destino);
+		if (!iguales(nuevo, grafo.Dijkstra(0, destino))) diferencias++;
+		System.out.println("Tras insertar una arista: invalidaciones " + cache.getInvalidations()
+				+ ", versión del grafo " + grafo.getVersion());
+		grafo.removeEdge(0, destino);
+		if (!iguales(cache.Dijkstra(0, destino), grafo.Dijkstra(0, destino))) diferencias++;
+		System.out.println(diferencias == 0 ? "Resultados iguales a GraphLink" : diferencias + " diferencias");
+	}
+
+	private static boolean iguales(StackLink<Integer> a, StackLink<Integer> b) throws Exception {
+		while (!a.isEmpty() && !b.isEmpty()) {
+			if (!a.pop().equals(b.pop())) return false;
+		}
+		return a.isEmpty() && b.isEmpty();
+	}
+}
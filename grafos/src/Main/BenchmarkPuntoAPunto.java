@@ -0,0 +1,97 @@
+package Main;
+
+import graph.CsrGraph;
+import graph.GraphLink;
+import graph.Heuristic;
+import graph.PathResult;
+import graph.PointToPointSearch;
+
+import java.util.Random;
+
+/**
+ * Consultas punto a punto en una grilla con pesos (similar a una red vial):
+ * compara vértices asentados y tiempo de Dijkstra, Dijkstra bidireccional y
+ * A* con distancia Manhattan, y verifica que las tres den el mismo peso.
+ */
+public class BenchmarkPuntoAPunto {
+	public static void main(String[] args) {
+		int lado = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+		int consultas = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+		int pesoMinimo = 10;
+
+		Random azar = new Random(42);
+		GraphLink<Integer> grafo = new GraphLink<>(true);
+		for (int v = 0; v < lado * lado; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int f = 0; f < lado; f++) {
+			for (int c = 0; c < lado; c++) {
+				int v = f * lado + c;
+				if (c + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + 1, pesoMinimo + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + 1, v, pesoMinimo + azar.nextInt(10));
+				}
+				if (f + 1 < lado) {
+					grafo.insertEdgeWeight(v, v + lado, pesoMinimo + azar.nextInt(10));
+					grafo.insertEdgeWeight(v + lado, v, pesoMinimo + azar.nextInt(10));
+				}
+			}
+		}
+		CsrGraph<Integer> csr = grafo.freeze();
+		System.out.println("Vértices: " + csr.getVertexCount() + ", aristas: " + csr.getEdgeCount());
+
+		/* Distancia Manhattan por el peso mínimo: nunca sobreestima */
+		Heuristic manhattan = (v, t) -> {
+			int a = csr.labelOf(v), b = csr.labelOf(t);
+			return pesoMinimo * (Math.abs(a / lado - b / lado) + Math.abs(a % lado - b % lado));
+		};
+
+		PointToPointSearch<Integer> busqueda = new PointToPointSearch<>(csr);
+		int[][] pares = new int[consultas][2];
+		for (int q = 0; q < consultas; q++) {
+			pares[q][0] = azar.nextInt(lado * lado);
+			pares[q][1] = azar.nextInt(lado * lado);
+		}
+
+		long[] asentados = new long[3];
+		long[] tiempos = new long[3];
+		int diferencias = 0;
+		for (int ronda = 0; ronda < 2; ronda++) { // la primera ronda es calentamiento
+			asentados = new long[3];
+			tiempos = new long[3];
+			for (int[] par : pares) {
+				PathResult<Integer>[] r = resultados(busqueda, par[0], par[1], manhattan, asentados, tiempos);
+				if (r[0].getDistance() != r[1].getDistance() || r[0].getDistance() != r[2].getDistance()
+						|| r[0].getPath().length() == 0 || r[1].getPath().length() == 0) {
+					diferencias++;
+				}
+			}
+		}
+		String[] nombres = { "Dijkstra", "Bidireccional", "A* Manhattan" };
+		for (int i = 0; i < 3; i++) {
+			System.out.printf("%-14s %9.0f asentados/consulta, %7.3f ms/consulta%n", nombres[i],
+					(double) asentados[i] / consultas, tiempos[i] / 1e6 / consultas);
+		}
+		System.out.println(diferencias == 0 ? "Mismos pesos en las tres búsquedas" : diferencias + " diferencias");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PathResult<Integer>[] resultados(PointToPointSearch<Integer> busqueda, int s, int t,
+			Heuristic heuristica, long[] asentados, long[] tiempos) {
+		PathResult<Integer>[] r = (PathResult<Integer>[]) new PathResult<?>[3];
+		long t0 = System.nanoTime();
+		r[0] = busqueda.dijkstra(s, t);
+		long t1 = System.nanoTime();
+		r[1] = busqueda.bidirectionalDijkstra(s, t);
+		long t2 = System.nanoTime();
+		r[2] = busqueda.aStar(s, t, heuristica);
+		long t3 = System.nanoTime();
+		tiempos[0] += t1 - t0;
+		tiempos[1] += t2 - t1;
+		tiempos[2] += t3 - t2;
+		for (int i = 0; i < 3; i++) {
+			asentados[i] += r[i].getSettledCount();
+		}
+		return r;
+	}
+}
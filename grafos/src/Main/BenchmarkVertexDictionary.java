@@ -0,0 +1,102 @@
+package Main;
+
+import ImpHash.HashIndex;
+import ImpHash.StringPool;
+import graph.VertexDictionary;
+
+/**
+ * Diccionario de etiquetas String a ids densos: memoria retenida y tiempo de
+ * inserción y búsqueda con HashIndex<String, Integer> más un String[] por id,
+ * con VertexDictionary y con VertexDictionary sobre un StringPool.
+ */
+public class BenchmarkVertexDictionary {
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+		System.out.println("Etiquetas: " + n);
+
+		long base = memoriaUsada();
+		long t0 = System.nanoTime();
+		HashIndex<String, Integer> indice = new HashIndex<>();
+		String[] porId = new String[n];
+		for (int i = 0; i < n; i++) {
+			String etiqueta = etiqueta(i);
+			indice.put(etiqueta, i);
+			porId[i] = etiqueta;
+		}
+		long t1 = System.nanoTime();
+		long memIndice = memoriaUsada() - base;
+		int encontrados = 0;
+		long t2 = System.nanoTime();
+		for (int i = 0; i < n; i += 3) {
+			Integer id = indice.get(etiqueta(i));
+			if (id != null && porId[id].equals(etiqueta(i))) encontrados++;
+		}
+		long t3 = System.nanoTime();
+		reportar("HashIndex + String[]", memIndice, n, t1 - t0, t3 - t2);
+		indice = null;
+		porId = null;
+
+		base = memoriaUsada();
+		t0 = System.nanoTime();
+		VertexDictionary<String> diccionario = new VertexDictionary<>();
+		for (int i = 0; i < n; i++) {
+			diccionario.add(etiqueta(i));
+		}
+		t1 = System.nanoTime();
+		long memDiccionario = memoriaUsada() - base;
+		t2 = System.nanoTime();
+		for (int i = 0; i < n; i += 3) {
+			int id = diccionario.idOf(etiqueta(i));
+			if (id >= 0 && diccionario.labelOf(id).equals(etiqueta(i))) encontrados++;
+		}
+		t3 = System.nanoTime();
+		reportar("VertexDictionary", memDiccionario, n, t1 - t0, t3 - t2);
+		diccionario = null;
+
+		base = memoriaUsada();
+		t0 = System.nanoTime();
+		VertexDictionary<String> compacto = VertexDictionary.pooled(n, new StringPool(n, 14 * n));
+		for (int i = 0; i < n; i++) {
+			compacto.add(etiqueta(i));
+		}
+		t1 = System.nanoTime();
+		long memCompacto = memoriaUsada() - base;
+		t2 = System.nanoTime();
+		for (int i = 0; i < n; i += 3) {
+			int id = compacto.idOf(etiqueta(i));
+			if (id >= 0 && compacto.labelOf(id).equals(etiqueta(i))) encontrados++;
+		}
+		t3 = System.nanoTime();
+		reportar("Con StringPool", memCompacto, n, t1 - t0, t3 - t2);
+
+		int esperados = 3 * ((n + 2) / 3);
+		System.out.println(encontrados == esperados ? "Todas las etiquetas encontradas" : (esperados - encontrados) + " faltantes");
+	}
+
+	private static String etiqueta(int i) {
+		return "calle-" + i;
+	}
+
+	private static void reportar(String nombre, long bytes, int n, long insercion, long busqueda) {
+		System.out.printf("%-22s %7.1f MB (%5.1f bytes/etiqueta), inserción %6.0f ms, búsqueda %6.0f ms%n", nombre,
+				bytes / 1e6, (double) bytes / n, insercion / 1e6, busqueda / 1e6);
+	}
+
+	/* Heap ocupado tras recolectar hasta que la medición se estabiliza */
+	private static long memoriaUsada() {
+		Runtime rt = Runtime.getRuntime();
+		long anterior = Long.MAX_VALUE;
+		long usada = rt.totalMemory() - rt.freeMemory();
+		for (int i = 0; i < 10 && usada < anterior; i++) {
+			anterior = usada;
+			System.gc();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			usada = rt.totalMemory() - rt.freeMemory();
+		}
+		return usada;
+	}
+}
@@ -0,0 +1,112 @@
+package Main;
+
+import graph.CsrGraph;
+import graph.DeltaStepping;
+import graph.GraphLink;
+import graph.ShortestPathTree;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Verifica que delta-stepping produzca las mismas distancias que Dijkstra
+ * sobre grafos aleatorios (dirigidos y no dirigidos, con varios delta) y
+ * compara sus tiempos en un grafo grande.
+ */
+public class PruebaDeltaStepping {
+	public static void main(String[] args) {
+		int numVertices = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+		int numAristas = args.length > 1 ? Integer.parseInt(args[1]) : 2_000_000;
+
+		/* Comparación exhaustiva en grafos chicos */
+		Random azar = new Random(7);
+		int[] deltas = { 1, 3, 10, 50, 1000 };
+		int fallas = 0;
+		for (int prueba = 0; prueba < 200; prueba++) {
+			boolean dirigido = prueba % 2 == 0;
+			int n = 1 + azar.nextInt(300);
+			int m = azar.nextInt(n * 4 + 1);
+			CsrGraph<Integer> csr = grafoAleatorio(n, m, 1 + azar.nextInt(100), dirigido, azar).freeze();
+			int origen = azar.nextInt(n);
+			ShortestPathTree<Integer> esperado = csr.Dijkstra(origen);
+			DeltaStepping<Integer> delta = new DeltaStepping<>(csr);
+			for (int d : deltas) {
+				delta.setDelta(d);
+				ShortestPathTree<Integer> obtenido = delta.run(origen);
+				if (!mismasDistancias(esperado, obtenido, csr)) {
+					fallas++;
+					System.out.println("Diferencia: n=" + n + " m=" + m + " delta=" + d + " dirigido=" + dirigido);
+				}
+			}
+		}
+		System.out.println(fallas == 0 ? "200 grafos aleatorios: distancias iguales a Dijkstra"
+				: fallas + " comparaciones fallidas");
+
+		/* Tiempos en un grafo grande */
+		CsrGraph<Integer> csr = grafoAleatorio(numVertices, numAristas / 2, 100, false, new Random(42)).freeze();
+		System.out.println("Vértices: " + csr.getVertexCount() + ", aristas: " + csr.getEdgeCount());
+		int repeticiones = 3;
+		for (int r = 0; r < repeticiones; r++) {
+			csr.Dijkstra(0); // calentamiento
+		}
+		long t0 = System.nanoTime();
+		ShortestPathTree<Integer> referencia = null;
+		for (int r = 0; r < repeticiones; r++) {
+			referencia = csr.Dijkstra(0);
+		}
+		double dijkstraMs = (System.nanoTime() - t0) / 1e6 / repeticiones;
+		System.out.printf("Dijkstra: %.1f ms%n", dijkstraMs);
+
+		int maxHilos = Runtime.getRuntime().availableProcessors();
+		for (int hilos = 1; hilos <= maxHilos; hilos *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(hilos);
+			DeltaStepping<Integer> delta = new DeltaStepping<>(csr, pool);
+			for (int d : new int[] { delta.getDelta(), 1, 50 }) {
+				delta.setDelta(d);
+				for (int r = 0; r < repeticiones; r++) {
+					delta.run(0); // calentamiento
+				}
+				long t1 = System.nanoTime();
+				ShortestPathTree<Integer> resultado = null;
+				for (int r = 0; r < repeticiones; r++) {
+					resultado = delta.run(0);
+				}
+				double ms = (System.nanoTime() - t1) / 1e6 / repeticiones;
+				System.out.printf("%2d hilos, delta %3d: %.1f ms (speedup %.2fx)%s%n", hilos, d, ms,
+						dijkstraMs / ms, mismasDistancias(referencia, resultado, csr) ? "" : " DISTANCIAS DISTINTAS");
+			}
+			pool.shutdown();
+		}
+	}
+
+	private static GraphLink<Integer> grafoAleatorio(int n, int m, int pesoMaximo, boolean dirigido, Random azar) {
+		GraphLink<Integer> grafo = new GraphLink<>(dirigido);
+		for (int v = 0; v < n; v++) {
+			grafo.insertVertex(v);
+		}
+		for (int i = 0; i < m; i++) {
+			grafo.insertEdgeWeight(azar.nextInt(n), azar.nextInt(n), 1 + azar.nextInt(pesoMaximo));
+		}
+		return grafo;
+	}
+
+	private static boolean mismasDistancias(ShortestPathTree<Integer> a, ShortestPathTree<Integer> b,
+			CsrGraph<Integer> csr) {
+		for (int v = 0; v < csr.getVertexCount(); v++) {
+			if (a.getDistanceById(v) != b.getDistanceById(v)) return false;
+			/* El padre puede diferir entre caminos empatados, pero debe cerrar la distancia */
+			int p = b.getParentById(v);
+			if (p >= 0 && !cierraDistancia(csr, p, v, b)) return false;
+		}
+		return true;
+	}
+
+	private static boolean cierraDistancia(CsrGraph<Integer> csr, int p, int v, ShortestPathTree<Integer> arbol) {
+		for (int i = 0; i < csr.degree(p); i++) {
+			if (csr.target(p, i) == v && arbol.getDistanceById(p) + csr.weight(p, i) == arbol.getDistanceById(v)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
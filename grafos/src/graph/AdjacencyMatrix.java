@@ -0,0 +1,59 @@
+package graph;
+
+/**
+ * Matriz de adyacencia n x n de solo lectura: 0 = no hay arista, otro valor
+ * = peso de la arista (1 en las binarias). Las implementaciones guardan lo
+ * mismo con distinta memoria:
+ * <ul>
+ * <li>DenseAdjacencyMatrix: int[n][n], acceso directo; para n chico o grafos densos.</li>
+ * <li>BitsetAdjacencyMatrix: un bit por celda en un long[] (32 veces menos que int), solo binaria.</li>
+ * <li>SparseAdjacencyMatrix: filas CSR con columnas ordenadas, memoria O(n + m).</li>
+ * </ul>
+ * GraphLink.exportAdjacencyMatrix() elige una según la densidad del grafo.
+ *
+ * Para recorrer una fila sin pasar por las celdas vacías se usa nextNonZero:
+ * <pre>
+ * for (int j = m.nextNonZero(i, 0); j &lt; m.size(); j = m.nextNonZero(i, j + 1)) ...
+ * </pre>
+ */
+public interface AdjacencyMatrix {
+	/**
+	 * @return Cantidad de filas (y de columnas)
+	 */
+	int size();
+
+	/**
+	 * @return Peso de la arista fila -> columna, 0 si no hay arista
+	 */
+	int get(int row, int column);
+
+	/**
+	 * @return Primera columna &gt;= from con arista en la fila, size() si no hay más
+	 */
+	int nextNonZero(int row, int from);
+
+	/**
+	 * @return Bytes aproximados de los arreglos de la representación
+	 */
+	long memoryBytes();
+
+	default boolean contains(int row, int column) {
+		return get(row, column) != 0;
+	}
+
+	/**
+	 * Copia densa de la matriz. Ocupa 4·n² bytes; solo para n chico.
+	 *
+	 * @return Matriz int[n][n]
+	 */
+	default int[][] toArray() {
+		int n = size();
+		int[][] matrix = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = nextNonZero(i, 0); j < n; j = nextNonZero(i, j + 1)) {
+				matrix[i][j] = get(i, j);
+			}
+		}
+		return matrix;
+	}
+}
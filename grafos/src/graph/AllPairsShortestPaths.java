@@ -0,0 +1,291 @@
+package graph;
+
+import ImpHash.HashIndex;
+import ListLinked.ListaEnlazada;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Caminos mínimos entre todos los pares con Floyd–Warshall por bloques.
+ *
+ * La matriz de distancias es un int[] plano de n * n (fila i en i * n) que se
+ * recorre en bloques de BLOQUE x BLOQUE para que cada actualización trabaje
+ * sobre tres bloques que caben en caché. Para cada bloque pivote k:
+ * 1. Se resuelve el bloque diagonal (k, k).
+ * 2. En paralelo, los bloques de la fila k y de la columna k.
+ * 3. En paralelo, todos los demás bloques, que solo leen la fila y columna k.
+ *
+ * Junto con la distancia se mantiene el siguiente salto de cada par para
+ * reconstruir los caminos sin volver a calcular.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class AllPairsShortestPaths<E extends Comparable<E>> {
+	/* Lado de un bloque: tres bloques de int ocupan 48 KB */
+	private static final int BLOQUE = 64;
+
+	/* Sin camino; la mitad del máximo para que sumar dos no desborde */
+	private static final int INF = Integer.MAX_VALUE / 2;
+
+	private final E[] labels;
+	private final HashIndex<E, Integer> ids;
+	private final int n;
+	private final int[] dist;
+	private final int[] next;
+
+	private AllPairsShortestPaths(E[] labels, int[] dist, int[] next) {
+		this.labels = labels;
+		this.n = labels.length;
+		this.dist = dist;
+		this.next = next;
+		this.ids = new HashIndex<>(n);
+		for (int i = 0; i < n; i++) {
+			ids.put(labels[i], i);
+		}
+	}
+
+	/**
+	 * Calcula todos los pares a partir de la instantánea CSR.
+	 * Entre aristas paralelas se conserva la de menor peso.
+	 *
+	 * @param graph Grafo sin ciclos negativos
+	 * @param pool Pool donde se ejecutan los bloques de cada fase
+	 * @return Distancias y siguientes saltos entre todos los pares
+	 * @throws IllegalArgumentException Si el grafo tiene un ciclo negativo
+	 */
+	public static <E extends Comparable<E>> AllPairsShortestPaths<E> from(CsrGraph<E> graph, ForkJoinPool pool) {
+		int n = graph.getVertexCount();
+		int[] dist = matrizInicial(n);
+		int[] next = saltosIniciales(n);
+		for (int u = 0; u < n; u++) {
+			for (int i = 0; i < graph.degree(u); i++) {
+				relajarArista(dist, next, n, u, graph.target(u, i), graph.weight(u, i));
+			}
+		}
+		return resolver(graph.labels().clone(), dist, next, pool);
+	}
+
+	/**
+	 * Calcula todos los pares a partir de una matriz de adyacencia, como la de
+	 * GraphLink.getAdjacencyMatrix() (0 = no hay arista).
+	 *
+	 * @param matrix Matriz de pesos n x n
+	 * @param order Dato del vértice de cada fila (GraphLink.getVertexOrder())
+	 * @param pool Pool donde se ejecutan los bloques de cada fase
+	 * @return Distancias y siguientes saltos entre todos los pares
+	 * @throws IllegalArgumentException Si la matriz no es n x n o tiene un ciclo negativo
+	 */
+	public static <E extends Comparable<E>> AllPairsShortestPaths<E> fromAdjacencyMatrix(int[][] matrix, E[] order,
+			ForkJoinPool pool) {
+		int n = order.length;
+		if (matrix.length != n) throw new IllegalArgumentException("La matriz no coincide con el orden de vértices");
+		int[] dist = matrizInicial(n);
+		int[] next = saltosIniciales(n);
+		for (int i = 0; i < n; i++) {
+			if (matrix[i].length != n) throw new IllegalArgumentException("La matriz debe ser cuadrada");
+			for (int j = 0; j < n; j++) {
+				if (matrix[i][j] != 0) relajarArista(dist, next, n, i, j, matrix[i][j]);
+			}
+		}
+		return resolver(order.clone(), dist, next, pool);
+	}
+
+	private static int[] matrizInicial(int n) {
+		if ((long) n * n > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Demasiados vértices para una matriz plana");
+		int[] dist = new int[n * n];
+		Arrays.fill(dist, INF);
+		for (int i = 0; i < n; i++) {
+			dist[i * n + i] = 0;
+		}
+		return dist;
+	}
+
+	private static int[] saltosIniciales(int n) {
+		int[] next = new int[n * n];
+		Arrays.fill(next, -1);
+		for (int i = 0; i < n; i++) {
+			next[i * n + i] = i;
+		}
+		return next;
+	}
+
+	private static void relajarArista(int[] dist, int[] next, int n, int u, int v, int peso) {
+		if (peso < dist[u * n + v]) {
+			dist[u * n + v] = peso;
+			next[u * n + v] = v;
+		}
+	}
+
+	private static <E extends Comparable<E>> AllPairsShortestPaths<E> resolver(E[] labels, int[] dist, int[] next,
+			ForkJoinPool pool) {
+		int n = labels.length;
+		int numBloques = (n + BLOQUE - 1) / BLOQUE;
+		for (int k = 0; k < numBloques; k++) {
+			/* Fase 1: bloque diagonal */
+			actualizar(dist, next, n, k, k, k);
+			/* Fase 2: fila k (bloques 0..numBloques) y columna k (numBloques..2 * numBloques) */
+			pool.invoke(new Fase(dist, next, n, numBloques, k, 0, 2 * numBloques, false));
+			/* Fase 3: el resto, repartido por filas de bloques */
+			pool.invoke(new Fase(dist, next, n, numBloques, k, 0, numBloques, true));
+		}
+		/* Con un ciclo negativo sus vértices quedan a distancia negativa de sí mismos y getPath no terminaría */
+		for (int i = 0; i < n; i++) {
+			if (dist[i * n + i] < 0) {
+				throw new IllegalArgumentException("El grafo tiene un ciclo negativo que pasa por " + labels[i]);
+			}
+		}
+		for (int i = 0; i < dist.length; i++) {
+			if (dist[i] >= INF) dist[i] = Integer.MAX_VALUE;
+		}
+		return new AllPairsShortestPaths<>(labels, dist, next);
+	}
+
+	/* Actualiza el bloque (bi, bj) pasando por los vértices del bloque pivote bk */
+	private static void actualizar(int[] dist, int[] next, int n, int bi, int bj, int bk) {
+		int i0 = bi * BLOQUE, i1 = Math.min(n, i0 + BLOQUE);
+		int j0 = bj * BLOQUE, j1 = Math.min(n, j0 + BLOQUE);
+		int k0 = bk * BLOQUE, k1 = Math.min(n, k0 + BLOQUE);
+		for (int k = k0; k < k1; k++) {
+			int filaK = k * n;
+			for (int i = i0; i < i1; i++) {
+				int filaI = i * n;
+				int dik = dist[filaI + k];
+				if (dik >= INF) continue;
+				if (dik < 0) {
+					actualizarNegativo(dist, next, filaI, filaK, k, j0, j1);
+					continue;
+				}
+				int salto = next[filaI + k];
+				for (int j = j0; j < j1; j++) {
+					/* Con dik >= 0, INF + dik nunca mejora a un valor finito ni desborda */
+					int nueva = dik + dist[filaK + j];
+					if (nueva < dist[filaI + j]) {
+						dist[filaI + j] = nueva;
+						next[filaI + j] = salto;
+					}
+				}
+			}
+		}
+	}
+
+	/* Variante para dik negativo: hay que descartar explícitamente los INF de la fila k */
+	private static void actualizarNegativo(int[] dist, int[] next, int filaI, int filaK, int k, int j0, int j1) {
+		int dik = dist[filaI + k];
+		int salto = next[filaI + k];
+		for (int j = j0; j < j1; j++) {
+			int dkj = dist[filaK + j];
+			if (dkj >= INF) continue;
+			if (dik + dkj < dist[filaI + j]) {
+				dist[filaI + j] = dik + dkj;
+				next[filaI + j] = salto;
+			}
+		}
+	}
+
+	/* Un rango de bloques de la fase 2 (fila y columna pivote) o de la fase 3 (filas de bloques) */
+	@SuppressWarnings("serial")
+	private static class Fase extends RecursiveAction {
+		private final int[] dist, next;
+		private final int n, numBloques, pivote, desde, hasta;
+		private final boolean resto;
+
+		Fase(int[] dist, int[] next, int n, int numBloques, int pivote, int desde, int hasta, boolean resto) {
+			this.dist = dist;
+			this.next = next;
+			this.n = n;
+			this.numBloques = numBloques;
+			this.pivote = pivote;
+			this.desde = desde;
+			this.hasta = hasta;
+			this.resto = resto;
+		}
+
+		@Override
+		protected void compute() {
+			if (hasta - desde > 1) {
+				int medio = (desde + hasta) >>> 1;
+				invokeAll(new Fase(dist, next, n, numBloques, pivote, desde, medio, resto),
+						new Fase(dist, next, n, numBloques, pivote, medio, hasta, resto));
+				return;
+			}
+			if (hasta == desde) return;
+			if (resto) {
+				int bi = desde;
+				if (bi == pivote) return;
+				for (int bj = 0; bj < numBloques; bj++) {
+					if (bj != pivote) actualizar(dist, next, n, bi, bj, pivote);
+				}
+			} else if (desde < numBloques) {
+				if (desde != pivote) actualizar(dist, next, n, pivote, desde, pivote);
+			} else if (desde - numBloques != pivote) {
+				actualizar(dist, next, n, desde - numBloques, pivote, pivote);
+			}
+		}
+	}
+
+	/**
+	 * @return Cantidad de vértices
+	 */
+	public int size() {
+		return n;
+	}
+
+	/**
+	 * @return Dato del vértice de cada fila/columna de las matrices
+	 */
+	public E[] getVertexOrder() {
+		return labels.clone();
+	}
+
+	/**
+	 * Distancia mínima entre dos vértices.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @return Peso del camino mínimo, -1 si no existe camino o algún vértice
+	 */
+	public int getDistance(E origen, E destino) {
+		Integer s = origen == null ? null : ids.get(origen);
+		Integer t = destino == null ? null : ids.get(destino);
+		if (s == null || t == null || dist[s * n + t] == Integer.MAX_VALUE) return -1;
+		return dist[s * n + t];
+	}
+
+	/**
+	 * Reconstruye el camino mínimo siguiendo los siguientes saltos.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @return Lista con el camino (vacía si no existe)
+	 */
+	public ListaEnlazada<E> getPath(E origen, E destino) {
+		ListaEnlazada<E> camino = new ListaEnlazada<>();
+		Integer s = origen == null ? null : ids.get(origen);
+		Integer t = destino == null ? null : ids.get(destino);
+		if (s == null || t == null || next[s * n + t] == -1) return camino;
+		int v = s;
+		camino.insertLast(labels[v]);
+		while (v != t) {
+			v = next[v * n + t];
+			camino.insertLast(labels[v]);
+		}
+		return camino;
+	}
+
+	/**
+	 * @return Matriz plana de distancias (fila i en i * n, Integer.MAX_VALUE = sin camino);
+	 *         no debe modificarse
+	 */
+	public int[] getDistances() {
+		return dist;
+	}
+
+	/**
+	 * @return Matriz plana de siguientes saltos (-1 = sin camino); no debe modificarse
+	 */
+	public int[] getNextHops() {
+		return next;
+	}
+}
@@ -0,0 +1,76 @@
+package graph;
+
+/**
+ * Resultado de un BFS: nivel (distancia en aristas) y padre de cada vértice
+ * en el árbol BFS, indexados por id denso.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class BfsResult<E extends Comparable<E>> {
+	private final CsrGraph<E> graph;
+	private final int source;
+	private final int[] level;
+	private final int[] parent;
+	private final int reached;
+	private final int depth;
+
+	BfsResult(CsrGraph<E> graph, int source, int[] level, int[] parent, int reached, int depth) {
+		this.graph = graph;
+		this.source = source;
+		this.level = level;
+		this.parent = parent;
+		this.reached = reached;
+		this.depth = depth;
+	}
+
+	public E getSource() {
+		return graph.labelOf(source);
+	}
+
+	/**
+	 * @param data Dato del vértice
+	 * @return Cantidad de aristas desde el origen, -1 si no es alcanzable
+	 */
+	public int getLevel(E data) {
+		int v = graph.indexOf(data);
+		return v < 0 ? -1 : level[v];
+	}
+
+	/**
+	 * @param data Dato del vértice
+	 * @return Padre en el árbol BFS, null para el origen o vértices no alcanzados
+	 */
+	public E getParent(E data) {
+		int v = graph.indexOf(data);
+		if (v < 0 || parent[v] < 0) return null;
+		return graph.labelOf(parent[v]);
+	}
+
+	/**
+	 * @return Arreglo de niveles por id (-1 = no alcanzado); no debe modificarse
+	 */
+	public int[] getLevels() {
+		return level;
+	}
+
+	/**
+	 * @return Arreglo de padres por id (-1 = sin padre); no debe modificarse
+	 */
+	public int[] getParents() {
+		return parent;
+	}
+
+	/**
+	 * @return Cantidad de vértices alcanzados, incluido el origen
+	 */
+	public int getReachedCount() {
+		return reached;
+	}
+
+	/**
+	 * @return Nivel máximo alcanzado
+	 */
+	public int getDepth() {
+		return depth;
+	}
+}
@@ -0,0 +1,80 @@
+package graph;
+
+/**
+ * Matriz de adyacencia binaria con un bit por celda. Cada fila ocupa
+ * ceil(n / 64) palabras de un único long[], así que la matriz ocupa n²/8
+ * bytes: 32 veces menos que int[n][n].
+ */
+public final class BitsetAdjacencyMatrix implements AdjacencyMatrix {
+	private final int n;
+	/* Palabras por fila */
+	private final int stride;
+	private final long[] words;
+
+	/**
+	 * Matriz vacía; las aristas se agregan con set.
+	 *
+	 * @throws IllegalArgumentException Si la matriz no cabe en un solo arreglo
+	 */
+	public BitsetAdjacencyMatrix(int n) {
+		this.n = n;
+		this.stride = (n + 63) >>> 6;
+		long total = (long) n * stride;
+		if (total > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Matriz de " + n + " x " + n + " demasiado grande para un bitset");
+		}
+		this.words = new long[(int) total];
+	}
+
+	/**
+	 * Desde filas CSR; los pesos se ignoran.
+	 */
+	BitsetAdjacencyMatrix(int n, int[] offsets, int[] columns) {
+		this(n);
+		for (int i = 0; i < n; i++) {
+			for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+				set(i, columns[k]);
+			}
+		}
+	}
+
+	/**
+	 * @return Si la matriz de n x n cabe en un solo long[]
+	 */
+	static boolean fits(int n) {
+		return (long) n * ((n + 63) >>> 6) <= Integer.MAX_VALUE - 8;
+	}
+
+	public void set(int row, int column) {
+		words[row * stride + (column >>> 6)] |= 1L << column;
+	}
+
+	@Override
+	public int size() {
+		return n;
+	}
+
+	@Override
+	public int get(int row, int column) {
+		return (int) (words[row * stride + (column >>> 6)] >>> column) & 1;
+	}
+
+	@Override
+	public int nextNonZero(int row, int from) {
+		if (from >= n) return n;
+		int base = row * stride;
+		int w = from >>> 6;
+		/* Descartar los bits anteriores a from en la primera palabra */
+		long palabra = words[base + w] & (-1L << from);
+		while (palabra == 0) {
+			if (++w == stride) return n;
+			palabra = words[base + w];
+		}
+		return (w << 6) + Long.numberOfTrailingZeros(palabra);
+	}
+
+	@Override
+	public long memoryBytes() {
+		return 8L * words.length;
+	}
+}
@@ -0,0 +1,68 @@
+package graph;
+
+import java.io.PrintStream;
+
+/**
+ * Escribe cada evento del grafo como un mensaje, igual que hacían antes
+ * los métodos de GraphListEdge.
+ *
+ * @param <V> Tipo de dato de los vértices
+ */
+public class ConsoleGraphListener<V> implements GraphEventListener<V> {
+	private final PrintStream out;
+
+	public ConsoleGraphListener() {
+		this(System.out);
+	}
+
+	public ConsoleGraphListener(PrintStream out) {
+		this.out = out;
+	}
+
+	@Override
+	public void vertexAdded(V vertex) {
+		out.println("Vértice '" + vertex + "' insertado correctamente");
+	}
+
+	@Override
+	public void vertexRemoved(V vertex, int edgesRemoved) {
+		out.println("Vértice '" + vertex + "' eliminado correctamente (junto con " + edgesRemoved + " arista(s))");
+	}
+
+	@Override
+	public void edgeAdded(V from, V to) {
+		out.println("Arista '" + from + "' - '" + to + "' insertada correctamente");
+	}
+
+	@Override
+	public void edgeRemoved(V from, V to) {
+		out.println("Arista '" + from + "' - '" + to + "' eliminada correctamente");
+	}
+
+	@Override
+	public void rejected(Rejection reason, V v1, V v2) {
+		switch (reason) {
+			case NULL_VERTEX:
+				out.println("Error: Los vértices no pueden ser null");
+				break;
+			case UNKNOWN_VERTEX:
+				out.println(v2 == null ? "Advertencia: El vértice '" + v1 + "' no existe"
+						: "Error: Uno o ambos vértices ('" + v1 + "', '" + v2 + "') no existen en el grafo");
+				break;
+			case DUPLICATE_VERTEX:
+				out.println("Advertencia: El vértice '" + v1 + "' ya existe");
+				break;
+			case DUPLICATE_EDGE:
+				out.println("Advertencia: La arista entre '" + v1 + "' y '" + v2 + "' ya existe");
+				break;
+			case UNKNOWN_EDGE:
+				out.println("Advertencia: No se encontró la arista entre '" + v1 + "' y '" + v2 + "'");
+				break;
+		}
+	}
+
+	@Override
+	public void propertyChecked(Property property, boolean holds, String detail) {
+		out.println(property + (holds ? ": sí (" : ": no (") + detail + ")");
+	}
+}
@@ -0,0 +1,494 @@
+package graph;
+
+import ImpQueue.PriorityQueueIntHeap;
+import ListLinked.ListaEnlazada;
+
+import java.util.Arrays;
+
+/**
+ * Jerarquía de contracción para consultas repetidas de camino mínimo.
+ *
+ * El preprocesamiento contrae los vértices de a uno, del menos al más
+ * importante: al quitar v se agrega un atajo u -> w (vía v) por cada par de
+ * vecinos cuyo camino mínimo pasaba por v, salvo que una búsqueda local
+ * (testigo) encuentre otro camino igual o más corto. La importancia es el
+ * doble de la diferencia de aristas (atajos agregados menos aristas quitadas)
+ * más la cantidad de vecinos ya contraídos; se recalcula de forma perezosa
+ * cuando el vértice llega al frente de la cola.
+ *
+ * Una consulta es un Dijkstra bidireccional que solo sube de rango: desde el
+ * origen por aristas salientes y desde el destino por aristas entrantes.
+ * Ambas búsquedas se cruzan en el vértice de mayor rango del camino mínimo,
+ * así que cada una explora una fracción mínima del grafo. Los atajos guardan
+ * el vértice intermedio para desplegar el camino original.
+ *
+ * Las consultas reutilizan arreglos internos, por lo que una instancia no
+ * debe consultarse desde varios hilos a la vez. Requiere pesos no negativos.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class ContractionHierarchy<E extends Comparable<E>> {
+	/* Vértices asentados como máximo por cada búsqueda de testigos */
+	private static final int LIMITE_SIMULACION = 50;
+	private static final int LIMITE_CONTRACCION = 500;
+
+	private final CsrGraph<E> graph;
+	private final int[] rank;
+
+	/* up[v]: aristas v -> w con rank[w] > rank[v] */
+	private final int[] upOffsets, upTargets, upWeights, upVia;
+	/* down[v]: aristas w -> v con rank[w] > rank[v] (target = w) */
+	private final int[] downOffsets, downTargets, downWeights, downVia;
+
+	private final int shortcuts;
+	private final long preprocessingMillis;
+
+	/* Estado de consulta, válido si la marca coincide con la consulta actual */
+	private final int[] distF, padreF, aristaF, alcanzadoF;
+	private final int[] distB, padreB, aristaB, alcanzadoB;
+	private final PriorityQueueIntHeap colaF, colaB;
+	private int consulta;
+
+	/**
+	 * Construye la jerarquía a partir del estado actual del grafo.
+	 *
+	 * @param graph Grafo con pesos no negativos
+	 * @return Jerarquía lista para consultar
+	 */
+	public static <E extends Comparable<E>> ContractionHierarchy<E> build(GraphLink<E> graph) {
+		return from(graph.freeze());
+	}
+
+	/**
+	 * @param graph Instantánea CSR con pesos no negativos
+	 * @return Jerarquía lista para consultar
+	 */
+	public static <E extends Comparable<E>> ContractionHierarchy<E> from(CsrGraph<E> graph) {
+		long inicio = System.nanoTime();
+		Contractor contractor = new Contractor(graph);
+		contractor.contraerTodo();
+		return new ContractionHierarchy<>(graph, contractor, (System.nanoTime() - inicio) / 1_000_000);
+	}
+
+	private ContractionHierarchy(CsrGraph<E> graph, Contractor c, long millis) {
+		int n = graph.getVertexCount();
+		this.graph = graph;
+		this.rank = c.rank;
+
+		/* Las listas congeladas de cada vértice ya son sus aristas hacia rangos mayores */
+		upOffsets = new int[n + 1];
+		downOffsets = new int[n + 1];
+		for (int v = 0; v < n; v++) {
+			upOffsets[v + 1] = upOffsets[v] + c.tamSal[v];
+			downOffsets[v + 1] = downOffsets[v] + c.tamEnt[v];
+		}
+		upTargets = new int[upOffsets[n]];
+		upWeights = new int[upOffsets[n]];
+		upVia = new int[upOffsets[n]];
+		downTargets = new int[downOffsets[n]];
+		downWeights = new int[downOffsets[n]];
+		downVia = new int[downOffsets[n]];
+		int atajos = 0;
+		for (int v = 0; v < n; v++) {
+			System.arraycopy(c.salDestino[v], 0, upTargets, upOffsets[v], c.tamSal[v]);
+			System.arraycopy(c.salPeso[v], 0, upWeights, upOffsets[v], c.tamSal[v]);
+			System.arraycopy(c.salVia[v], 0, upVia, upOffsets[v], c.tamSal[v]);
+			System.arraycopy(c.entOrigen[v], 0, downTargets, downOffsets[v], c.tamEnt[v]);
+			System.arraycopy(c.entPeso[v], 0, downWeights, downOffsets[v], c.tamEnt[v]);
+			System.arraycopy(c.entVia[v], 0, downVia, downOffsets[v], c.tamEnt[v]);
+			for (int k = 0; k < c.tamSal[v]; k++) {
+				if (c.salVia[v][k] >= 0) atajos++;
+			}
+		}
+		this.shortcuts = atajos;
+		this.preprocessingMillis = millis;
+
+		distF = new int[n];
+		padreF = new int[n];
+		aristaF = new int[n];
+		alcanzadoF = new int[n];
+		distB = new int[n];
+		padreB = new int[n];
+		aristaB = new int[n];
+		alcanzadoB = new int[n];
+		colaF = new PriorityQueueIntHeap(n);
+		colaB = new PriorityQueueIntHeap(n);
+	}
+
+	/**
+	 * @return Cantidad de atajos agregados por la contracción
+	 */
+	public int getShortcutCount() {
+		return shortcuts;
+	}
+
+	/**
+	 * @return Tiempo de preprocesamiento en milisegundos
+	 */
+	public long getPreprocessingMillis() {
+		return preprocessingMillis;
+	}
+
+	/**
+	 * @param data Dato del vértice
+	 * @return Posición del vértice en el orden de contracción, -1 si no existe
+	 */
+	public int getRank(E data) {
+		int v = graph.indexOf(data);
+		return v < 0 ? -1 : rank[v];
+	}
+
+	/**
+	 * Camino mínimo entre dos vértices con búsqueda bidireccional ascendente.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @return Camino original (atajos desplegados), peso y vértices asentados
+	 */
+	public PathResult<E> query(E origen, E destino) {
+		int s = graph.indexOf(origen);
+		int t = graph.indexOf(destino);
+		if (s < 0 || t < 0) return new PathResult<>(new ListaEnlazada<E>(), -1, 0);
+		iniciar();
+		distF[s] = 0;
+		padreF[s] = -1;
+		alcanzadoF[s] = consulta;
+		distB[t] = 0;
+		padreB[t] = -1;
+		alcanzadoB[t] = consulta;
+		colaF.enqueue(s, 0);
+		colaB.enqueue(t, 0);
+
+		long mejor = s == t ? 0 : Long.MAX_VALUE;
+		int encuentro = s == t ? s : -1;
+		int asentados = 0;
+		boolean adelante = true;
+
+		/* Cada dirección se detiene cuando su mínimo ya no puede mejorar el resultado */
+		while (true) {
+			boolean sigueF = !colaF.isEmpty() && colaF.frontPriority() < mejor;
+			boolean sigueB = !colaB.isEmpty() && colaB.frontPriority() < mejor;
+			if (!sigueF && !sigueB) break;
+			adelante = sigueF && (!sigueB || !adelante);
+
+			int u;
+			if (adelante) {
+				u = colaF.dequeue();
+				for (int k = upOffsets[u]; k < upOffsets[u + 1]; k++) {
+					int w = upTargets[k];
+					int nueva = distF[u] + upWeights[k];
+					if (alcanzadoF[w] != consulta || nueva < distF[w]) {
+						distF[w] = nueva;
+						padreF[w] = u;
+						aristaF[w] = k;
+						alcanzadoF[w] = consulta;
+						colaF.updatePriority(w, nueva);
+					}
+				}
+				if (alcanzadoB[u] == consulta && (long) distF[u] + distB[u] < mejor) {
+					mejor = (long) distF[u] + distB[u];
+					encuentro = u;
+				}
+			} else {
+				u = colaB.dequeue();
+				for (int k = downOffsets[u]; k < downOffsets[u + 1]; k++) {
+					int w = downTargets[k];
+					int nueva = distB[u] + downWeights[k];
+					if (alcanzadoB[w] != consulta || nueva < distB[w]) {
+						distB[w] = nueva;
+						padreB[w] = u;
+						aristaB[w] = k;
+						alcanzadoB[w] = consulta;
+						colaB.updatePriority(w, nueva);
+					}
+				}
+				if (alcanzadoF[u] == consulta && (long) distF[u] + distB[u] < mejor) {
+					mejor = (long) distF[u] + distB[u];
+					encuentro = u;
+				}
+			}
+			asentados++;
+		}
+		if (encuentro < 0) return new PathResult<>(new ListaEnlazada<E>(), -1, asentados);
+		return new PathResult<>(desplegar(s, encuentro, t), (int) mejor, asentados);
+	}
+
+	/**
+	 * Solo la distancia entre dos vértices.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @return Peso del camino mínimo, -1 si no existe camino
+	 */
+	public int distance(E origen, E destino) {
+		return query(origen, destino).getDistance();
+	}
+
+	private void iniciar() {
+		colaF.clear();
+		colaB.clear();
+		if (consulta == Integer.MAX_VALUE) {
+			Arrays.fill(alcanzadoF, 0);
+			Arrays.fill(alcanzadoB, 0);
+			consulta = 0;
+		}
+		consulta++;
+	}
+
+	/* Reconstruye s -> medio -> t desplegando cada atajo en sus aristas originales */
+	private ListaEnlazada<E> desplegar(int s, int medio, int t) {
+		ListaEnlazada<E> camino = new ListaEnlazada<>();
+		/* Mitad hacia adelante: recolectar la cadena de padres y recorrerla desde s */
+		int largo = 0;
+		for (int v = medio; v != s; v = padreF[v]) {
+			largo++;
+		}
+		int[] cadena = new int[largo];
+		for (int v = medio, i = largo - 1; v != s; v = padreF[v], i--) {
+			cadena[i] = v;
+		}
+		camino.insertLast(graph.labelOf(s));
+		int anterior = s;
+		for (int v : cadena) {
+			expandir(anterior, v, upVia[aristaF[v]], camino);
+			anterior = v;
+		}
+		/* Mitad hacia atrás: los padres ya apuntan hacia el destino */
+		for (int v = medio; v != t; v = padreB[v]) {
+			expandir(v, padreB[v], downVia[aristaB[v]], camino);
+		}
+		return camino;
+	}
+
+	/* Agrega al camino los vértices de a -> b (sin a), desplegando el atajo si via >= 0 */
+	private void expandir(int a, int b, int via, ListaEnlazada<E> camino) {
+		if (via < 0) {
+			camino.insertLast(graph.labelOf(b));
+			return;
+		}
+		/* via tiene menor rango que a y b: a -> via está en down[via], via -> b en up[via] */
+		expandir(a, via, viaDe(downOffsets, downTargets, downVia, via, a), camino);
+		expandir(via, b, viaDe(upOffsets, upTargets, upVia, via, b), camino);
+	}
+
+	private static int viaDe(int[] offsets, int[] targets, int[] vias, int v, int destino) {
+		for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+			if (targets[k] == destino) return vias[k];
+		}
+		throw new IllegalStateException("Atajo sin arista de soporte");
+	}
+
+	/*
+	 * Grafo dinámico y cola de importancia usados solo durante el preprocesamiento.
+	 * Al contraer v se lo quita de las listas de sus vecinos; las listas de v
+	 * quedan congeladas y son justamente sus aristas hacia vértices de mayor rango.
+	 */
+	private static class Contractor {
+		private final int n;
+		final int[] rank;
+		private final int[] vecinosContraidos, actualizado;
+
+		/* Aristas salientes y entrantes por vértice (las entrantes reflejan a las salientes) */
+		final int[][] salDestino, salPeso, salVia;
+		final int[] tamSal;
+		final int[][] entOrigen, entPeso, entVia;
+		final int[] tamEnt;
+
+		/* Búsqueda de testigos */
+		private final int[] dist, marca, objetivo;
+		private final PriorityQueueIntHeap cola;
+		private int busqueda;
+
+		Contractor(CsrGraph<?> graph) {
+			n = graph.getVertexCount();
+			rank = new int[n];
+			vecinosContraidos = new int[n];
+			actualizado = new int[n];
+			salDestino = new int[n][];
+			salPeso = new int[n][];
+			salVia = new int[n][];
+			tamSal = new int[n];
+			entOrigen = new int[n][];
+			entPeso = new int[n][];
+			entVia = new int[n][];
+			tamEnt = new int[n];
+			for (int v = 0; v < n; v++) {
+				salDestino[v] = new int[4];
+				salPeso[v] = new int[4];
+				salVia[v] = new int[4];
+				entOrigen[v] = new int[4];
+				entPeso[v] = new int[4];
+				entVia[v] = new int[4];
+			}
+			for (int u = 0; u < n; u++) {
+				for (int i = 0; i < graph.degree(u); i++) {
+					int w = graph.target(u, i);
+					int peso = graph.weight(u, i);
+					if (peso < 0) throw new IllegalArgumentException("La jerarquía requiere pesos no negativos");
+					if (w != u) agregarArista(u, w, peso, -1);
+				}
+			}
+			dist = new int[n];
+			marca = new int[n];
+			objetivo = new int[n];
+			cola = new PriorityQueueIntHeap(n);
+		}
+
+		void contraerTodo() {
+			PriorityQueueIntHeap orden = new PriorityQueueIntHeap(n);
+			for (int v = 0; v < n; v++) {
+				orden.enqueue(v, importancia(v));
+			}
+			int siguiente = 0;
+			while (!orden.isEmpty()) {
+				int v = orden.dequeue();
+				/* Actualización perezosa: si empeoró, volver a la cola */
+				int p = importancia(v);
+				if (!orden.isEmpty() && p > orden.frontPriority()) {
+					orden.enqueue(v, p);
+					continue;
+				}
+				contraer(v, false, LIMITE_CONTRACCION);
+				rank[v] = siguiente++;
+				for (int k = 0; k < tamSal[v]; k++) {
+					quitar(entOrigen, entPeso, entVia, tamEnt, salDestino[v][k], v);
+				}
+				for (int k = 0; k < tamEnt[v]; k++) {
+					quitar(salDestino, salPeso, salVia, tamSal, entOrigen[v][k], v);
+				}
+				for (int k = 0; k < tamSal[v]; k++) {
+					vecinoContraido(salDestino[v][k], siguiente, orden);
+				}
+				for (int k = 0; k < tamEnt[v]; k++) {
+					vecinoContraido(entOrigen[v][k], siguiente, orden);
+				}
+			}
+		}
+
+		/* Quita de la lista de x la arista que la une con v (intercambio con la última) */
+		private static void quitar(int[][] vecino, int[][] peso, int[][] via, int[] tam, int x, int v) {
+			for (int k = 0; k < tam[x]; k++) {
+				if (vecino[x][k] == v) {
+					int ultimo = --tam[x];
+					vecino[x][k] = vecino[x][ultimo];
+					peso[x][k] = peso[x][ultimo];
+					via[x][k] = via[x][ultimo];
+					return;
+				}
+			}
+		}
+
+		/* Cuenta a cada vecino una sola vez aunque esté en ambas listas de v */
+		private void vecinoContraido(int x, int contraccion, PriorityQueueIntHeap orden) {
+			if (actualizado[x] == contraccion) return;
+			actualizado[x] = contraccion;
+			vecinosContraidos[x]++;
+			/* Solo suma el término de vecinos; los atajos se reevalúan al salir de la cola */
+			orden.updatePriority(x, orden.getPriority(x) + 1);
+		}
+
+		private int importancia(int v) {
+			int atajos = contraer(v, true, LIMITE_SIMULACION);
+			return 2 * (atajos - tamSal[v] - tamEnt[v]) + vecinosContraidos[v];
+		}
+
+		/*
+		 * Agrega (o en simulación solo cuenta) los atajos necesarios al quitar v.
+		 * Retorna la cantidad de atajos.
+		 */
+		private int contraer(int v, boolean simular, int limite) {
+			int cuenta = 0;
+			for (int i = 0; i < tamEnt[v]; i++) {
+				int u = entOrigen[v][i];
+				int pesoUV = entPeso[v][i];
+				int maximo = -1;
+				int objetivos = 0;
+				busqueda++;
+				for (int k = 0; k < tamSal[v]; k++) {
+					int w = salDestino[v][k];
+					if (w == u) continue;
+					maximo = Math.max(maximo, pesoUV + salPeso[v][k]);
+					objetivo[w] = busqueda;
+					objetivos++;
+				}
+				if (objetivos == 0) continue;
+				testigos(u, v, maximo, objetivos, limite);
+				for (int k = 0; k < tamSal[v]; k++) {
+					int w = salDestino[v][k];
+					if (w == u) continue;
+					int porV = pesoUV + salPeso[v][k];
+					if (marca[w] == busqueda && dist[w] <= porV) continue;
+					cuenta++;
+					if (!simular) agregarArista(u, w, porV, v);
+				}
+			}
+			return cuenta;
+		}
+
+		/*
+		 * Dijkstra local desde u que evita v. Termina al asentar todos los
+		 * objetivos, al superar la distancia máxima o el límite de asentados.
+		 */
+		private void testigos(int u, int v, int maximo, int objetivos, int limite) {
+			cola.clear();
+			dist[u] = 0;
+			marca[u] = busqueda;
+			cola.enqueue(u, 0);
+			int asentados = 0;
+			while (!cola.isEmpty() && cola.frontPriority() <= maximo && asentados < limite) {
+				int x = cola.dequeue();
+				asentados++;
+				if (objetivo[x] == busqueda && --objetivos == 0) break;
+				for (int k = 0; k < tamSal[x]; k++) {
+					int y = salDestino[x][k];
+					if (y == v) continue;
+					int nueva = dist[x] + salPeso[x][k];
+					if (marca[y] != busqueda || nueva < dist[y]) {
+						dist[y] = nueva;
+						marca[y] = busqueda;
+						cola.updatePriority(y, nueva);
+					}
+				}
+			}
+		}
+
+		/* Inserta u -> w o mejora su peso si ya existe (manteniendo la lista entrante de w) */
+		private void agregarArista(int u, int w, int peso, int via) {
+			for (int k = 0; k < tamSal[u]; k++) {
+				if (salDestino[u][k] == w) {
+					if (peso < salPeso[u][k]) {
+						salPeso[u][k] = peso;
+						salVia[u][k] = via;
+						for (int j = 0; j < tamEnt[w]; j++) {
+							if (entOrigen[w][j] == u) {
+								entPeso[w][j] = peso;
+								entVia[w][j] = via;
+							}
+						}
+					}
+					return;
+				}
+			}
+			if (tamSal[u] == salDestino[u].length) {
+				int capacidad = tamSal[u] * 2;
+				salDestino[u] = Arrays.copyOf(salDestino[u], capacidad);
+				salPeso[u] = Arrays.copyOf(salPeso[u], capacidad);
+				salVia[u] = Arrays.copyOf(salVia[u], capacidad);
+			}
+			salDestino[u][tamSal[u]] = w;
+			salPeso[u][tamSal[u]] = peso;
+			salVia[u][tamSal[u]] = via;
+			tamSal[u]++;
+			if (tamEnt[w] == entOrigen[w].length) {
+				int capacidad = tamEnt[w] * 2;
+				entOrigen[w] = Arrays.copyOf(entOrigen[w], capacidad);
+				entPeso[w] = Arrays.copyOf(entPeso[w], capacidad);
+				entVia[w] = Arrays.copyOf(entVia[w], capacidad);
+			}
+			entOrigen[w][tamEnt[w]] = u;
+			entPeso[w][tamEnt[w]] = peso;
+			entVia[w][tamEnt[w]] = via;
+			tamEnt[w]++;
+		}
+	}
+}
@@ -0,0 +1,333 @@
+package graph;
+
+import ListLinked.ListaEnlazada;
+
+import java.util.Arrays;
+
+/**
+ * Instantánea inmutable de un grafo en formato CSR (compressed sparse row).
+ *
+ * Los vértices se numeran de forma densa (0..n-1) en el orden de la lista de
+ * vértices del grafo original. Las aristas salientes del vértice v ocupan las
+ * posiciones [offsets[v], offsets[v+1]) de los arreglos targets y weights,
+ * por lo que cada arista cuesta 8 bytes y los recorridos leen memoria contigua.
+ *
+ * Está pensada para consultas de solo lectura: los cambios posteriores en el
+ * grafo original no se reflejan, hay que volver a congelarlo.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class CsrGraph<E extends Comparable<E>> implements GraphView {
+	private final E[] labels;
+	private final VertexDictionary<E> ids;
+	private final int[] offsets;
+	private final int[] targets;
+	private final int[] weights;
+	private final boolean isDirected;
+
+	CsrGraph(E[] labels, VertexDictionary<E> ids, int[] offsets, int[] targets, int[] weights, boolean isDirected) {
+		this.labels = labels;
+		this.ids = ids;
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+		this.isDirected = isDirected;
+	}
+
+	/**
+	 * Construye la instantánea CSR a partir de un GraphLink.
+	 * Conserva el orden de vértices y el orden de cada lista de adyacencia.
+	 *
+	 * @param graph Grafo a congelar
+	 * @return Instantánea CSR del grafo
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Comparable<E>> CsrGraph<E> from(GraphLink<E> graph) {
+		int n = graph.listVertex.length();
+		E[] labels = (E[]) new Comparable<?>[n];
+		VertexDictionary<E> ids = new VertexDictionary<>(n);
+		int[] offsets = new int[n + 1];
+
+		/* Primera pasada: asignar ids densos y contar aristas por vértice */
+		int id = 0;
+		for (Vertex<E> v : graph.listVertex) {
+			labels[id] = v.getData();
+			ids.add(v.getData());
+			offsets[id + 1] = offsets[id] + v.listAdj.length();
+			id++;
+		}
+
+		/* Segunda pasada: volcar destinos y pesos en arreglos contiguos */
+		int[] targets = new int[offsets[n]];
+		int[] weights = new int[offsets[n]];
+		int k = 0;
+		for (Vertex<E> v : graph.listVertex) {
+			for (Edge<E> edge : v.listAdj) {
+				targets[k] = ids.idOf(edge.getrefDest().getData());
+				weights[k] = edge.getWeight();
+				k++;
+			}
+		}
+		return new CsrGraph<>(labels, ids, offsets, targets, weights, graph.isDirected);
+	}
+
+	/**
+	 * Construye el grafo transpuesto (todas las aristas invertidas).
+	 * Conserva los mismos ids de vértices; útil para recorridos hacia atrás.
+	 *
+	 * @return Instantánea CSR con las aristas invertidas
+	 */
+	public CsrGraph<E> transpose() {
+		int n = labels.length;
+		int[] tOffsets = new int[n + 1];
+		for (int k = 0; k < targets.length; k++) {
+			tOffsets[targets[k] + 1]++;
+		}
+		for (int v = 0; v < n; v++) {
+			tOffsets[v + 1] += tOffsets[v];
+		}
+		int[] siguiente = Arrays.copyOf(tOffsets, n);
+		int[] tTargets = new int[targets.length];
+		int[] tWeights = new int[targets.length];
+		for (int v = 0; v < n; v++) {
+			for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+				int pos = siguiente[targets[k]]++;
+				tTargets[pos] = v;
+				tWeights[pos] = weights[k];
+			}
+		}
+		return new CsrGraph<>(labels, ids, tOffsets, tTargets, tWeights, isDirected);
+	}
+
+	public int getVertexCount() {
+		return labels.length;
+	}
+
+	public int degree(int v) {
+		return offsets[v + 1] - offsets[v];
+	}
+
+	public int target(int v, int i) {
+		return targets[offsets[v] + i];
+	}
+
+	public int weight(int v, int i) {
+		return weights[offsets[v] + i];
+	}
+
+	/**
+	 * @return Cantidad de aristas almacenadas (en grafos no dirigidos cada
+	 *         arista aparece en ambos sentidos)
+	 */
+	public int getEdgeCount() {
+		return targets.length;
+	}
+
+	public boolean isDirected() {
+		return isDirected;
+	}
+
+	/**
+	 * @param data Dato del vértice
+	 * @return Id denso del vértice, -1 si no existe
+	 */
+	public int indexOf(E data) {
+		return ids.idOf(data);
+	}
+
+	/**
+	 * @param id Id denso del vértice
+	 * @return Dato del vértice con ese id
+	 */
+	public E labelOf(int id) {
+		return labels[id];
+	}
+
+	/* Datos por id para los resultados que se construyen fuera de la clase */
+	E[] labels() {
+		return labels;
+	}
+
+	/* El diccionario no cambia después de construir el grafo */
+	VertexDictionary<E> ids() {
+		return ids;
+	}
+
+	public int getNodeDegree(E data) {
+		int v = indexOf(data);
+		if (v < 0) return -1;
+		return offsets[v + 1] - offsets[v];
+	}
+
+	/**
+	 * Recorrido BFS desde un vértice, imprimiendo el orden de visita.
+	 *
+	 * @param data Vértice de inicio
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean bfs(E data) {
+		if (indexOf(data) < 0) return false;
+
+		System.out.println("bfs desde " + data + ": ");
+		bfs(data, v -> {
+			System.out.print(v + " ");
+			return true;
+		});
+		System.out.println();
+		return true;
+	}
+
+	/**
+	 * Recorrido BFS que entrega cada vértice al visitor en orden de visita.
+	 *
+	 * @param data Vértice de inicio
+	 * @param visitor Recibe cada vértice; si retorna false el recorrido se detiene
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean bfs(E data, GraphVisitor<E> visitor) {
+		int inicio = indexOf(data);
+		if (inicio < 0) return false;
+
+		GraphViewSearch.bfs(this, inicio, v -> visitor.visit(labels[v]));
+		return true;
+	}
+
+	/**
+	 * Recorrido DFS desde un vértice, imprimiendo el orden de visita.
+	 *
+	 * @param data Vértice de inicio
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean dfs(E data) {
+		if (indexOf(data) < 0) return false;
+
+		System.out.print("DFS desde " + data + ": ");
+		return dfs(data, v -> {
+			System.out.print(v + " ");
+			return true;
+		});
+	}
+
+	/**
+	 * Recorrido DFS que entrega cada vértice al visitor en orden de descubrimiento.
+	 * Usa el motor iterativo, por lo que visita en el mismo orden que la
+	 * versión recursiva sin riesgo de desbordar la pila.
+	 *
+	 * @param data Vértice de inicio
+	 * @param visitor Recibe cada vértice; si retorna false el recorrido se detiene
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean dfs(E data, GraphVisitor<E> visitor) {
+		int inicio = indexOf(data);
+		if (inicio < 0) return false;
+
+		GraphViewSearch.dfs(this, inicio, v -> visitor.visit(labels[v]));
+		return true;
+	}
+
+	/**
+	 * Orden topológico de un grafo dirigido acíclico.
+	 * Se obtiene invirtiendo el post-orden del DFS; una arista hacia un vértice
+	 * todavía en la pila indica un ciclo.
+	 *
+	 * @return Lista con los vértices en orden topológico, null si hay ciclos
+	 */
+	public ListaEnlazada<E> topologicalSort() {
+		int n = labels.length;
+		ListaEnlazada<E> orden = new ListaEnlazada<>();
+		boolean[] enPila = new boolean[n];
+		boolean[] ciclo = new boolean[1];
+
+		new DfsEngine(n).runAll(this, new DfsVisitor() {
+			public boolean preorder(int v, int padre) {
+				enPila[v] = true;
+				return true;
+			}
+
+			public void postorder(int v, int padre) {
+				enPila[v] = false;
+				orden.insertFirst(labels[v]);
+			}
+
+			public void nonTreeEdge(int u, int v) {
+				if (enPila[v]) ciclo[0] = true;
+			}
+		});
+		return ciclo[0] ? null : orden;
+	}
+
+	/**
+	 * Determina si todos los vértices son alcanzables desde el primero.
+	 *
+	 * @return true si el grafo es conexo, false en caso contrario
+	 */
+	public boolean isConexo() {
+		int n = labels.length;
+		if (n == 0) return true;
+
+		return GraphViewSearch.bfs(this, 0, v -> true) == n;
+	}
+
+	/**
+	 * Algoritmo de Dijkstra sobre la representación CSR.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @return Lista con el camino de menor peso (vacía si no existe)
+	 */
+	public ListaEnlazada<E> Dijkstra(E origen, E destino) {
+		ListaEnlazada<E> camino = new ListaEnlazada<>();
+		int s = indexOf(origen);
+		int t = indexOf(destino);
+		if (s < 0 || t < 0) return camino;
+
+		ShortestPathTree<E> arbol = dijkstra(s, t);
+		if (arbol.getDistanceById(t) == Integer.MAX_VALUE) return camino;
+		for (int v = t; v != -1; v = arbol.getParentById(v)) {
+			camino.insertFirst(labels[v]);
+		}
+		return camino;
+	}
+
+	/**
+	 * Algoritmo de Dijkstra uno-a-todos sobre la representación CSR.
+	 *
+	 * @param origen Vértice de inicio
+	 * @return Árbol de caminos mínimos, null si el origen no existe
+	 */
+	public ShortestPathTree<E> Dijkstra(E origen) {
+		int s = indexOf(origen);
+		if (s < 0) return null;
+		return dijkstra(s, -1);
+	}
+
+	/* Uno-a-todos desde un id, para índices que trabajan sobre ids */
+	ShortestPathTree<E> dijkstraById(int s) {
+		return dijkstra(s, -1);
+	}
+
+	/**
+	 * Dijkstra sobre ids densos con el núcleo de GraphViewSearch.
+	 *
+	 * @param s Id del origen
+	 * @param t Id donde detenerse, -1 para calcular todos
+	 */
+	private ShortestPathTree<E> dijkstra(int s, int t) {
+		int[] padre = new int[labels.length];
+		int[] dist = GraphViewSearch.dijkstra(this, s, t, padre);
+		return new ShortestPathTree<>(labels, ids, dist, padre, s);
+	}
+
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int v = 0; v < labels.length; v++) {
+			if (v > 0) sb.append(", ");
+			sb.append(labels[v]).append("-->");
+			for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+				if (k > offsets[v]) sb.append(", ");
+				sb.append(labels[targets[k]]).append("(").append(weights[k]).append(")");
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,284 @@
+package graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caminos mínimos uno-a-todos en paralelo con delta-stepping (Meyer y Sanders).
+ *
+ * Los vértices con distancia tentativa se agrupan en cubetas de ancho delta.
+ * Se procesa la cubeta no vacía de menor índice relajando en paralelo sus
+ * aristas livianas (peso <= delta) hasta que deja de recibir vértices, y luego
+ * una sola vez las pesadas de todos los vértices que pasaron por ella.
+ * Con delta = 1 se comporta como Dijkstra; con delta grande, como Bellman-Ford.
+ *
+ * Distancia y padre se guardan juntos en un long (distancia en la parte alta)
+ * y se actualizan con compare-and-set, así el mínimo y su padre nunca quedan
+ * desparejos aunque varias tareas relajen el mismo vértice.
+ *
+ * Requiere pesos no negativos.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class DeltaStepping<E extends Comparable<E>> {
+	private static final VarHandle ESTADO = MethodHandles.arrayElementVarHandle(long[].class);
+
+	/* Tamaño mínimo de un bloque de trabajo */
+	private static final int GRANO = 1024;
+
+	/* Distancia infinita y sin padre */
+	private static final long INFINITO = ((long) Integer.MAX_VALUE << 32) | 0xFFFFFFFFL;
+
+	private final CsrGraph<E> graph;
+	private final ForkJoinPool pool;
+	private final int pesoMaximo;
+	private int delta;
+
+	public DeltaStepping(CsrGraph<E> graph) {
+		this(graph, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param graph Grafo con pesos no negativos
+	 * @param pool Pool donde se ejecutan las relajaciones de cada fase
+	 */
+	public DeltaStepping(CsrGraph<E> graph, ForkJoinPool pool) {
+		int max = 0;
+		int n = graph.getVertexCount();
+		for (int v = 0; v < n; v++) {
+			for (int i = 0; i < graph.degree(v); i++) {
+				int w = graph.weight(v, i);
+				if (w < 0) throw new IllegalArgumentException("delta-stepping requiere pesos no negativos");
+				if (w > max) max = w;
+			}
+		}
+		this.graph = graph;
+		this.pool = pool;
+		this.pesoMaximo = max;
+		/* Peso máximo sobre grado promedio: pocas aristas livianas por vértice */
+		int gradoPromedio = n == 0 ? 1 : Math.max(1, graph.getEdgeCount() / n);
+		this.delta = Math.max(1, max / gradoPromedio);
+	}
+
+	public int getDelta() {
+		return delta;
+	}
+
+	/**
+	 * @param delta Ancho de cada cubeta (por defecto peso máximo / grado promedio)
+	 */
+	public void setDelta(int delta) {
+		if (delta < 1) throw new IllegalArgumentException("delta debe ser positivo");
+		this.delta = delta;
+	}
+
+	/**
+	 * Calcula las distancias mínimas desde un vértice.
+	 *
+	 * @param origen Vértice de inicio
+	 * @return Árbol de caminos mínimos, null si el origen no existe
+	 */
+	public ShortestPathTree<E> run(E origen) {
+		int s = graph.indexOf(origen);
+		if (s < 0) return null;
+		return run(s);
+	}
+
+	/**
+	 * Calcula las distancias mínimas desde un id de vértice.
+	 *
+	 * @param s Id del vértice de inicio
+	 * @return Árbol de caminos mínimos
+	 */
+	public ShortestPathTree<E> run(int s) {
+		int n = graph.getVertexCount();
+		long[] estado = new long[n];
+		Arrays.fill(estado, INFINITO);
+		estado[s] = 0xFFFFFFFFL;
+
+		/*
+		 * Ninguna distancia tentativa supera a la cubeta actual en más de
+		 * pesoMaximo / delta + 1, así que basta un arreglo circular de cubetas
+		 * (cada una se crea al recibir su primer vértice).
+		 */
+		int numCubetas = pesoMaximo / delta + 2;
+		int[][] cubetas = new int[numCubetas][];
+		int[] tamCubeta = new int[numCubetas];
+		/* Un bit por cubeta no vacía, para saltar las vacías de a 64 */
+		long[] ocupadas = new long[(numCubetas + 63) >>> 6];
+		cubetas[0] = new int[] { s };
+		tamCubeta[0] = 1;
+		ocupadas[0] = 1L;
+		int pendientes = 1;
+
+		/* Marcas por vértice: ronda en que se procesó y cubeta en la que se acumuló */
+		int[] ronda = new int[n];
+		int[] enCubeta = new int[n];
+		int numRonda = 0;
+		int[] procesados = new int[16];
+		int[] salida = new int[16];
+
+		for (int i = 0; pendientes > 0; i++) {
+			int c = i % numCubetas;
+			if (tamCubeta[c] == 0) {
+				/* Avanzar de una vez hasta la siguiente cubeta ocupada (todas están a menos de una vuelta) */
+				int siguiente = siguienteOcupada(ocupadas, c);
+				i += siguiente >= c ? siguiente - c : siguiente + numCubetas - c;
+				c = siguiente;
+			}
+
+			/* Fase liviana: repetir mientras la cubeta reciba vértices */
+			int tamProcesados = 0;
+			while (tamCubeta[c] > 0) {
+				int[] r = cubetas[c];
+				int tamR = tamCubeta[c];
+				pendientes -= tamR;
+				cubetas[c] = null;
+				tamCubeta[c] = 0;
+				ocupadas[c >>> 6] &= ~(1L << c);
+
+				/* Descartar entradas repetidas o desactualizadas */
+				numRonda++;
+				int tam = 0;
+				long aristas = 0;
+				for (int k = 0; k < tamR; k++) {
+					int u = r[k];
+					if (distancia(estado[u]) / delta != i || ronda[u] == numRonda) continue;
+					ronda[u] = numRonda;
+					r[tam++] = u;
+					aristas += graph.degree(u);
+					if (enCubeta[u] != i + 1) {
+						enCubeta[u] = i + 1;
+						if (tamProcesados == procesados.length) procesados = Arrays.copyOf(procesados, tamProcesados * 2);
+						procesados[tamProcesados++] = u;
+					}
+				}
+				if (salida.length < aristas) salida = new int[(int) aristas];
+				int mejorados = relajar(r, tam, true, estado, salida);
+				pendientes += repartir(salida, mejorados, estado, cubetas, tamCubeta, ocupadas);
+			}
+
+			/* Fase pesada: una vez por cada vértice que pasó por la cubeta */
+			long aristas = 0;
+			for (int k = 0; k < tamProcesados; k++) {
+				aristas += graph.degree(procesados[k]);
+			}
+			if (salida.length < aristas) salida = new int[(int) aristas];
+			int mejorados = relajar(procesados, tamProcesados, false, estado, salida);
+			pendientes += repartir(salida, mejorados, estado, cubetas, tamCubeta, ocupadas);
+		}
+
+		int[] dist = new int[n];
+		int[] padre = new int[n];
+		for (int v = 0; v < n; v++) {
+			dist[v] = distancia(estado[v]);
+			padre[v] = (int) estado[v];
+		}
+		return new ShortestPathTree<>(graph.labels(), graph.ids(), dist, padre, s);
+	}
+
+	private static int distancia(long estado) {
+		return (int) (estado >>> 32);
+	}
+
+	/* Relaja en paralelo y deja en salida los vértices cuya distancia mejoró */
+	private int relajar(int[] vertices, int tam, boolean livianas, long[] estado, int[] salida) {
+		AtomicInteger fin = new AtomicInteger();
+		Relajar tarea = new Relajar(vertices, 0, tam, livianas, estado, salida, fin);
+		if (tam > GRANO) {
+			pool.invoke(tarea);
+		} else {
+			tarea.compute();
+		}
+		return fin.get();
+	}
+
+	/* Inserta cada vértice mejorado en la cubeta de su distancia actual */
+	private int repartir(int[] salida, int tam, long[] estado, int[][] cubetas, int[] tamCubeta, long[] ocupadas) {
+		for (int k = 0; k < tam; k++) {
+			int v = salida[k];
+			int c = (distancia(estado[v]) / delta) % cubetas.length;
+			if (cubetas[c] == null) {
+				cubetas[c] = new int[16];
+			} else if (tamCubeta[c] == cubetas[c].length) {
+				cubetas[c] = Arrays.copyOf(cubetas[c], tamCubeta[c] * 2);
+			}
+			cubetas[c][tamCubeta[c]++] = v;
+			ocupadas[c >>> 6] |= 1L << c;
+		}
+		return tam;
+	}
+
+	/* Primera cubeta ocupada desde c en adelante, dando la vuelta al arreglo circular; debe haber alguna */
+	private static int siguienteOcupada(long[] ocupadas, int c) {
+		int palabra = c >>> 6;
+		long bits = ocupadas[palabra] & (-1L << c);
+		while (bits == 0) {
+			palabra = palabra + 1 == ocupadas.length ? 0 : palabra + 1;
+			bits = ocupadas[palabra];
+		}
+		return (palabra << 6) + Long.numberOfTrailingZeros(bits);
+	}
+
+	/* Relajación de las aristas livianas o pesadas de un rango de vértices */
+	@SuppressWarnings("serial")
+	private class Relajar extends RecursiveAction {
+		private final int[] vertices, salida;
+		private final int desde, hasta;
+		private final boolean livianas;
+		private final long[] estado;
+		private final AtomicInteger fin;
+
+		Relajar(int[] vertices, int desde, int hasta, boolean livianas, long[] estado, int[] salida,
+				AtomicInteger fin) {
+			this.vertices = vertices;
+			this.desde = desde;
+			this.hasta = hasta;
+			this.livianas = livianas;
+			this.estado = estado;
+			this.salida = salida;
+			this.fin = fin;
+		}
+
+		@Override
+		protected void compute() {
+			if (hasta - desde > GRANO) {
+				int medio = (desde + hasta) >>> 1;
+				invokeAll(new Relajar(vertices, desde, medio, livianas, estado, salida, fin),
+						new Relajar(vertices, medio, hasta, livianas, estado, salida, fin));
+				return;
+			}
+			/* Acumular en un búfer local y publicarlo con una sola reserva */
+			int[] local = new int[64];
+			int cuenta = 0;
+			for (int k = desde; k < hasta; k++) {
+				int u = vertices[k];
+				long base = distancia((long) ESTADO.getOpaque(estado, u));
+				int grado = graph.degree(u);
+				for (int i = 0; i < grado; i++) {
+					int w = graph.weight(u, i);
+					if ((w <= delta) != livianas) continue;
+					long nueva = base + w;
+					if (nueva >= Integer.MAX_VALUE) continue;
+					int v = graph.target(u, i);
+					long propuesta = (nueva << 32) | (u & 0xFFFFFFFFL);
+					long actual = (long) ESTADO.getOpaque(estado, v);
+					while (nueva < distancia(actual)) {
+						if (ESTADO.compareAndSet(estado, v, actual, propuesta)) {
+							if (cuenta == local.length) local = Arrays.copyOf(local, cuenta * 2);
+							local[cuenta++] = v;
+							break;
+						}
+						actual = (long) ESTADO.getOpaque(estado, v);
+					}
+				}
+			}
+			int pos = fin.getAndAdd(cuenta);
+			System.arraycopy(local, 0, salida, pos, cuenta);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package graph;
+
+/**
+ * Matriz de adyacencia densa int[n][n]. La más rápida de consultar, pero
+ * ocupa 4·n² bytes sin importar cuántas aristas haya.
+ */
+public final class DenseAdjacencyMatrix implements AdjacencyMatrix {
+	private final int[][] rows;
+
+	/**
+	 * @param rows Filas de la matriz; no se copian
+	 */
+	public DenseAdjacencyMatrix(int[][] rows) {
+		for (int[] row : rows) {
+			if (row.length != rows.length) throw new IllegalArgumentException("Matriz no cuadrada");
+		}
+		this.rows = rows;
+	}
+
+	/**
+	 * Desde filas CSR (ver SparseAdjacencyMatrix).
+	 *
+	 * @param weights Peso de cada entrada; null = matriz binaria
+	 */
+	DenseAdjacencyMatrix(int n, int[] offsets, int[] columns, int[] weights) {
+		rows = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+				rows[i][columns[k]] = weights == null ? 1 : weights[k];
+			}
+		}
+	}
+
+	/* Filas sin copiar, para getAdjacencyMatrix() */
+	int[][] rows() {
+		return rows;
+	}
+
+	@Override
+	public int size() {
+		return rows.length;
+	}
+
+	@Override
+	public int get(int row, int column) {
+		return rows[row][column];
+	}
+
+	@Override
+	public int nextNonZero(int row, int from) {
+		int[] fila = rows[row];
+		if (from >= fila.length) return fila.length;
+		while (from < fila.length && fila[from] == 0) from++;
+		return from;
+	}
+
+	@Override
+	public long memoryBytes() {
+		return 4L * rows.length * rows.length;
+	}
+
+	@Override
+	public int[][] toArray() {
+		int[][] copia = new int[rows.length][];
+		for (int i = 0; i < rows.length; i++) {
+			copia[i] = rows[i].clone();
+		}
+		return copia;
+	}
+}
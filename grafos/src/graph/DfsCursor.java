@@ -0,0 +1,28 @@
+package graph;
+
+/**
+ * Cursor sobre la adyacencia de un grafo para DfsEngine.
+ *
+ * Cada marco de la pila del recorrido (0 = raíz) recuerda por dónde va en
+ * los vecinos de su vértice; la implementación guarda ese estado como le
+ * convenga a su representación (un índice, el siguiente nodo de una lista
+ * enlazada, etc.). Los marcos se usan como pila: start(f, v) siempre llega
+ * después de terminar el marco f anterior.
+ */
+public interface DfsCursor {
+	/**
+	 * Posiciona el marco al inicio de los vecinos de v.
+	 *
+	 * @param frame Profundidad del marco en la pila
+	 * @param v Id del vértice del marco
+	 */
+	void start(int frame, int v);
+
+	/**
+	 * Entrega el siguiente vecino del marco y avanza.
+	 *
+	 * @param frame Profundidad del marco en la pila
+	 * @return Id del vecino, -1 si no quedan vecinos
+	 */
+	int next(int frame);
+}
@@ -0,0 +1,127 @@
+package graph;
+
+import ClassAux.BitVisitedSet;
+import ClassAux.VisitedSet;
+
+/**
+ * Motor de DFS iterativo sobre una GraphView o sobre cualquier grafo que
+ * entregue un DfsCursor de su adyacencia.
+ *
+ * Reemplaza la recursión por una pila explícita de marcos (vértice, cursor de
+ * adyacencia), así que la profundidad del grafo no está limitada por la pila
+ * de la JVM. Visita los vértices en el mismo orden que la versión recursiva y
+ * notifica los eventos de pre-orden, post-orden y aristas no arbóreas.
+ * Si el pre-orden pide detenerse, el recorrido termina de inmediato sin
+ * notificar el post-orden de los vértices que quedaban en la pila.
+ * Los arreglos de la pila se reutilizan entre ejecuciones.
+ */
+public class DfsEngine {
+	private int[] pila;
+	private int[] cursor;
+	/* Cursor por índice para GraphView, guardado en el arreglo cursor */
+	private final VistaCursor vista = new VistaCursor();
+
+	public DfsEngine() {
+		this(16);
+	}
+
+	public DfsEngine(int capacity) {
+		pila = new int[Math.max(1, capacity)];
+		cursor = new int[Math.max(1, capacity)];
+	}
+
+	/**
+	 * Recorre en profundidad desde un origen.
+	 * No hace nada si el origen ya estaba marcado como visitado.
+	 *
+	 * @param g Grafo a recorrer
+	 * @param origen Id del vértice de inicio
+	 * @param visitados Conjunto de visitados (se comparte entre ejecuciones de runAll)
+	 * @param visitor Ganchos a notificar
+	 */
+	public void run(GraphView g, int origen, VisitedSet visitados, DfsVisitor visitor) {
+		vista.g = g;
+		run(vista, g.getVertexCount(), origen, visitados, visitor);
+	}
+
+	/**
+	 * Recorre en profundidad desde un origen, pidiendo los vecinos al cursor.
+	 * No hace nada si el origen ya estaba marcado como visitado.
+	 *
+	 * @param adyacencia Cursor sobre la adyacencia del grafo
+	 * @param n Cantidad de vértices (cota de la profundidad)
+	 * @param origen Id del vértice de inicio
+	 * @param visitados Conjunto de visitados
+	 * @param visitor Ganchos a notificar
+	 */
+	public void run(DfsCursor adyacencia, int n, int origen, VisitedSet visitados, DfsVisitor visitor) {
+		ensureCapacity(n);
+		if (!visitados.mark(origen)) return;
+
+		if (!visitor.preorder(origen, -1)) return;
+		int tope = 0;
+		pila[tope] = origen;
+		adyacencia.start(tope++, origen);
+
+		while (tope > 0) {
+			int actual = pila[tope - 1];
+			int vecino = adyacencia.next(tope - 1);
+			if (vecino < 0) {
+				/* Sin vecinos pendientes: retroceder */
+				tope--;
+				visitor.postorder(actual, tope > 0 ? pila[tope - 1] : -1);
+				continue;
+			}
+			if (visitados.mark(vecino)) {
+				if (!visitor.preorder(vecino, actual)) return;
+				pila[tope] = vecino;
+				adyacencia.start(tope++, vecino);
+			} else {
+				visitor.nonTreeEdge(actual, vecino);
+			}
+		}
+	}
+
+	/**
+	 * Recorre todo el grafo, iniciando un DFS desde cada vértice no visitado
+	 * en orden de id.
+	 *
+	 * @param g Grafo a recorrer
+	 * @param visitor Ganchos a notificar
+	 */
+	public void runAll(GraphView g, DfsVisitor visitor) {
+		int n = g.getVertexCount();
+		VisitedSet visitados = new BitVisitedSet(n);
+		for (int v = 0; v < n; v++) {
+			if (!visitados.isMarked(v)) {
+				run(g, v, visitados, visitor);
+			}
+		}
+	}
+
+	private void ensureCapacity(int n) {
+		if (n > pila.length) {
+			pila = new int[n];
+			cursor = new int[n];
+		}
+	}
+
+	/* Índice de la siguiente arista de cada marco, sobre los arreglos del motor */
+	private final class VistaCursor implements DfsCursor {
+		private GraphView g;
+
+		@Override
+		public void start(int frame, int v) {
+			cursor[frame] = 0;
+		}
+
+		@Override
+		public int next(int frame) {
+			int v = pila[frame];
+			int i = cursor[frame];
+			if (i == g.degree(v)) return -1;
+			cursor[frame] = i + 1;
+			return g.target(v, i);
+		}
+	}
+}
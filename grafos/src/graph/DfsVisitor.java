@@ -0,0 +1,36 @@
+package graph;
+
+/**
+ * Ganchos del recorrido DFS iterativo.
+ * Permiten construir sobre el mismo motor algoritmos como orden topológico,
+ * componentes fuertemente conexas o puntos de articulación.
+ */
+public interface DfsVisitor {
+	/**
+	 * Se invoca al descubrir un vértice (pre-orden).
+	 *
+	 * @param v Id del vértice descubierto
+	 * @param parent Id del vértice desde el que se descubrió, -1 si es raíz
+	 * @return true para continuar, false para detener el recorrido
+	 */
+	boolean preorder(int v, int parent);
+
+	/**
+	 * Se invoca al terminar todos los vecinos de un vértice (post-orden).
+	 *
+	 * @param v Id del vértice terminado
+	 * @param parent Id de su padre en el árbol DFS, -1 si es raíz
+	 */
+	default void postorder(int v, int parent) {
+	}
+
+	/**
+	 * Se invoca por cada arista hacia un vértice ya descubierto
+	 * (arista de retroceso, de avance o cruzada).
+	 *
+	 * @param u Id del vértice origen
+	 * @param v Id del vértice destino ya visitado
+	 */
+	default void nonTreeEdge(int u, int v) {
+	}
+}
@@ -0,0 +1,217 @@
+package graph;
+
+import ImpQueue.PriorityQueueIntHeap;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Matriz de distancias muchos-a-muchos: la distancia mínima desde cada origen
+ * hacia cada destino de dos listas dadas.
+ *
+ * Se ejecuta un Dijkstra uno-a-todos por origen, en paralelo por bloques de
+ * orígenes. Cada bloque reserva una sola vez sus arreglos y su cola y los
+ * reutiliza entre orígenes con marcas por búsqueda, así un origen no paga
+ * O(n) para empezar. Cada búsqueda se detiene cuando ya asentó todos los
+ * destinos pedidos.
+ *
+ * El resultado es una matriz plana de int: la fila i (origen i) empieza en
+ * i * columnas. Requiere pesos no negativos.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class DistanceMatrix<E extends Comparable<E>> {
+	/* Orígenes por bloque como mínimo; bajo esto no vale la pena dividir */
+	private static final int GRANO = 4;
+
+	private final E[] sources;
+	private final E[] targets;
+	private final int[] dist;
+
+	private DistanceMatrix(E[] sources, E[] targets, int[] dist) {
+		this.sources = sources;
+		this.targets = targets;
+		this.dist = dist;
+	}
+
+	/**
+	 * @param graph Instantánea CSR con pesos no negativos
+	 * @param sources Orígenes (filas); los que no están en el grafo quedan sin camino
+	 * @param targets Destinos (columnas); los que no están en el grafo quedan sin camino
+	 * @param pool Pool donde se reparten los orígenes
+	 * @return Matriz de distancias origen-destino
+	 * @throws IllegalArgumentException Si orígenes x destinos no cabe en una matriz plana
+	 */
+	public static <E extends Comparable<E>> DistanceMatrix<E> compute(CsrGraph<E> graph, E[] sources, E[] targets,
+			ForkJoinPool pool) {
+		int filas = sources.length, columnas = targets.length;
+		int[] dist = new int[tamaño(filas, columnas)];
+		Arrays.fill(dist, -1);
+
+		/* Destinos como ids; los repetidos se cuentan una sola vez para la parada */
+		int n = graph.getVertexCount();
+		int[] destinos = new int[columnas];
+		boolean[] esDestino = new boolean[n];
+		int distintos = 0;
+		for (int j = 0; j < columnas; j++) {
+			destinos[j] = graph.indexOf(targets[j]);
+			if (destinos[j] >= 0 && !esDestino[destinos[j]]) {
+				esDestino[destinos[j]] = true;
+				distintos++;
+			}
+		}
+		int[] origenes = new int[filas];
+		for (int i = 0; i < filas; i++) {
+			origenes[i] = graph.indexOf(sources[i]);
+		}
+
+		int bloque = Math.max(GRANO, filas / (4 * pool.getParallelism()) + 1);
+		pool.invoke(new Bloque(graph, origenes, destinos, esDestino, distintos, dist, 0, filas, bloque));
+		return new DistanceMatrix<>(sources.clone(), targets.clone(), dist);
+	}
+
+	/* Divide los orígenes hasta el tamaño de bloque; cada hoja reutiliza su estado */
+	@SuppressWarnings("serial")
+	private static class Bloque extends RecursiveAction {
+		private final CsrGraph<?> graph;
+		private final int[] origenes, destinos;
+		private final boolean[] esDestino;
+		private final int distintos;
+		private final int[] dist;
+		private final int desde, hasta, bloque;
+
+		Bloque(CsrGraph<?> graph, int[] origenes, int[] destinos, boolean[] esDestino, int distintos, int[] dist,
+				int desde, int hasta, int bloque) {
+			this.graph = graph;
+			this.origenes = origenes;
+			this.destinos = destinos;
+			this.esDestino = esDestino;
+			this.distintos = distintos;
+			this.dist = dist;
+			this.desde = desde;
+			this.hasta = hasta;
+			this.bloque = bloque;
+		}
+
+		@Override
+		protected void compute() {
+			if (hasta - desde > bloque) {
+				int medio = (desde + hasta) >>> 1;
+				invokeAll(new Bloque(graph, origenes, destinos, esDestino, distintos, dist, desde, medio, bloque),
+						new Bloque(graph, origenes, destinos, esDestino, distintos, dist, medio, hasta, bloque));
+				return;
+			}
+			Busqueda busqueda = new Busqueda(graph);
+			int columnas = destinos.length;
+			for (int i = desde; i < hasta; i++) {
+				if (origenes[i] < 0) continue;
+				busqueda.run(origenes[i], esDestino, distintos);
+				for (int j = 0; j < columnas; j++) {
+					if (destinos[j] >= 0) dist[i * columnas + j] = busqueda.distancia(destinos[j]);
+				}
+			}
+		}
+	}
+
+	/* Estado de Dijkstra reutilizable entre orígenes (una instancia por hoja, no compartida) */
+	private static class Busqueda {
+		private final CsrGraph<?> graph;
+		private final int[] dist;
+		private final int[] alcanzado;
+		private final int[] asentado;
+		private final PriorityQueueIntHeap cola;
+		private int marca;
+
+		Busqueda(CsrGraph<?> graph) {
+			int n = graph.getVertexCount();
+			this.graph = graph;
+			this.dist = new int[n];
+			this.alcanzado = new int[n];
+			this.asentado = new int[n];
+			this.cola = new PriorityQueueIntHeap(n);
+		}
+
+		void run(int s, boolean[] esDestino, int distintos) {
+			cola.clear();
+			if (marca == Integer.MAX_VALUE) {
+				/* Las marcas volverían a repetirse: limpiar una vez */
+				Arrays.fill(alcanzado, 0);
+				Arrays.fill(asentado, 0);
+				marca = 0;
+			}
+			marca++;
+			dist[s] = 0;
+			alcanzado[s] = marca;
+			cola.enqueue(s, 0);
+			int faltan = distintos;
+			while (!cola.isEmpty() && faltan > 0) {
+				int u = cola.dequeue();
+				asentado[u] = marca;
+				if (esDestino[u]) faltan--;
+				for (int i = 0; i < graph.degree(u); i++) {
+					int v = graph.target(u, i);
+					if (asentado[v] == marca) continue;
+					int nueva = dist[u] + graph.weight(u, i);
+					if (alcanzado[v] != marca || nueva < dist[v]) {
+						dist[v] = nueva;
+						alcanzado[v] = marca;
+						cola.updatePriority(v, nueva);
+					}
+				}
+			}
+		}
+
+		/* Solo válido para destinos: todos quedan asentados o inalcanzables */
+		int distancia(int v) {
+			return asentado[v] == marca ? dist[v] : -1;
+		}
+	}
+
+	/* Tamaño de la matriz plana; si cabe en int, también caben los índices i * columnas + j */
+	private static int tamaño(int filas, int columnas) {
+		int total;
+		try {
+			total = Math.multiplyExact(filas, columnas);
+		} catch (ArithmeticException e) {
+			total = Integer.MAX_VALUE;
+		}
+		if (total > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Demasiados orígenes y destinos para una matriz plana: "
+					+ filas + " x " + columnas);
+		}
+		return total;
+	}
+
+	/**
+	 * @param i Fila (posición del origen)
+	 * @param j Columna (posición del destino)
+	 * @return Distancia mínima, -1 si no existe camino
+	 */
+	public int getDistance(int i, int j) {
+		return dist[i * targets.length + j];
+	}
+
+	public int getRowCount() {
+		return sources.length;
+	}
+
+	public int getColumnCount() {
+		return targets.length;
+	}
+
+	public E[] getSources() {
+		return sources.clone();
+	}
+
+	public E[] getTargets() {
+		return targets.clone();
+	}
+
+	/**
+	 * @return Matriz plana (fila i en i * columnas, -1 = sin camino); no debe modificarse
+	 */
+	public int[] getDistances() {
+		return dist;
+	}
+}
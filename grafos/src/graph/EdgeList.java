@@ -0,0 +1,235 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Lista de aristas con ids densos, ordenada por (origen, destino) y sin
+ * duplicados, lista para construir cualquier representación del grafo de una
+ * sola vez: sin las búsquedas de vértices ni la verificación de arista
+ * existente que hace insertEdgeWeight por cada arista.
+ *
+ * En grafos no dirigidos cada arista se guarda una sola vez con
+ * origen &lt;= destino; los constructores la agregan en ambos sentidos. Entre
+ * aristas repetidas se conserva el peso de la primera, igual que al
+ * insertarlas una por una.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class EdgeList<E extends Comparable<E>> {
+	private final VertexDictionary<E> ids;
+	private final int[] origenes;
+	private final int[] destinos;
+	private final int[] pesos;
+	private final int m;
+	private final int leidas;
+	private final boolean isDirected;
+
+	private EdgeList(VertexDictionary<E> ids, int[] origenes, int[] destinos, int[] pesos, int m, int leidas,
+			boolean isDirected) {
+		this.ids = ids;
+		this.origenes = origenes;
+		this.destinos = destinos;
+		this.pesos = pesos;
+		this.m = m;
+		this.leidas = leidas;
+		this.isDirected = isDirected;
+	}
+
+	/**
+	 * Ordena y elimina duplicados. Una pasada de conteo reparte destino y
+	 * peso por origen (estable, O(n + m)); luego cada grupo se ordena por
+	 * destino en un búfer chico, que queda en caché, en lugar de repartir
+	 * las tres columnas dos veces por todo el arreglo. Los arreglos se
+	 * reutilizan; en no dirigidos deben venir con origen &lt;= destino.
+	 */
+	static <E extends Comparable<E>> EdgeList<E> sorted(VertexDictionary<E> ids, int[] origenes, int[] destinos,
+			int[] pesos, int m, boolean isDirected) {
+		int n = ids.size();
+		int[] inicio = new int[n + 1];
+		for (int k = 0; k < m; k++) inicio[origenes[k] + 1]++;
+		int mayor = 0;
+		for (int v = 0; v < n; v++) {
+			mayor = Math.max(mayor, inicio[v + 1]);
+			inicio[v + 1] += inicio[v];
+		}
+		int[] d = new int[m], w = new int[m];
+		int[] siguiente = Arrays.copyOf(inicio, n);
+		for (int k = 0; k < m; k++) {
+			int p = siguiente[origenes[k]]++;
+			d[p] = destinos[k];
+			w[p] = pesos[k];
+		}
+		/* Clave destino << 32 | orden de lectura: la primera de cada grupo repetido es la primera leída */
+		long[] claves = new long[mayor];
+		int unicas = 0;
+		for (int v = 0; v < n; v++) {
+			int desde = inicio[v], grado = inicio[v + 1] - desde;
+			for (int i = 0; i < grado; i++) {
+				claves[i] = (long) d[desde + i] << 32 | i;
+			}
+			Arrays.sort(claves, 0, grado);
+			int anterior = -1;
+			for (int i = 0; i < grado; i++) {
+				int destino = (int) (claves[i] >>> 32);
+				if (destino == anterior) continue;
+				anterior = destino;
+				origenes[unicas] = v;
+				destinos[unicas] = destino;
+				pesos[unicas++] = w[desde + (int) claves[i]];
+			}
+		}
+		return new EdgeList<>(ids, origenes, destinos, pesos, unicas, m, isDirected);
+	}
+
+	public int getVertexCount() {
+		return ids.size();
+	}
+
+	/**
+	 * @return Aristas distintas (en no dirigidos, cada una cuenta una vez)
+	 */
+	public int getEdgeCount() {
+		return m;
+	}
+
+	/**
+	 * @return Aristas leídas antes de eliminar duplicados
+	 */
+	public int getLinesRead() {
+		return leidas;
+	}
+
+	public boolean isDirected() {
+		return isDirected;
+	}
+
+	/**
+	 * @return Etiqueta del id
+	 * @throws IndexOutOfBoundsException si el id no está en 0..getVertexCount()-1
+	 */
+	public E labelOf(int id) {
+		return ids.labelOf(id);
+	}
+
+	/**
+	 * @return Id de la etiqueta, -1 si no aparece en la lista
+	 */
+	public int indexOf(E data) {
+		return ids.idOf(data);
+	}
+
+	public int source(int k) {
+		return origenes[k];
+	}
+
+	public int target(int k) {
+		return destinos[k];
+	}
+
+	public int weight(int k) {
+		return pesos[k];
+	}
+
+	/**
+	 * Instantánea CSR con los ids de la lista.
+	 */
+	@SuppressWarnings("unchecked")
+	public CsrGraph<E> toCsrGraph() {
+		int n = ids.size();
+		E[] labels = (E[]) new Comparable<?>[n];
+		VertexDictionary<E> copia = new VertexDictionary<>(n);
+		for (int v = 0; v < n; v++) {
+			labels[v] = ids.labelOf(v);
+			copia.add(labels[v]);
+		}
+		int[][] adj = adyacencia();
+		return new CsrGraph<>(labels, copia, adj[0], adj[1], adj[2], isDirected);
+	}
+
+	/**
+	 * GraphLink con los vértices en orden de id y cada lista de adyacencia
+	 * ordenada por destino.
+	 */
+	@SuppressWarnings("unchecked")
+	public GraphLink<E> toGraphLink() {
+		int n = ids.size();
+		GraphLink<E> graph = new GraphLink<>(isDirected);
+		Vertex<E>[] vertices = (Vertex<E>[]) new Vertex<?>[Math.max(16, n)];
+		for (int v = 0; v < n; v++) {
+			Vertex<E> vertex = new Vertex<>(ids.labelOf(v));
+			vertex.id = graph.vertexIds.add(vertex.getData());
+			graph.listVertex.insertLast(vertex);
+			vertices[v] = vertex;
+		}
+		int[][] adj = adyacencia();
+		for (int v = 0; v < n; v++) {
+			for (int k = adj[0][v]; k < adj[0][v + 1]; k++) {
+				vertices[v].listAdj.insertLast(new Edge<>(vertices[adj[1][k]], adj[2][k]));
+			}
+		}
+		graph.vertexById = vertices;
+		graph.numVertices = n;
+		graph.modCount = n + adj[1].length;
+		return graph;
+	}
+
+	/**
+	 * GraphListEdge con posiciones iguales a los ids y las aristas en orden
+	 * (origen, destino).
+	 *
+	 * @param weightOf Objeto peso para cada peso entero
+	 */
+	@SuppressWarnings("unchecked")
+	public <W extends Comparable<W>> GraphListEdge<E, W> toGraphListEdge(IntFunction<W> weightOf) {
+		int n = ids.size();
+		E[] labels = (E[]) new Comparable<?>[n];
+		for (int v = 0; v < n; v++) {
+			labels[v] = ids.labelOf(v);
+		}
+		W[] objetos = (W[]) new Comparable<?>[m];
+		for (int k = 0; k < m; k++) {
+			objetos[k] = weightOf.apply(pesos[k]);
+		}
+		GraphListEdge<E, W> graph = new GraphListEdge<>(isDirected);
+		graph.bulkLoad(labels, n, origenes, destinos, objetos, m);
+		return graph;
+	}
+
+	/**
+	 * IntGraph cuyos ids de vértice son los ids de la lista (ver labelOf).
+	 */
+	public IntGraph toIntGraph() {
+		int[][] adj = adyacencia();
+		return IntGraph.fromAdjacency(isDirected, ids.size(), adj[0], adj[1], adj[2]);
+	}
+
+	/* offsets, destinos y pesos por origen; en no dirigidos agrega el sentido inverso */
+	private int[][] adyacencia() {
+		int n = ids.size();
+		int[] offsets = new int[n + 1];
+		for (int k = 0; k < m; k++) {
+			offsets[origenes[k] + 1]++;
+			if (!isDirected && origenes[k] != destinos[k]) offsets[destinos[k] + 1]++;
+		}
+		for (int v = 0; v < n; v++) offsets[v + 1] += offsets[v];
+		int[] siguiente = Arrays.copyOf(offsets, n);
+		int[] targets = new int[offsets[n]];
+		int[] weights = new int[offsets[n]];
+		/* Recorrer en orden mantiene cada adyacencia ordenada por destino */
+		if (!isDirected) {
+			for (int k = 0; k < m; k++) {
+				if (origenes[k] == destinos[k]) continue;
+				int p = siguiente[destinos[k]]++;
+				targets[p] = origenes[k];
+				weights[p] = pesos[k];
+			}
+		}
+		for (int k = 0; k < m; k++) {
+			int p = siguiente[origenes[k]]++;
+			targets[p] = destinos[k];
+			weights[p] = pesos[k];
+		}
+		return new int[][] { offsets, targets, weights };
+	}
+}
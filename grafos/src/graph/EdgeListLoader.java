@@ -0,0 +1,320 @@
+package graph;
+
+import ImpHash.StringPool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Carga listas de aristas en texto ("origen,destino[,peso]" por línea, con
+ * coma o tabulador como separador) en un EdgeList, del que se construye el
+ * grafo de una sola vez.
+ *
+ * El archivo se divide en trozos que se leen en paralelo con
+ * FileChannel.read posicional sobre un búfer propio de cada tarea; cada línea
+ * pertenece al trozo donde empieza. Los campos se leen directamente de los
+ * bytes (sin String.split) y cada tarea asigna ids locales a sus vértices;
+ * al final los ids locales se traducen a ids globales en el orden en que
+ * aparece cada vértice en el archivo.
+ *
+ * Se ignoran las líneas vacías y las que empiezan con '#'. Las aristas sin
+ * peso valen 1.
+ */
+public final class EdgeListLoader {
+	/* Tamaño inicial del búfer de lectura de cada tarea */
+	private static final int BUFER = 1 << 20;
+	/* Tamaño mínimo de un trozo del archivo */
+	private static final long TROZO_MINIMO = 4L << 20;
+
+	private EdgeListLoader() {
+	}
+
+	/**
+	 * Carga el archivo usando ForkJoinPool.commonPool().
+	 */
+	public static <E extends Comparable<E>> EdgeList<E> load(Path archivo, LabelParser<E> parser, boolean isDirected)
+			throws IOException {
+		return load(archivo, parser, isDirected, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param parser Conversión de cada campo de vértice a su etiqueta
+	 * @param isDirected En no dirigidos, u,v y v,u son la misma arista
+	 * @param pool Pool donde se leen los trozos
+	 * @return Aristas ordenadas y sin duplicados (se conserva el primer peso)
+	 * @throws IOException Si no se puede leer el archivo o una línea está mal formada
+	 */
+	public static <E extends Comparable<E>> EdgeList<E> load(Path archivo, LabelParser<E> parser, boolean isDirected,
+			ForkJoinPool pool) throws IOException {
+		Parcial<E>[] parciales;
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			long tamaño = canal.size();
+			long trozo = Math.max(TROZO_MINIMO, tamaño / (4L * pool.getParallelism()) + 1);
+			int cantidad = (int) Math.max(1, (tamaño + trozo - 1) / trozo);
+			parciales = newParciales(cantidad);
+			try {
+				pool.invoke(new Lectura<>(canal, parser, tamaño, trozo, parciales, 0, cantidad));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+
+		/* Traducir ids locales a globales, trozo por trozo en orden de archivo */
+		int aristas = 0;
+		int vertices = 0;
+		for (Parcial<E> p : parciales) {
+			aristas = Math.addExact(aristas, p.m);
+			vertices += p.size();
+		}
+		VertexDictionary<E> ids = new VertexDictionary<>(vertices);
+		int[] origenes = new int[aristas];
+		int[] destinos = new int[aristas];
+		int[] pesos = new int[aristas];
+		int k = 0;
+		for (int t = 0; t < parciales.length; t++) {
+			Parcial<E> p = parciales[t];
+			int[] global = new int[p.size()];
+			for (int local = 0; local < global.length; local++) {
+				E dato = p.etiqueta(local);
+				int id = ids.idOf(dato);
+				global[local] = id >= 0 ? id : ids.add(dato);
+			}
+			for (int i = 0; i < p.m; i++, k++) {
+				int u = global[p.origenes[i]];
+				int v = global[p.destinos[i]];
+				if (!isDirected && u > v) {
+					int aux = u;
+					u = v;
+					v = aux;
+				}
+				origenes[k] = u;
+				destinos[k] = v;
+				pesos[k] = p.pesos[i];
+			}
+			parciales[t] = null;
+		}
+		return EdgeList.sorted(ids, origenes, destinos, pesos, aristas, isDirected);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> Parcial<E>[] newParciales(int cantidad) {
+		return (Parcial<E>[]) new Parcial<?>[cantidad];
+	}
+
+	/*
+	 * Aristas de un trozo con ids locales. Los vértices se buscan por los
+	 * bytes del campo (guardados en un StringPool), así que parser.parse solo
+	 * se llama una vez por cada campo distinto del trozo.
+	 */
+	private static final class Parcial<E> {
+		private final LabelParser<E> parser;
+		private final StringPool claves = new StringPool(1024, 16 * 1024);
+		private Object[] etiquetas = new Object[1024];
+		/* Sondeo lineal: hash << 32 | (id + 1), 0 = vacío; compara el hash sin otro acceso a memoria */
+		private long[] tabla = new long[2048];
+		int[] origenes = new int[1024];
+		int[] destinos = new int[1024];
+		int[] pesos = new int[1024];
+		int m;
+
+		Parcial(LabelParser<E> parser) {
+			this.parser = parser;
+		}
+
+		void agregar(int u, int v, int w) {
+			if (m == origenes.length) {
+				origenes = Arrays.copyOf(origenes, m * 2);
+				destinos = Arrays.copyOf(destinos, m * 2);
+				pesos = Arrays.copyOf(pesos, m * 2);
+			}
+			origenes[m] = u;
+			destinos[m] = v;
+			pesos[m++] = w;
+		}
+
+		int size() {
+			return claves.size();
+		}
+
+		@SuppressWarnings("unchecked")
+		E etiqueta(int id) {
+			return (E) etiquetas[id];
+		}
+
+		/* Id local del campo [desde, hasta), agregándolo si es nuevo */
+		int id(byte[] b, int desde, int hasta) {
+			int h = 0x811C9DC5;
+			for (int i = desde; i < hasta; i++) {
+				h = (h ^ (b[i] & 0xFF)) * 0x01000193;
+			}
+			/* Mezcla final de MurmurHash3: FNV solo propaga hacia los bits altos */
+			h ^= h >>> 16;
+			h *= 0x85EBCA6B;
+			h ^= h >>> 13;
+			h *= 0xC2B2AE35;
+			h ^= h >>> 16;
+			int mascara = tabla.length - 1;
+			int i = h & mascara;
+			for (long casilla; (casilla = tabla[i]) != 0; i = (i + 1) & mascara) {
+				int id = (int) casilla - 1;
+				if ((int) (casilla >>> 32) == h && claves.equalsAt(id, b, desde, hasta)) return id;
+			}
+			E dato = parser.parse(b, desde, hasta);
+			int id = claves.add(b, desde, hasta);
+			if (id == etiquetas.length) etiquetas = Arrays.copyOf(etiquetas, id * 2);
+			etiquetas[id] = dato;
+			tabla[i] = (long) h << 32 | (id + 1);
+			if (2 * (id + 1) > tabla.length) {
+				long[] anterior = tabla;
+				tabla = new long[anterior.length * 2];
+				mascara = tabla.length - 1;
+				for (long casilla : anterior) {
+					if (casilla == 0) continue;
+					int j = (int) (casilla >>> 32) & mascara;
+					while (tabla[j] != 0) j = (j + 1) & mascara;
+					tabla[j] = casilla;
+				}
+			}
+			return id;
+		}
+	}
+
+	/* Divide los trozos del archivo; cada hoja lee un trozo */
+	@SuppressWarnings("serial")
+	private static class Lectura<E> extends RecursiveAction {
+		private final FileChannel canal;
+		private final LabelParser<E> parser;
+		private final long tamaño, trozo;
+		private final Parcial<E>[] parciales;
+		private final int desde, hasta;
+
+		Lectura(FileChannel canal, LabelParser<E> parser, long tamaño, long trozo, Parcial<E>[] parciales, int desde,
+				int hasta) {
+			this.canal = canal;
+			this.parser = parser;
+			this.tamaño = tamaño;
+			this.trozo = trozo;
+			this.parciales = parciales;
+			this.desde = desde;
+			this.hasta = hasta;
+		}
+
+		@Override
+		protected void compute() {
+			if (hasta - desde > 1) {
+				int medio = (desde + hasta) >>> 1;
+				invokeAll(new Lectura<>(canal, parser, tamaño, trozo, parciales, desde, medio),
+						new Lectura<>(canal, parser, tamaño, trozo, parciales, medio, hasta));
+				return;
+			}
+			Parcial<E> parcial = new Parcial<>(parser);
+			try {
+				leer(desde * trozo, Math.min(tamaño, (desde + 1) * trozo), parcial);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			parciales[desde] = parcial;
+		}
+
+		/* Procesa las líneas que empiezan en [inicio, fin), leyendo más allá de fin si hace falta */
+		private void leer(long inicio, long fin, Parcial<E> parcial) throws IOException {
+			byte[] b = new byte[BUFER];
+			long base = inicio;
+			int lleno = 0;
+			boolean saltar = false;
+			if (inicio > 0) {
+				/* Si el trozo no empieza justo después de un salto de línea, la primera línea es del trozo anterior */
+				ByteBuffer previo = ByteBuffer.allocate(1);
+				canal.read(previo, inicio - 1);
+				saltar = previo.get(0) != '\n';
+			}
+			while (true) {
+				int leidos = canal.read(ByteBuffer.wrap(b, lleno, b.length - lleno), base + lleno);
+				boolean eof = leidos < 0;
+				if (!eof) lleno += leidos;
+				int i = 0;
+				if (saltar) {
+					int nl = buscar(b, 0, lleno);
+					if (nl < 0) {
+						if (eof) return;
+						base += lleno;
+						lleno = 0;
+						continue;
+					}
+					i = nl + 1;
+					saltar = false;
+				}
+				while (true) {
+					if (base + i >= fin) return;
+					int nl = buscar(b, i, lleno);
+					if (nl < 0) {
+						if (!eof) break;
+						linea(b, i, lleno, base + i, parcial);
+						return;
+					}
+					linea(b, i, nl, base + i, parcial);
+					i = nl + 1;
+				}
+				/* Mover la línea incompleta al principio; si ocupa todo el búfer, agrandarlo */
+				System.arraycopy(b, i, b, 0, lleno - i);
+				base += i;
+				lleno -= i;
+				if (lleno == b.length) b = Arrays.copyOf(b, b.length * 2);
+			}
+		}
+
+		private static int buscar(byte[] b, int desde, int hasta) {
+			for (int i = desde; i < hasta; i++) {
+				if (b[i] == '\n') return i;
+			}
+			return -1;
+		}
+
+		/* Interpreta una línea [desde, hasta) sin el salto de línea */
+		private void linea(byte[] b, int desde, int hasta, long posicion, Parcial<E> parcial) throws IOException {
+			if (hasta > desde && b[hasta - 1] == '\r') hasta--;
+			desde = saltarEspacios(b, desde, hasta);
+			if (desde == hasta || b[desde] == '#') return;
+			int s1 = separador(b, desde, hasta);
+			int s2 = s1 < hasta ? separador(b, s1 + 1, hasta) : hasta;
+			if (s1 == hasta) throw new IOException("Línea sin destino en el byte " + posicion);
+			try {
+				int u = parcial.id(b, desde, recortar(b, desde, s1));
+				int inicioDestino = saltarEspacios(b, s1 + 1, s2);
+				int v = parcial.id(b, inicioDestino, recortar(b, inicioDestino, s2));
+				int w = 1;
+				if (s2 < hasta) {
+					int inicioPeso = saltarEspacios(b, s2 + 1, hasta);
+					w = LabelParser.parseInt(b, inicioPeso, recortar(b, inicioPeso, hasta));
+				}
+				parcial.agregar(u, v, w);
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Línea mal formada en el byte " + posicion + ": " + e.getMessage(), e);
+			}
+		}
+
+		private static int separador(byte[] b, int desde, int hasta) {
+			for (int i = desde; i < hasta; i++) {
+				if (b[i] == ',' || b[i] == '\t') return i;
+			}
+			return hasta;
+		}
+
+		private static int saltarEspacios(byte[] b, int desde, int hasta) {
+			while (desde < hasta && b[desde] == ' ') desde++;
+			return desde;
+		}
+
+		private static int recortar(byte[] b, int desde, int hasta) {
+			while (hasta > desde && b[hasta - 1] == ' ') hasta--;
+			return hasta;
+		}
+	}
+}
@@ -6,6 +6,10 @@ public class EdgeObj<V, E> implements Comparable<EdgeObj<V, E>> {
     private E weight;
     private int position;
 
+    /* Índice de la arista en las incidencias de cada extremo (ver Incidencias) */
+    int slot1;
+    int slot2;
+
     public EdgeObj(VertexObj<V, E> v1, VertexObj<V, E> v2, E weight, int position) {
         this.endVertex1 = v1;
         this.endVertex2 = v2;
@@ -25,6 +29,15 @@ public class EdgeObj<V, E> implements Comparable<EdgeObj<V, E>> {
         return weight;
     }
 
+    public int getPosition() {
+        return position;
+    }
+
+    /** Reasigna la posición cuando el grafo compacta sus aristas. */
+    void setPosition(int position) {
+        this.position = position;
+    }
+
     @Override
     public int compareTo(EdgeObj<V, E> other) {
         return Integer.compare(this.position, other.position);
@@ -0,0 +1,74 @@
+package graph;
+
+/**
+ * Recibe los eventos de un grafo: vértices y aristas agregados o
+ * eliminados, operaciones rechazadas y resultados de las verificaciones
+ * (isomorfismo, planitud...). Todos los métodos están vacíos por defecto,
+ * así que basta sobrescribir los que interesan.
+ *
+ * Los grafos usan none() mientras no se registre otro: los métodos
+ * modificadores no arman mensajes ni escriben en consola, solo llaman a un
+ * método vacío que el JIT elimina. ConsoleGraphListener reproduce los
+ * mensajes en consola.
+ *
+ * @param <V> Tipo de dato de los vértices
+ */
+public interface GraphEventListener<V> {
+	/** Motivo por el que una operación no modificó el grafo */
+	enum Rejection {
+		/** Algún vértice de la operación era null */
+		NULL_VERTEX,
+		/** Algún vértice de la operación no está en el grafo */
+		UNKNOWN_VERTEX,
+		/** El vértice a insertar ya existía */
+		DUPLICATE_VERTEX,
+		/** La arista a insertar ya existía */
+		DUPLICATE_EDGE,
+		/** La arista a eliminar no existía */
+		UNKNOWN_EDGE
+	}
+
+	/** Propiedad evaluada por una verificación del grafo */
+	enum Property {
+		ISOMORPHIC,
+		PLANAR,
+		SELF_COMPLEMENTARY
+	}
+
+	default void vertexAdded(V vertex) {
+	}
+
+	/**
+	 * @param edgesRemoved Aristas eliminadas junto con el vértice
+	 */
+	default void vertexRemoved(V vertex, int edgesRemoved) {
+	}
+
+	default void edgeAdded(V from, V to) {
+	}
+
+	default void edgeRemoved(V from, V to) {
+	}
+
+	/**
+	 * @param v1 Vértice de la operación (o primer extremo de la arista)
+	 * @param v2 Segundo extremo de la arista, null en operaciones sobre un vértice
+	 */
+	default void rejected(Rejection reason, V v1, V v2) {
+	}
+
+	/**
+	 * @param holds Resultado de la verificación
+	 * @param detail Criterio que decidió el resultado
+	 */
+	default void propertyChecked(Property property, boolean holds, String detail) {
+	}
+
+	/**
+	 * @return Listener que ignora todos los eventos
+	 */
+	static <V> GraphEventListener<V> none() {
+		return new GraphEventListener<V>() {
+		};
+	}
+}
@@ -0,0 +1,406 @@
+package graph;
+
+import ListLinked.ListaEnlazada;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32C;
+
+/**
+ * Archivo binario de grafo con etiquetas, pensado para cargarse sin
+ * reconstruir nada: abrirlo solo lee el encabezado y mapea las secciones
+ * (ver MappedCsrGraph), y las consultas leen directamente del archivo.
+ *
+ * Formato, versión 2 (little-endian):
+ * <pre>
+ *   encabezado (64 bytes):
+ *     int magic "CSRM", int versión, int n, int flags (bit 0 = dirigido,
+ *     bit 1 = con etiquetas), long m, int formato de etiquetas
+ *     (LabelCodec.tag), int capacidad de la tabla, long bytes de etiquetas,
+ *     long CRC32C de todo lo que sigue al encabezado, 16 bytes de relleno
+ *   estructura:  long offsets[n + 1], int targets[m], int weights[m]
+ *   diccionario: long inicio de etiqueta[n + 1], int hash de etiqueta[n],
+ *                int tabla[capacidad] (id + 1, 0 = vacío; sondeo lineal),
+ *                byte etiquetas[...]
+ * </pre>
+ * Solo se aceptan archivos de esta versión.
+ *
+ * La suma de verificación no se comprueba al abrir, porque obligaría a leer
+ * todo el archivo; verifyChecksum() la comprueba cuando se necesite.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class GraphFile<E extends Comparable<E>> {
+	static final int MAGIC = 0x4353524D; // "CSRM"
+	static final int VERSION = 2;
+	static final int CON_ETIQUETAS = 2;
+	private static final int DIRIGIDO = 1;
+
+	private final Path archivo;
+	private final Encabezado enc;
+	private final MappedCsrGraph graph;
+	private final LabelCodec<E> codec;
+	private final MappedRegion inicioEtiqueta;
+	private final MappedRegion hashEtiqueta;
+	private final MappedRegion tabla;
+	private final MappedRegion etiquetas;
+
+	private GraphFile(Path archivo, Encabezado enc, MappedCsrGraph graph, LabelCodec<E> codec,
+			MappedRegion inicioEtiqueta, MappedRegion hashEtiqueta, MappedRegion tabla, MappedRegion etiquetas) {
+		this.archivo = archivo;
+		this.enc = enc;
+		this.graph = graph;
+		this.codec = codec;
+		this.inicioEtiqueta = inicioEtiqueta;
+		this.hashEtiqueta = hashEtiqueta;
+		this.tabla = tabla;
+		this.etiquetas = etiquetas;
+	}
+
+	/**
+	 * Guarda el estado actual de un GraphLink (ids en el orden de sus vértices).
+	 */
+	public static <E extends Comparable<E>> void write(GraphLink<E> graph, LabelCodec<E> codec, Path archivo)
+			throws IOException {
+		CsrGraph<E> csr = graph.freeze();
+		write(csr, csr.isDirected(), csr::labelOf, codec, archivo);
+	}
+
+	/**
+	 * Guarda el estado actual de un GraphListEdge (ids por posición).
+	 *
+	 * @param weightOf Traduce el peso de cada arista a int
+	 */
+	public static <V extends Comparable<V>, W extends Comparable<W>> void write(GraphListEdge<V, W> graph,
+			ToIntFunction<W> weightOf, LabelCodec<V> codec, Path archivo) throws IOException {
+		CsrGraph<V> csr = graph.freeze(weightOf);
+		write(csr, csr.isDirected(), csr::labelOf, codec, archivo);
+	}
+
+	/**
+	 * Guarda cualquier GraphView con sus etiquetas. Solo reserva arreglos de
+	 * tamaño n para el diccionario; las aristas se escriben al recorrerlas.
+	 * No debe reemplazarse un archivo que siga abierto (mapeado).
+	 *
+	 * @param labels Etiqueta de cada id (todas distintas), o null para no guardar diccionario
+	 * @param codec Conversión de etiquetas a bytes (ignorado si labels es null)
+	 */
+	public static <E> void write(GraphView graph, boolean isDirected, IntFunction<E> labels, LabelCodec<E> codec,
+			Path archivo) throws IOException {
+		int n = graph.getVertexCount();
+		long m = 0;
+		for (int v = 0; v < n; v++) {
+			m += graph.degree(v);
+		}
+		Encabezado enc = new Encabezado();
+		enc.version = VERSION;
+		enc.n = n;
+		enc.m = m;
+		enc.flags = isDirected ? DIRIGIDO : 0;
+
+		/* Diccionario: largos y hashes primero, para conocer las posiciones */
+		long[] inicios = null;
+		int[] hashes = null;
+		int[] casillas = null;
+		if (labels != null) {
+			enc.flags |= CON_ETIQUETAS;
+			enc.codec = codec.tag();
+			inicios = new long[n + 1];
+			hashes = new int[n];
+			for (int v = 0; v < n; v++) {
+				byte[] b = codec.encode(labels.apply(v));
+				hashes[v] = hash(b);
+				inicios[v + 1] = inicios[v] + b.length;
+			}
+			int cap = 2;
+			while (cap < 2 * n) cap <<= 1;
+			casillas = new int[cap];
+			for (int v = 0; v < n; v++) {
+				int i = hashes[v] & (cap - 1);
+				while (casillas[i] != 0) i = (i + 1) & (cap - 1);
+				casillas[i] = v + 1;
+			}
+			enc.capacidadTabla = cap;
+			enc.bytesEtiquetas = inicios[n];
+		}
+
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			Salida out = new Salida(canal, Encabezado.TAMAÑO);
+			long acumulado = 0;
+			for (int v = 0; v <= n; v++) {
+				out.putLong(acumulado);
+				if (v < n) acumulado += graph.degree(v);
+			}
+			for (int v = 0; v < n; v++) {
+				for (int i = 0; i < graph.degree(v); i++) {
+					out.putInt(graph.target(v, i));
+				}
+			}
+			for (int v = 0; v < n; v++) {
+				for (int i = 0; i < graph.degree(v); i++) {
+					out.putInt(graph.weight(v, i));
+				}
+			}
+			if (labels != null) {
+				for (long inicio : inicios) {
+					out.putLong(inicio);
+				}
+				for (int h : hashes) {
+					out.putInt(h);
+				}
+				for (int c : casillas) {
+					out.putInt(c);
+				}
+				for (int v = 0; v < n; v++) {
+					out.putBytes(codec.encode(labels.apply(v)));
+				}
+			}
+			out.volcar();
+			enc.checksum = out.crc.getValue();
+			enc.escribir(canal);
+		}
+	}
+
+	/**
+	 * Abre un archivo escrito con write() sin leer su contenido: solo valida
+	 * el encabezado y mapea las secciones.
+	 *
+	 * @param codec Debe ser el mismo formato con el que se escribió
+	 * @throws IOException Si el archivo no es válido, no tiene etiquetas o usa otro formato
+	 */
+	public static <E extends Comparable<E>> GraphFile<E> open(Path archivo, LabelCodec<E> codec) throws IOException {
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			Encabezado enc = Encabezado.leer(canal);
+			if ((enc.flags & CON_ETIQUETAS) == 0) throw new IOException("El archivo no tiene diccionario de vértices");
+			if (enc.codec != codec.tag()) throw new IOException("Formato de etiquetas distinto al del archivo");
+			MappedCsrGraph graph = new MappedCsrGraph(canal, enc);
+			return new GraphFile<>(archivo, enc, graph, codec,
+					MappedRegion.map(canal, enc.inicioEtiquetas(), enc.n + 1L, 3),
+					MappedRegion.map(canal, enc.inicioHashes(), enc.n, 2),
+					MappedRegion.map(canal, enc.inicioTabla(), enc.capacidadTabla, 2),
+					MappedRegion.map(canal, enc.inicioBytes(), enc.bytesEtiquetas, 0));
+		}
+	}
+
+	/**
+	 * Recorre todo el archivo y compara su CRC32C con el del encabezado.
+	 *
+	 * @return true si el contenido no cambió desde que se escribió
+	 */
+	public boolean verifyChecksum() throws IOException {
+		CRC32C crc = new CRC32C();
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20);
+			canal.position(Encabezado.TAMAÑO);
+			while (canal.read(buf) > 0) {
+				buf.flip();
+				crc.update(buf);
+				buf.clear();
+			}
+		}
+		return crc.getValue() == enc.checksum;
+	}
+
+	/**
+	 * @return Estructura del grafo, para DfsEngine, GraphViewSearch, etc.
+	 */
+	public MappedCsrGraph getGraph() {
+		return graph;
+	}
+
+	public int getVertexCount() {
+		return enc.n;
+	}
+
+	/**
+	 * Busca el id de una etiqueta en la tabla del archivo.
+	 *
+	 * @return Id denso, -1 si la etiqueta no existe
+	 */
+	public int indexOf(E data) {
+		if (data == null) return -1;
+		byte[] b = codec.encode(data);
+		int h = hash(b);
+		int mascara = enc.capacidadTabla - 1;
+		for (int i = h & mascara;; i = (i + 1) & mascara) {
+			int casilla = tabla.getInt(i);
+			if (casilla == 0) return -1;
+			int id = casilla - 1;
+			if (hashEtiqueta.getInt(id) == h && iguales(id, b)) return id;
+		}
+	}
+
+	/**
+	 * @return Etiqueta del id (se decodifica en cada llamada)
+	 */
+	public E labelOf(int id) {
+		long inicio = inicioEtiqueta.getLong(id);
+		byte[] b = new byte[(int) (inicioEtiqueta.getLong(id + 1L) - inicio)];
+		etiquetas.getBytes(inicio, b);
+		return codec.decode(b);
+	}
+
+	private boolean iguales(int id, byte[] b) {
+		long inicio = inicioEtiqueta.getLong(id);
+		if (inicioEtiqueta.getLong(id + 1L) - inicio != b.length) return false;
+		for (int i = 0; i < b.length; i++) {
+			if (etiquetas.getByte(inicio + i) != b[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Camino de menor peso leyendo las aristas del archivo.
+	 *
+	 * @return Lista con el camino (vacía si no existe o algún vértice no está)
+	 */
+	public ListaEnlazada<E> Dijkstra(E origen, E destino) {
+		ListaEnlazada<E> camino = new ListaEnlazada<>();
+		int s = indexOf(origen);
+		int t = indexOf(destino);
+		if (s < 0 || t < 0) return camino;
+		for (int v : GraphViewSearch.dijkstraPath(graph, s, t)) {
+			camino.insertLast(labelOf(v));
+		}
+		return camino;
+	}
+
+	/**
+	 * Recorrido BFS que entrega cada etiqueta al visitor en orden de visita.
+	 *
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean bfs(E origen, GraphVisitor<E> visitor) {
+		int s = indexOf(origen);
+		if (s < 0) return false;
+		GraphViewSearch.bfs(graph, s, v -> visitor.visit(labelOf(v)));
+		return true;
+	}
+
+	/* FNV-1a de los bytes de la etiqueta, mezclado para la tabla */
+	private static int hash(byte[] b) {
+		int h = 0x811C9DC5;
+		for (byte x : b) {
+			h = (h ^ (x & 0xFF)) * 0x01000193;
+		}
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/* Escritura con búfer que acumula el CRC32C de todo lo escrito */
+	private static final class Salida {
+		private final FileChannel canal;
+		private final ByteBuffer buf = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+		private final CRC32C crc = new CRC32C();
+
+		Salida(FileChannel canal, long inicio) throws IOException {
+			this.canal = canal;
+			canal.position(inicio);
+		}
+
+		void putInt(int x) throws IOException {
+			if (buf.remaining() < Integer.BYTES) volcar();
+			buf.putInt(x);
+		}
+
+		void putLong(long x) throws IOException {
+			if (buf.remaining() < Long.BYTES) volcar();
+			buf.putLong(x);
+		}
+
+		void putBytes(byte[] b) throws IOException {
+			int escritos = 0;
+			while (escritos < b.length) {
+				if (!buf.hasRemaining()) volcar();
+				int cantidad = Math.min(buf.remaining(), b.length - escritos);
+				buf.put(b, escritos, cantidad);
+				escritos += cantidad;
+			}
+		}
+
+		void volcar() throws IOException {
+			buf.flip();
+			crc.update(buf.duplicate());
+			while (buf.hasRemaining()) {
+				canal.write(buf);
+			}
+			buf.clear();
+		}
+	}
+
+	/* Encabezado del archivo y posiciones de cada sección */
+	static final class Encabezado {
+		static final int TAMAÑO = 64;
+
+		int version, n, flags, codec, capacidadTabla;
+		long m, bytesEtiquetas, checksum;
+
+		static Encabezado leer(FileChannel canal) throws IOException {
+			ByteBuffer b = ByteBuffer.allocate(TAMAÑO).order(ByteOrder.LITTLE_ENDIAN);
+			canal.read(b, 0);
+			b.flip();
+			if (b.remaining() < 8 || b.getInt() != MAGIC) throw new IOException("No es un archivo de grafo CSR");
+			Encabezado enc = new Encabezado();
+			enc.version = b.getInt();
+			if (enc.version != VERSION) throw new IOException("Versión de archivo no soportada");
+			if (b.remaining() < TAMAÑO - 8) throw new IOException("Archivo truncado");
+			enc.n = b.getInt();
+			enc.flags = b.getInt();
+			enc.m = b.getLong();
+			enc.codec = b.getInt();
+			enc.capacidadTabla = b.getInt();
+			enc.bytesEtiquetas = b.getLong();
+			enc.checksum = b.getLong();
+			boolean conEtiquetas = (enc.flags & CON_ETIQUETAS) != 0;
+			if (enc.n < 0 || enc.m < 0 || enc.bytesEtiquetas < 0
+					|| (conEtiquetas && Integer.bitCount(enc.capacidadTabla) != 1)) {
+				throw new IOException("Encabezado inválido");
+			}
+			long fin = conEtiquetas ? enc.inicioBytes() + enc.bytesEtiquetas : enc.inicioEtiquetas();
+			if (canal.size() < fin) throw new IOException("Archivo truncado");
+			return enc;
+		}
+
+		void escribir(FileChannel canal) throws IOException {
+			ByteBuffer b = ByteBuffer.allocate(TAMAÑO).order(ByteOrder.LITTLE_ENDIAN);
+			b.putInt(MAGIC).putInt(version).putInt(n).putInt(flags).putLong(m);
+			b.putInt(codec).putInt(capacidadTabla).putLong(bytesEtiquetas).putLong(checksum);
+			b.position(TAMAÑO);
+			b.flip();
+			while (b.hasRemaining()) {
+				canal.write(b, b.position());
+			}
+		}
+
+		long inicioTargets() {
+			return TAMAÑO + 8L * (n + 1);
+		}
+
+		long inicioWeights() {
+			return inicioTargets() + 4L * m;
+		}
+
+		long inicioEtiquetas() {
+			return inicioWeights() + 4L * m;
+		}
+
+		long inicioHashes() {
+			return inicioEtiquetas() + 8L * (n + 1);
+		}
+
+		long inicioTabla() {
+			return inicioHashes() + 4L * n;
+		}
+
+		long inicioBytes() {
+			return inicioTabla() + 4L * capacidadTabla;
+		}
+	}
+}
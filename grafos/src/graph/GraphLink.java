@@ -1,19 +1,48 @@
 package graph;
 
-import ClassAux.ParDistancia;
-import ClassAux.ParPadre;
-import ImpQueue.PriorityQueueLinkSort;
+import ClassAux.EpochVisitedSet;
+import ClassAux.VisitedSet;
+import ImpQueue.PriorityQueueIntHeap;
 import ImpQueue.QueueLink;
 import ImpStack.StackLink;
 import ListLinked.ListaEnlazada;
+import ListLinked.Node;
+import graph.GraphEventListener.Rejection;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class GraphLink<E extends Comparable<E>> {
 	protected ListaEnlazada<Vertex<E>> listVertex;
 	
+	/* Diccionario dato -> id denso, sincronizado con listVertex y vertexById */
+	protected VertexDictionary<E> vertexIds;
+	
+	/* Vértices por id denso: vertexById[v.id] == v para 0 <= id < numVertices */
+	protected Vertex<E>[] vertexById;
+	protected int numVertices;
+	
+	/* Conjunto de visitados reutilizable entre recorridos (null mientras está prestado); se presta de forma atómica entre hilos */
+	private final AtomicReference<VisitedSet> visitedCache = new AtomicReference<>();
+	
+	/* Contador de modificaciones: cambia cada vez que el grafo cambia de verdad */
+	protected long modCount;
+	
 	boolean isDirected;
+	
+	/* Hasta este n las matrices exportadas son densas sin comparar memoria */
+	private static final int MATRIZ_CHICA = 128;
+	
+	/* Destino de los eventos; por defecto los ignora */
+	private GraphEventListener<E> listener = GraphEventListener.none();
 
+	@SuppressWarnings("unchecked")
 	public GraphLink(boolean isDirected) {
 		listVertex = new ListaEnlazada<Vertex<E>>();
+		vertexIds = new VertexDictionary<>();
+		vertexById = (Vertex<E>[]) new Vertex<?>[16];
+		numVertices = 0;
 		this.isDirected = isDirected;
 	}
 	
@@ -25,15 +54,29 @@ public class GraphLink<E extends Comparable<E>> {
 	 */
 	public void insertVertex(E data) {
 		/* Validación: no permitir datos null */
-		if (data == null) return;
+		if (data == null) {
+			listener.rejected(Rejection.NULL_VERTEX, null, null);
+			return;
+		}
+		
+		/* Insertar solo si no existe un vértice con el mismo dato (O(1) esperado) */
+		if (vertexIds.idOf(data) >= 0) {
+			listener.rejected(Rejection.DUPLICATE_VERTEX, data, null);
+			return;
+		}
 		
 		/* Crear nuevo vértice con el dato proporcionado */
 		Vertex<E> newVertex = new Vertex<>(data);
+		listVertex.insertLast(newVertex);
 		
-		/* Insertar solo si no existe un vértice con el mismo dato */
-		if (!listVertex.contains(newVertex)) {
-			listVertex.insertLast(newVertex);
+		/* El diccionario asigna el siguiente id denso */
+		if (numVertices == vertexById.length) {
+			vertexById = Arrays.copyOf(vertexById, numVertices * 2);
 		}
+		newVertex.id = vertexIds.add(data);
+		vertexById[numVertices++] = newVertex;
+		modCount++;
+		listener.vertexAdded(data);
 	}
 
 	/**
@@ -68,23 +111,38 @@ public class GraphLink<E extends Comparable<E>> {
 	        throw new IllegalArgumentException("El vértice de destino " + verDes + " no existe.");
 	    }
 
-		/* Crear arista desde origen hacia destino con el peso dado */
-		Edge<E> objarista = new Edge<>(destino, weight);
-
-		/* Insertar arista solo si no existe previamente */
-		if (!origen.listAdj.contains(objarista)) {
-			origen.listAdj.insertLast(objarista);
+		long antes = modCount;
+		/* Insertar arista desde origen hacia destino solo si no existe previamente */
+		if (!hasEdgeTo(origen, destino)) {
+			origen.listAdj.insertLast(new Edge<>(destino, weight));
+			modCount++;
 		}
 
 		/* Si es grafo no dirigido, agregar la arista inversa */
-		if (!isDirected) {
-			Edge<E> objarista2 = new Edge<>(origen, weight);
-			if (!destino.listAdj.contains(objarista2)) {
-				destino.listAdj.insertLast(objarista2);
-			}
+		if (!isDirected && !hasEdgeTo(destino, origen)) {
+			destino.listAdj.insertLast(new Edge<>(origen, weight));
+			modCount++;
+		}
+
+		if (modCount != antes) {
+			listener.edgeAdded(verOri, verDes);
+		} else {
+			listener.rejected(Rejection.DUPLICATE_EDGE, verOri, verDes);
 		}
 	}	
 
+	/**
+	 * Verifica si el origen ya tiene una arista hacia el destino.
+	 * Compara por vértice destino; contains() de la lista usa compareTo,
+	 * que en Edge compara pesos y confundiría aristas distintas de igual peso.
+	 */
+	private boolean hasEdgeTo(Vertex<E> origen, Vertex<E> destino) {
+		for (Node<Edge<E>> nodo = origen.listAdj.getFirst(); nodo != null; nodo = nodo.getNext()) {
+			if (nodo.getData().getrefDest() == destino) return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Busca un vértice por su dato y retorna el objeto vértice completo.
 	 * 
@@ -92,15 +150,9 @@ public class GraphLink<E extends Comparable<E>> {
 	 * @return Objeto Vertex si se encuentra, null en caso contrario
 	 */
 	private Vertex<E> searchVertexObject(E data) {
-		/* Recorrer todos los vértices del grafo */
-		for (Vertex<E> v : listVertex) {
-			/* Comparar usando equals() para encontrar coincidencia */
-			if (v.getData().equals(data)) {
-				return v;
-			}
-		}
-		/* Retornar null si no se encuentra el vértice */
-		return null;
+		/* Consulta directa al diccionario de vértices, O(1) esperado */
+		int id = vertexIds.idOf(data);
+		return id < 0 ? null : vertexById[id];
 	}
 
 	/**
@@ -154,77 +206,157 @@ public class GraphLink<E extends Comparable<E>> {
 
 		/* Validar existencia de ambos vértices */
 		if (origen == null || destino == null) {
-			System.out.println("uno o ambos vertices no exiten");
+			listener.rejected(Rejection.UNKNOWN_VERTEX, verOri, verDes);
 			return;
 		}
 
+		long antes = modCount;
 		/* Eliminar arista desde origen hacia destino */
-		origen.listAdj.remove(new Edge<>(destino));
+		if (origen.listAdj.remove(new Edge<>(destino))) modCount++;
 		
 		/* Si es grafo no dirigido, eliminar también la arista inversa */
-		if (!isDirected) {
-			destino.listAdj.remove(new Edge<>(origen));
+		if (!isDirected && destino.listAdj.remove(new Edge<>(origen))) {
+			modCount++;
+		}
+
+		if (modCount != antes) {
+			listener.edgeRemoved(verOri, verDes);
+		} else {
+			listener.rejected(Rejection.UNKNOWN_EDGE, verOri, verDes);
 		}
 	}
 
 	public boolean removeVertex(E verOri) {
 	    Vertex<E> obj = searchVertexObject(verOri);
-	    if (obj == null) return false;
+	    if (obj == null) {
+	        listener.rejected(Rejection.UNKNOWN_VERTEX, verOri, null);
+	        return false;
+	    }
 
-	    // Limpiar todas las aristas del vértice eliminado
-	    obj.listAdj.destroyList();
+	    // Aristas que se eliminan: las salientes (en no dirigidos, todas) más las entrantes
+	    int aristas = obj.listAdj.length();
 
 	    // Eliminar referencias desde otros vértices
-	    for (Vertex<E> v : listVertex) {
-	        if (!v.equals(obj)) {
-	            v.listAdj.remove(new Edge<>(obj));
+	    if (isDirected) {
+	        // Las aristas entrantes pueden venir de cualquier vértice
+	        for (Vertex<E> v : listVertex) {
+	            if (v != obj && v.listAdj.remove(new Edge<>(obj))) {
+	                aristas++;
+	            }
 	        }
+	    } else {
+	        // En grafo no dirigido solo los vecinos apuntan de vuelta
+	        for (Edge<E> edge : obj.listAdj) {
+	            Vertex<E> vecino = edge.getrefDest();
+	            if (vecino != obj) {
+	                vecino.listAdj.remove(new Edge<>(obj));
+	            }
+	        }
+	    }
+
+	    // Limpiar todas las aristas del vértice eliminado
+	    obj.listAdj.destroyList();
+
+	    // Mantener ids densos: el último vértice ocupa el id liberado (igual que en el diccionario)
+	    Vertex<E> ultimo = vertexById[--numVertices];
+	    vertexById[obj.id] = ultimo;
+	    ultimo.id = obj.id;
+	    vertexById[numVertices] = null;
+
+	    vertexIds.remove(verOri);
+	    modCount++;
+	    boolean removed = listVertex.remove(obj);
+	    if (removed) {
+	        listener.vertexRemoved(verOri, aristas);
 	    }
+	    return removed;
+	}
 
-	    return listVertex.remove(obj);
+	/**
+	 * Registra quién recibe los eventos del grafo (vértices y aristas
+	 * agregados o eliminados, operaciones rechazadas).
+	 * 
+	 * @param listener Destino de los eventos; null vuelve a ignorarlos
+	 */
+	public void setEventListener(GraphEventListener<E> listener) {
+		this.listener = listener == null ? GraphEventListener.none() : listener;
+	}
+
+	/**
+	 * Versión del grafo: cambia con cada inserción o eliminación efectiva de
+	 * vértices o aristas. Dos lecturas iguales garantizan que el grafo no
+	 * cambió entre ellas, lo que permite invalidar resultados guardados.
+	 * 
+	 * @return Contador de modificaciones
+	 */
+	public long getVersion() {
+		return modCount;
 	}
 	/**
 	 * Realiza recorrido DFS profundidad desde un vértice dado.
-	 * Implementación recursiva que visita en profundidad.
+	 * Implementación iterativa con pila explícita que visita en profundidad
+	 * en el mismo orden que la versión recursiva.
 	 * 
 	 * @param data Vértice desde donde iniciar el recorrido
 	 * @return true si se realizó el recorrido, false si el vértice no existe
 	 */
 	public boolean dfs(E data) {
+		if (!searchVertex(data)) return false;
+
+		System.out.print("DFS desde " + data + ": ");
+		
+		/* Recorrer imprimiendo cada vértice al descubrirlo */
+		return dfs(data, v -> {
+			System.out.print(v + " ");
+			return true;
+		});
+	}
+
+	/**
+	 * Recorrido DFS que entrega cada vértice al visitor en orden de descubrimiento.
+	 * No imprime nada ni crea objetos por vértice visitado.
+	 * 
+	 * @param data Vértice desde donde iniciar el recorrido
+	 * @param visitor Recibe cada vértice; si retorna false el recorrido se detiene
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean dfs(E data, GraphVisitor<E> visitor) {
 		/* Buscar vértice de inicio */
 		Vertex<E> verInicio = searchVertexObject(data);
 		if (verInicio == null) return false;
 
-		/* Inicializar lista de vértices visitados */
-		ListaEnlazada<Vertex<E>> visitados = new ListaEnlazada<>();
-		
-		System.out.print("DFS desde " + data + ": ");
-		
-		/* Llamar al método recursivo auxiliar */
-		dfsRecursivo(verInicio, visitados);
+		/* Inicializar conjunto de vértices visitados */
+		VisitedSet visitados = takeVisitedSet();
+		new DfsEngine(numVertices).run(new CursorAdyacencia(numVertices), numVertices, verInicio.id, visitados,
+				(v, padre) -> visitor.visit(vertexById[v].getData()));
+		releaseVisitedSet(visitados);
 		return true;
 	}
 
 	/**
-	 * Marca el vértice actual como visitado y recurre en sus vecinos no visitados.
-	 * 
-	 * @param verActual Vértice siendo procesado actualmente
-	 * @param visitados Lista de vértices ya visitados
+	 * Cursor de DfsEngine sobre las listas de adyacencia: cada marco guarda el
+	 * siguiente nodo por revisar, así que cada vértice retoma sus vecinos donde
+	 * los dejó, como en la recursión.
 	 */
-	private void dfsRecursivo(Vertex<E> verActual, ListaEnlazada<Vertex<E>> visitados) {
-		/* Marcar vértice actual como visitado */
-		visitados.insertLast(verActual);
-		System.out.print(verActual.getData() + " ");
+	private final class CursorAdyacencia implements DfsCursor {
+		private final Node<Edge<E>>[] nodos;
 
-		/* Recorrer todos los vecinos del vértice actual */
-		for (Edge<E> edge : verActual.listAdj) {
-			Vertex<E> vecino = edge.getrefDest();
-			
-			/* Recurrir solo en vecinos no visitados 
-			 * */
-			if (!visitados.contains(vecino)) {
-				dfsRecursivo(vecino, visitados);
-			}
+		@SuppressWarnings("unchecked")
+		CursorAdyacencia(int n) {
+			nodos = (Node<Edge<E>>[]) new Node<?>[n];
+		}
+
+		@Override
+		public void start(int frame, int v) {
+			nodos[frame] = vertexById[v].listAdj.getFirst();
+		}
+
+		@Override
+		public int next(int frame) {
+			Node<Edge<E>> nodo = nodos[frame];
+			if (nodo == null) return -1;
+			nodos[frame] = nodo.getNext();
+			return nodo.getData().getrefDest().id;
 		}
 	}
 
@@ -236,43 +368,53 @@ public class GraphLink<E extends Comparable<E>> {
 	 * @return true si se realizó el recorrido, false si el vértice no existe
 	 */
 	public boolean bfs(E data) {
+		if (!searchVertex(data)) return false;
+
+		System.out.println("bfs desde " + data + ": ");
+		bfs(data, v -> {
+			System.out.print(v + " ");
+			return true;
+		});
+		System.out.println();
+		return true;
+	}
+
+	/**
+	 * Recorrido BFS que entrega cada vértice al visitor en orden de visita.
+	 * La cola es un arreglo de ids y las listas de adyacencia se recorren por
+	 * sus nodos, así que no se crean objetos por vértice visitado.
+	 * 
+	 * @param data Vértice desde donde iniciar el recorrido
+	 * @param visitor Recibe cada vértice; si retorna false el recorrido se detiene
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean bfs(E data, GraphVisitor<E> visitor) {
 		Vertex<E> inicio = searchVertexObject(data);
 		if (inicio == null) return false;
 
 		/* Inicializar estructuras auxiliares */
-		ListaEnlazada<Vertex<E>> visitados = new ListaEnlazada<>();
-		QueueLink<Vertex<E>> cola = new QueueLink<>();
+		VisitedSet visitados = takeVisitedSet();
+		int[] cola = new int[numVertices];
+		int cabeza = 0, fin = 0;
 		
 		/* Agregar vértice inicial a cola y marcarlo como visitado */
-		cola.enqueue(inicio);
-		visitados.insertLast(inicio);
+		cola[fin++] = inicio.id;
+		visitados.mark(inicio.id);
 
-		System.out.println("bfs desde " + data + ": ");
+		/* Procesar cola hasta que esté vacía o el visitor pida detenerse */
+		while (cabeza < fin) {
+			Vertex<E> actual = vertexById[cola[cabeza++]];
+			if (!visitor.visit(actual.getData())) break;
 
-		/* Procesar cola hasta que esté vacía */
-		while (!cola.isEmpty()) {
-			Vertex<E> actual = null;
-			try {
-				/* Extraer siguiente vértice de la cola */
-				actual = cola.dequeue();
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
-			
-			System.out.print(actual.getData() + " ");
-
-			/* Procesar todos los vecinos del vértice actual */
-			for (Edge<E> edge : actual.listAdj) {
-				Vertex<E> vecino = edge.getrefDest();
-				
-				/* Agregar vecinos no visitados a la cola */
-				if (!visitados.contains(vecino)) {
-					cola.enqueue(vecino);
-					visitados.insertLast(vecino);
+			/* Agregar vecinos no visitados a la cola */
+			for (Node<Edge<E>> nodo = actual.listAdj.getFirst(); nodo != null; nodo = nodo.getNext()) {
+				Vertex<E> vecino = nodo.getData().getrefDest();
+				if (visitados.mark(vecino.id)) {
+					cola[fin++] = vecino.id;
 				}
 			}
 		}
-		System.out.println();
+		releaseVisitedSet(visitados);
 		return true;
 	}
 
@@ -292,65 +434,42 @@ public class GraphLink<E extends Comparable<E>> {
 		/* Retornar lista vacía si algún vértice no existe */
 		if (verOrigen == null || verDestino == null) return new ListaEnlazada<>();
 
-		/* Inicializar estructuras para BFS con seguimiento de padres */
-		ListaEnlazada<Vertex<E>> visitados = new ListaEnlazada<>();
-		QueueLink<Vertex<E>> cola = new QueueLink<>();
-		ListaEnlazada<ParPadre<E>> padres = new ListaEnlazada<>();
-
-		/* Configurar estado inicial */
-		cola.enqueue(verOrigen);
-		visitados.insertLast(verOrigen);
-		padres.insertLast(new ParPadre<>(origen, null)); /* El origen no tiene padre */
+		/* BFS sobre ids: cola y padres en arreglos, sin pares (hijo, padre) por vértice */
+		VisitedSet visitados = takeVisitedSet();
+		int[] cola = new int[numVertices];
+		int[] padre = new int[numVertices];
+		int cabeza = 0, fin = 0;
+		cola[fin++] = verOrigen.id;
+		visitados.mark(verOrigen.id);
+		padre[verOrigen.id] = -1; /* El origen no tiene padre */
 
 		boolean encontrado = false;
 
 		/* Ejecutar BFS hasta encontrar destino o agotar posibilidades */
-		while (!cola.isEmpty() && !encontrado) {
-			Vertex<E> actual = null;
-			try {
-				actual = cola.dequeue();
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
-
-			/* Verificar si llegamos al destino */
-			if (actual.getData().equals(destino)) {
+		while (cabeza < fin) {
+			int actual = cola[cabeza++];
+			if (actual == verDestino.id) {
 				encontrado = true;
 				break;
 			}
 
-			/* Procesar vecinos del vértice actual */
-			for (Edge<E> edge : actual.listAdj) {
-				Vertex<E> vecino = edge.getrefDest();
-				
-				/* Agregar vecinos no visitados y registrar su padre */
-				if (!visitados.contains(vecino)) {
-					cola.enqueue(vecino);
-					visitados.insertLast(vecino);
-					padres.insertLast(new ParPadre<>(vecino.getData(), actual.getData()));
+			/* Agregar vecinos no visitados y registrar su padre */
+			for (Node<Edge<E>> nodo = vertexById[actual].listAdj.getFirst(); nodo != null; nodo = nodo.getNext()) {
+				int vecino = nodo.getData().getrefDest().id;
+				if (visitados.mark(vecino)) {
+					padre[vecino] = actual;
+					cola[fin++] = vecino;
 				}
 			}
 		}
 
-		/* Reconstruir camino desde destino hacia origen usando padres */
-		ListaEnlazada<E> camino = new ListaEnlazada<>();
+		releaseVisitedSet(visitados);
 
+		/* Reconstruir camino desde destino hacia origen siguiendo los padres */
+		ListaEnlazada<E> camino = new ListaEnlazada<>();
 		if (encontrado) {
-			E actual = destino;
-
-			/* Seguir cadena de padres hasta llegar al origen (padre = null) */
-			while (actual != null) {
-				camino.insertFirst(actual); /* Insertar al inicio para orden correcto */
-				
-				/* Buscar padre del vértice actual */
-				E padre = null;
-				for (ParPadre<E> par : padres) {
-					if (par.getHijo().equals(actual)) {
-						padre = par.getPadre();
-						break;
-					}
-				}
-				actual = padre;
+			for (int v = verDestino.id; v != -1; v = padre[v]) {
+				camino.insertFirst(vertexById[v].getData()); /* Insertar al inicio para orden correcto */
 			}
 		}
 		return camino;
@@ -380,11 +499,11 @@ public class GraphLink<E extends Comparable<E>> {
 
 		/* Iniciar BFS desde el primer vértice */
 		Vertex<E> inicio = listVertex.getFirst().getData();
-		ListaEnlazada<Vertex<E>> visitados = new ListaEnlazada<>();
+		VisitedSet visitados = takeVisitedSet();
 		QueueLink<Vertex<E>> cola = new QueueLink<>();
 
 		cola.enqueue(inicio);
-		visitados.insertLast(inicio);
+		visitados.mark(inicio.id);
 
 		/* Ejecutar BFS para alcanzar todos los vértices posibles */
 		while (!cola.isEmpty()) {
@@ -398,123 +517,147 @@ public class GraphLink<E extends Comparable<E>> {
 			/* Agregar vecinos no visitados */
 			for (Edge<E> edge : actual.listAdj) {
 				Vertex<E> vecino = edge.getrefDest();
-				if (!visitados.contains(vecino)) {
+				if (visitados.mark(vecino.id)) {
 					cola.enqueue(vecino);
-					visitados.insertLast(vecino);
 				}
 			}
 		}
 		
 		/* El grafo es conexo si se visitaron todos los vértices */
-		return visitados.length() == listVertex.length();
+		boolean conexo = visitados.count() == numVertices;
+		releaseVisitedSet(visitados);
+		return conexo;
 	}
 
 	/**
 	 * Algoritmo de Dijkstra para encontrar el camino de menor peso.
 	 * Encuentra el camino con peso mínimo entre dos vértices.
+	 * Se detiene en cuanto el destino queda definitivo.
 	 * 
 	 * @param origen Vértice de inicio
 	 * @param destino Vértice de destino
 	 * @return Pila con el camino de menor peso (vacía si no existe)
 	 */
 	public StackLink<E> Dijkstra(E origen, E destino) {
-	    /* Inicializar estructura de distancias para todos los vértices */
-	    ListaEnlazada<ParDistancia<E>> distancias = new ListaEnlazada<>();
-	    PriorityQueueLinkSort<Vertex<E>, Integer> colaPrioridad = new PriorityQueueLinkSort<>();
-	    
-	    for (Vertex<E> v : listVertex) {
-	        if (v.getData().equals(origen)) {
-	            /* Distancia del origen a sí mismo es 0 */
-	            distancias.insertLast(new ParDistancia<>(v.getData(), 0, null));
-	            colaPrioridad.enqueue(v, 0);
-	        } else {
-	            /* Distancia inicial infinita para otros vértices */
-	            distancias.insertLast(new ParDistancia<>(v.getData(), Integer.MAX_VALUE, null));
-	        }
-	    }
-	    
-	    ListaEnlazada<Vertex<E>> visitados = new ListaEnlazada<>();
-	    
-	    /* Procesar vértices en orden de distancia creciente */
-	    while (!colaPrioridad.isEmpty()) {
-	    	//sacamos vertice con menor prioridad
-	        Vertex<E> actual = null;
-	        try {
-	            actual = colaPrioridad.dequeue();
-	        } catch (Exception e) {
-	            e.printStackTrace();
-	        }
-	        
-	        //si marca como visitado se agrega a la lista
-	        if (visitados.contains(actual)) continue;
-	        visitados.insertLast(actual);
-	        
-	        /* si es vertice actual es el destino, sale */
-	        if (actual.getData().equals(destino)) break;
-	        
-	        /* Obtener distancia actual del vértice procesado */
-	        int distanciaActual = 0;
-	        for (ParDistancia<E> pd : distancias) {
-	            if (pd.getVertice().equals(actual.getData())) {
-	                distanciaActual = pd.getDistancia();
-	                break;
-	            }
-	        }
-	        
-	        /* Relajar aristas: actualizar distancias de vecinos si se encuentra mejor camino */
-	        for (Edge<E> edge : actual.listAdj) {
-	            Vertex<E> vecino = edge.getrefDest();
-	            if (visitados.contains(vecino)) continue; // Saltar si ya visitado
-	            
-	            /* Calcular nueva distancia a través del vértice actual */
-	            int nuevaDistancia = distanciaActual + edge.getWeight();
-	            
-	            /* Actualizar si la nueva distancia es mejor */
-	            for (ParDistancia<E> pd : distancias) {
-	                if (pd.getVertice().equals(vecino.getData())) {
-	                    if (nuevaDistancia < pd.getDistancia()) {
-	                        pd.setDistancia(nuevaDistancia);
-	                        pd.setPadre(actual.getData());
-	                        /* Usar updatePriority para actualizar la cola */
-	                        colaPrioridad.updatePriority(vecino, nuevaDistancia);
-	                    }
-	                    break;
-	                }
-	            }
-	        }
-	    }
-	    
-	    /* Reconstruir camino usando la información de padres */
-	    StackLink<E> camino = new StackLink<>();
-	    boolean existeCamino = false;
-	    
-	    /* Verificar si existe camino al destino */
-	    for (ParDistancia<E> pd : distancias) {
-	        if (pd.getVertice().equals(destino) && pd.getDistancia() != Integer.MAX_VALUE) {
-	            existeCamino = true;
-	            break;
-	        }
-	    }
-	    
-	    /* Construir camino siguiendo cadena de padres */
-	    if (existeCamino) {
-	        E actual = destino;
-	        while (actual != null) {
-	            camino.push(actual); /* Usar pila para obtener orden correcto */
-	            
-	            /* Buscar padre del vértice actual */
-	            E padre = null;
-	            for (ParDistancia<E> pd : distancias) {
-	                if (pd.getVertice().equals(actual)) {
-	                    padre = pd.getPadre();
-	                    break;
-	                }
-	            }
-	            actual = padre;
-	        }
-	    }
-	    return camino;
+		Vertex<E> verOrigen = searchVertexObject(origen);
+		Vertex<E> verDestino = searchVertexObject(destino);
+		StackLink<E> camino = new StackLink<>();
+		if (verOrigen == null || verDestino == null) return camino;
+		
+		int[] dist = new int[numVertices];
+		int[] padre = new int[numVertices];
+		dijkstra(verOrigen, verDestino.id, dist, padre);
+		
+		/* Reconstruir desde el destino siguiendo los padres, sin armar el árbol completo */
+		if (dist[verDestino.id] == Integer.MAX_VALUE) return camino;
+		for (int v = verDestino.id; v != -1; v = padre[v]) {
+			camino.push(vertexById[v].getData()); /* Usar pila para obtener orden correcto */
+		}
+		return camino;
 	}
+
+	/**
+	 * Algoritmo de Dijkstra uno-a-todos.
+	 * Calcula en una sola ejecución el camino mínimo desde el origen hacia
+	 * todos los vértices, para consultar varios destinos sin repetir el cálculo.
+	 * 
+	 * @param origen Vértice de inicio
+	 * @return Árbol de caminos mínimos, null si el origen no existe
+	 */
+	public ShortestPathTree<E> Dijkstra(E origen) {
+		Vertex<E> verOrigen = searchVertexObject(origen);
+		if (verOrigen == null) return null;
+		
+		int n = numVertices;
+		int[] dist = new int[n];
+		int[] padre = new int[n];
+		dijkstra(verOrigen, -1, dist, padre);
+		
+		/* El árbol guarda su propia copia de los datos por id */
+		@SuppressWarnings("unchecked")
+		E[] datos = (E[]) new Comparable<?>[n];
+		for (int i = 0; i < n; i++) {
+			datos[i] = vertexById[i].getData();
+		}
+		return new ShortestPathTree<>(datos, dist, padre, verOrigen.id);
+	}
+
+	/**
+	 * Núcleo de Dijkstra sobre ids densos.
+	 * Las distancias y padres viven en arreglos indexados por id, por lo que
+	 * leer o actualizar el estado de un vértice cuesta O(1).
+	 * 
+	 * @param origen Vértice de inicio
+	 * @param destino Id del vértice donde detenerse, -1 para calcular todos
+	 * @param dist Recibe la distancia desde el origen por id (Integer.MAX_VALUE si no se alcanza)
+	 * @param padre Recibe el padre en el árbol por id (-1 para el origen y los no alcanzados)
+	 */
+	private void dijkstra(Vertex<E> origen, int destino, int[] dist, int[] padre) {
+		int n = numVertices;
+		VisitedSet visitados = takeVisitedSet();
+		
+		/* Distancia inicial infinita y sin padre para todos los vértices */
+		for (int i = 0; i < n; i++) {
+			dist[i] = Integer.MAX_VALUE;
+			padre[i] = -1;
+		}
+		/* Distancia del origen a sí mismo es 0 */
+		dist[origen.id] = 0;
+		
+		PriorityQueueIntHeap colaPrioridad = new PriorityQueueIntHeap(n);
+		colaPrioridad.enqueue(origen.id, 0);
+		
+		/* Procesar vértices en orden de distancia creciente */
+		while (!colaPrioridad.isEmpty()) {
+			//sacamos vertice con menor prioridad, cada id sale una sola vez
+			int actual = colaPrioridad.dequeue();
+			visitados.mark(actual);
+			
+			/* si es vertice actual es el destino, sale */
+			if (actual == destino) break;
+			
+			/* Relajar aristas: actualizar distancias de vecinos si se encuentra mejor camino */
+			int distanciaActual = dist[actual];
+			for (Edge<E> edge : vertexById[actual].listAdj) {
+				int vecino = edge.getrefDest().id;
+				if (visitados.isMarked(vecino)) continue; // Saltar si ya visitado
+				
+				int nuevaDistancia = distanciaActual + edge.getWeight();
+				if (nuevaDistancia < dist[vecino]) {
+					dist[vecino] = nuevaDistancia;
+					padre[vecino] = actual;
+					colaPrioridad.updatePriority(vecino, nuevaDistancia);
+				}
+			}
+		}
+		releaseVisitedSet(visitados);
+	}
+
+	/**
+	 * Entrega el conjunto de visitados reutilizable, ya limpio y con capacidad
+	 * para todos los ids actuales. Si está prestado (recorrido anidado u otro
+	 * hilo), crea otro.
+	 */
+	private VisitedSet takeVisitedSet() {
+		VisitedSet visitados = visitedCache.getAndSet(null);
+		if (visitados == null) {
+			return new EpochVisitedSet(numVertices);
+		}
+		visitados.reset(numVertices);
+		return visitados;
+	}
+
+	/* Devuelve el conjunto de visitados para el siguiente recorrido; si ya hay otro guardado, se descarta */
+	private void releaseVisitedSet(VisitedSet visitados) {
+		visitedCache.compareAndSet(null, visitados);
+	}
+
+	/* Id denso actual del vértice, -1 si no existe */
+	private int indexOf(E data) {
+		Vertex<E> v = searchVertexObject(data);
+		return v == null ? -1 : v.id;
+	}
+
 	/**
 	 * Calcula el grado de un nodo específico
 	 * El grado es la cantidad de aristas conectadas al nodo
@@ -731,79 +874,102 @@ public class GraphLink<E extends Comparable<E>> {
 	/**
 	 * Obtiene la matriz de adyacencia del grafo como array bidimensional de enteros.
 	 * En la matriz: 0 = no hay arista, peso = hay arista con ese peso
+	 * Ocupa 4·n² bytes; para grafos grandes usar exportAdjacencyMatrix().
 	 * 
 	 * @return Matriz de adyacencia como int[][]
 	 */
 	public int[][] getAdjacencyMatrix() {
-	    int n = listVertex.length();
-	    int[][] matrix = new int[n][n];
-	    
-	    // Crear array de vértices para mapeo directo por índice
-	    E[] vertexArray = (E[]) new Comparable[n];
-	    int index = 0;
-	    for (Vertex<E> vertex : listVertex) {
-	        vertexArray[index++] = vertex.getData();
-	    }
-	    
-	    // Llenar la matriz
-	    for (int i = 0; i < n; i++) {
-	        E vertexData = vertexArray[i];
-	        Vertex<E> vertex = searchVertexObject(vertexData);
-	        
-	        // Recorrer las aristas del vértice actual
-	        for (Edge<E> edge : vertex.listAdj) {
-	            E destData = edge.getrefDest().getData();
-	            
-	            // Encontrar índice del vértice destino
-	            for (int j = 0; j < n; j++) {
-	                if (vertexArray[j].equals(destData)) {
-	                    matrix[i][j] = edge.getWeight();
-	                    break;
-	                }
-	            }
-	        }
-	    }
-	    
-	    return matrix;
+		int[][] filas = filasMatriz();
+		return new DenseAdjacencyMatrix(numVertices, filas[0], filas[1], filas[2]).rows();
 	}
 
 	/**
 	 * Obtiene la matriz de adyacencia binaria del grafo.
 	 * En la matriz: 0 = no hay arista, 1 = hay arista (sin considerar peso)
+	 * Ocupa 4·n² bytes; para grafos grandes usar exportBinaryAdjacencyMatrix().
 	 * 
 	 * @return Matriz de adyacencia binaria como int[][]
 	 */
 	public int[][] getBinaryAdjacencyMatrix() {
-	    int n = listVertex.length();
-	    int[][] matrix = new int[n][n];
-	    
-	    // Crear array de vértices para mapeo directo por índice
-	    E[] vertexArray = (E[]) new Comparable[n];
-	    int index = 0;
-	    for (Vertex<E> vertex : listVertex) {
-	        vertexArray[index++] = vertex.getData();
-	    }
-	    
-	    // Llenar la matriz
-	    for (int i = 0; i < n; i++) {
-	        E vertexData = vertexArray[i];
-	        Vertex<E> vertex = searchVertexObject(vertexData);
-	        
-	        // Recorrer las aristas del vértice actual
-	        for (Edge<E> edge : vertex.listAdj) {
-	            E destData = edge.getrefDest().getData();
-	            
-	            // Encontrar índice del vértice destino
-	            for (int j = 0; j < n; j++) {
-	                if (vertexArray[j].equals(destData)) {
-	                    matrix[i][j] = 1; // Solo marca presencia, no peso
-	                    break;
-	                }
-	            }
-	        }
-	    }
-	    
-	    return matrix;
+		int[][] filas = filasMatriz();
+		return new DenseAdjacencyMatrix(numVertices, filas[0], filas[1], null).rows();
+	}
+
+	/**
+	 * Matriz de adyacencia con pesos en el orden de getVertexOrder(), en la
+	 * representación que ocupa menos según la densidad: densa int[n][n] si el
+	 * grafo es chico o denso, CSR dispersa en otro caso.
+	 * 
+	 * @return Matriz de adyacencia (0 = no hay arista)
+	 */
+	public AdjacencyMatrix exportAdjacencyMatrix() {
+		int n = numVertices;
+		int[][] filas = filasMatriz();
+		long densa = 4L * n * n;
+		long dispersa = 4L * (n + 1) + 8L * filas[1].length;
+		/* La densa es más rápida de consultar: se prefiere mientras no ocupe más del doble */
+		if (n <= MATRIZ_CHICA || densa <= 2 * dispersa) {
+			return new DenseAdjacencyMatrix(n, filas[0], filas[1], filas[2]);
+		}
+		return new SparseAdjacencyMatrix(n, filas[0], filas[1], filas[2]);
+	}
+
+	/**
+	 * Matriz de adyacencia binaria en el orden de getVertexOrder(): un bitset
+	 * de n²/8 bytes si el grafo es chico o denso, CSR dispersa en otro caso.
+	 * 
+	 * @return Matriz binaria (0 = no hay arista, 1 = hay arista)
+	 */
+	public AdjacencyMatrix exportBinaryAdjacencyMatrix() {
+		int n = numVertices;
+		int[][] filas = filasMatriz();
+		long bits = 8L * n * ((n + 63) >>> 6);
+		long dispersa = 4L * (n + 1) + 4L * filas[1].length;
+		if (BitsetAdjacencyMatrix.fits(n) && (n <= MATRIZ_CHICA || bits <= 2 * dispersa)) {
+			return new BitsetAdjacencyMatrix(n, filas[0], filas[1]);
+		}
+		return new SparseAdjacencyMatrix(n, filas[0], filas[1], null);
+	}
+
+	/*
+	 * Filas de la matriz en el orden de getVertexOrder(), en formato CSR:
+	 * offsets, columnas ordenadas y pesos. O(n + m log grado) en lugar de
+	 * buscar la columna de cada arista entre todos los vértices.
+	 */
+	@SuppressWarnings("unchecked")
+	private int[][] filasMatriz() {
+		int n = numVertices;
+		/* Fila de cada id: el orden de la matriz es el de listVertex, no el de los ids */
+		int[] fila = new int[n];
+		Vertex<E>[] porFila = (Vertex<E>[]) new Vertex<?>[n];
+		int i = 0;
+		for (Vertex<E> vertex : listVertex) {
+			fila[vertex.id] = i;
+			porFila[i++] = vertex;
+		}
+		int[] offsets = new int[n + 1];
+		int mayor = 0;
+		for (i = 0; i < n; i++) {
+			int grado = porFila[i].listAdj.length();
+			offsets[i + 1] = offsets[i] + grado;
+			mayor = Math.max(mayor, grado);
+		}
+		int[] columnas = new int[offsets[n]];
+		int[] pesos = new int[offsets[n]];
+		/* Clave columna << 32 | peso: ordenar la fila ordena las columnas */
+		long[] claves = new long[mayor];
+		for (i = 0; i < n; i++) {
+			int k = 0;
+			for (Edge<E> edge : porFila[i].listAdj) {
+				claves[k++] = (long) fila[edge.getrefDest().id] << 32 | (edge.getWeight() & 0xFFFFFFFFL);
+			}
+			Arrays.sort(claves, 0, k);
+			for (int j = 0; j < k; j++) {
+				columnas[offsets[i] + j] = (int) (claves[j] >>> 32);
+				pesos[offsets[i] + j] = (int) claves[j];
+			}
+		}
+		return new int[][] { offsets, columnas, pesos };
 	}
 
 	/**
@@ -827,33 +993,7 @@ public class GraphLink<E extends Comparable<E>> {
 	 * Incluye etiquetas de filas y columnas para mejor legibilidad.
 	 */
 	public void printAdjacencyMatrix() {
-	    int[][] matrix = getAdjacencyMatrix();
-	    E[] order = getVertexOrder();
-	    int n = matrix.length;
-	    
-	    if (n == 0) {
-	        System.out.println("El grafo está vacío");
-	        return;
-	    }
-	    
-	    System.out.println("\n=== MATRIZ DE ADYACENCIA (con pesos) ===");
-	    
-	    // Imprimir encabezado de columnas
-	    System.out.print("     ");
-	    for (int j = 0; j < n; j++) {
-	        System.out.printf("%4s", order[j]);
-	    }
-	    System.out.println();
-	    
-	    // Imprimir filas con etiquetas
-	    for (int i = 0; i < n; i++) {
-	        System.out.printf("%3s: ", order[i]);
-	        for (int j = 0; j < n; j++) {
-	            System.out.printf("%4d", matrix[i][j]);
-	        }
-	        System.out.println();
-	    }
-	    System.out.println();
+		printMatrix(exportAdjacencyMatrix(), "MATRIZ DE ADYACENCIA (con pesos)", 4);
 	}
 
 	/**
@@ -861,33 +1001,36 @@ public class GraphLink<E extends Comparable<E>> {
 	 * Solo muestra 0s y 1s, ignorando los pesos.
 	 */
 	public void printBinaryAdjacencyMatrix() {
-	    int[][] matrix = getBinaryAdjacencyMatrix();
-	    E[] order = getVertexOrder();
-	    int n = matrix.length;
-	    
-	    if (n == 0) {
-	        System.out.println("El grafo está vacío");
-	        return;
-	    }
-	    
-	    System.out.println("\n=== MATRIZ DE ADYACENCIA BINARIA ===");
-	    
-	    // Imprimir encabezado de columnas
-	    System.out.print("     ");
-	    for (int j = 0; j < n; j++) {
-	        System.out.printf("%3s", order[j]);
-	    }
-	    System.out.println();
-	    
-	    // Imprimir filas con etiquetas
-	    for (int i = 0; i < n; i++) {
-	        System.out.printf("%3s: ", order[i]);
-	        for (int j = 0; j < n; j++) {
-	            System.out.printf("%3d", matrix[i][j]);
-	        }
-	        System.out.println();
-	    }
-	    System.out.println();
+		printMatrix(exportBinaryAdjacencyMatrix(), "MATRIZ DE ADYACENCIA BINARIA", 3);
+	}
+
+	/**
+	 * Imprime cualquier matriz del grafo fila por fila, sin armar la matriz
+	 * densa ni todo el texto en memoria.
+	 * 
+	 * @param matrix Matriz en el orden de getVertexOrder()
+	 * @param title Título del encabezado
+	 * @param ancho Ancho de cada columna
+	 */
+	public void printMatrix(AdjacencyMatrix matrix, String title, int ancho) {
+		E[] order = getVertexOrder();
+		int n = matrix.size();
+
+		if (n == 0) {
+			System.out.println("El grafo está vacío");
+			return;
+		}
+
+		System.out.println("\n=== " + title + " ===");
+		StringBuilder sb = new StringBuilder();
+		encabezadoMatriz(sb, order, ancho);
+		System.out.print(sb);
+		for (int i = 0; i < n; i++) {
+			sb.setLength(0);
+			filaMatriz(sb, matrix, order, i, ancho);
+			System.out.print(sb);
+		}
+		System.out.println();
 	}
 
 	/**
@@ -898,33 +1041,57 @@ public class GraphLink<E extends Comparable<E>> {
 	 * @return String con la matriz formateada
 	 */
 	public String adjacencyMatrixToString(boolean includePesos) {
-	    int[][] matrix = includePesos ? getAdjacencyMatrix() : getBinaryAdjacencyMatrix();
-	    E[] order = getVertexOrder();
-	    int n = matrix.length;
-	    
-	    if (n == 0) return "Grafo vacío";
-	    
-	    StringBuilder sb = new StringBuilder();
-	    String title = includePesos ? "MATRIZ DE ADYACENCIA (con pesos)" : "MATRIZ DE ADYACENCIA BINARIA";
-	    sb.append("=== ").append(title).append(" ===\n");
-	    
-	    // Encabezado de columnas
-	    sb.append("     ");
-	    for (int j = 0; j < n; j++) {
-	        sb.append(String.format(includePesos ? "%4s" : "%3s", order[j]));
-	    }
-	    sb.append("\n");
-	    
-	    // Filas con datos
-	    for (int i = 0; i < n; i++) {
-	        sb.append(String.format("%3s: ", order[i]));
-	        for (int j = 0; j < n; j++) {
-	            sb.append(String.format(includePesos ? "%4d" : "%3d", matrix[i][j]));
-	        }
-	        sb.append("\n");
-	    }
-	    
-	    return sb.toString();
+		AdjacencyMatrix matrix = includePesos ? exportAdjacencyMatrix() : exportBinaryAdjacencyMatrix();
+		E[] order = getVertexOrder();
+		int n = matrix.size();
+
+		if (n == 0) return "Grafo vacío";
+
+		int ancho = includePesos ? 4 : 3;
+		StringBuilder sb = new StringBuilder();
+		String title = includePesos ? "MATRIZ DE ADYACENCIA (con pesos)" : "MATRIZ DE ADYACENCIA BINARIA";
+		sb.append("=== ").append(title).append(" ===\n");
+		encabezadoMatriz(sb, order, ancho);
+		for (int i = 0; i < n; i++) {
+			filaMatriz(sb, matrix, order, i, ancho);
+		}
+		return sb.toString();
+	}
+
+	/* Etiquetas de columnas, alineadas a la derecha */
+	private static <E> void encabezadoMatriz(StringBuilder sb, E[] order, int ancho) {
+		sb.append("     ");
+		for (E dato : order) {
+			alinear(sb, String.valueOf(dato), ancho);
+		}
+		sb.append('\n');
+	}
+
+	/* Una fila con su etiqueta; las celdas vacías se saltan con nextNonZero */
+	private static <E> void filaMatriz(StringBuilder sb, AdjacencyMatrix matrix, E[] order, int i, int ancho) {
+		int n = matrix.size();
+		alinear(sb, String.valueOf(order[i]), 3);
+		sb.append(": ");
+		int j = 0;
+		while (j < n) {
+			int siguiente = matrix.nextNonZero(i, j);
+			for (; j < siguiente; j++) {
+				alinear(sb, "0", ancho);
+			}
+			if (j < n) {
+				alinear(sb, Integer.toString(matrix.get(i, j)), ancho);
+				j++;
+			}
+		}
+		sb.append('\n');
+	}
+
+	/* Equivale a String.format("%" + ancho + "s", texto) */
+	private static void alinear(StringBuilder sb, String texto, int ancho) {
+		for (int k = texto.length(); k < ancho; k++) {
+			sb.append(' ');
+		}
+		sb.append(texto);
 	}
 
 	/**
@@ -936,7 +1103,7 @@ public class GraphLink<E extends Comparable<E>> {
 	 * @return true si son adyacentes, false en caso contrario
 	 */
 	public boolean areAdjacentMatrix(E vertex1, E vertex2) {
-	    int[][] matrix = getBinaryAdjacencyMatrix();
+	    AdjacencyMatrix matrix = exportBinaryAdjacencyMatrix();
 	    E[] order = getVertexOrder();
 	    
 	    int index1 = -1, index2 = -1;
@@ -951,7 +1118,7 @@ public class GraphLink<E extends Comparable<E>> {
 	    
 	    // Para grafo dirigido: verificar solo una dirección
 	    // Para grafo no dirigido: la matriz es simétrica
-	    return matrix[index1][index2] == 1;
+	    return matrix.contains(index1, index2);
 	}
 
 	/**
@@ -962,7 +1129,7 @@ public class GraphLink<E extends Comparable<E>> {
 	 * @return Peso de la arista, 0 si no existe, -1 si algún vértice no existe
 	 */
 	public int getEdgeWeightMatrix(E vertex1, E vertex2) {
-	    int[][] matrix = getAdjacencyMatrix();
+	    AdjacencyMatrix matrix = exportAdjacencyMatrix();
 	    E[] order = getVertexOrder();
 	    
 	    int index1 = -1, index2 = -1;
@@ -975,9 +1142,41 @@ public class GraphLink<E extends Comparable<E>> {
 	    
 	    if (index1 == -1 || index2 == -1) return -1;
 	    
-	    return matrix[index1][index2];
+	    return matrix.get(index1, index2);
 	}
 	
+	/**
+	 * Congela el grafo en una instantánea CSR inmutable.
+	 * Útil para algoritmos de solo lectura (BFS, DFS, conexidad, Dijkstra)
+	 * que se benefician de arreglos contiguos en lugar de nodos enlazados.
+	 * 
+	 * @return Instantánea CSR del estado actual del grafo
+	 */
+	public CsrGraph<E> freeze() {
+		return CsrGraph.from(this);
+	}
+
+	/**
+	 * Caminos mínimos entre todos los pares (Floyd–Warshall por bloques en paralelo).
+	 * 
+	 * @return Matrices de distancias y siguientes saltos sobre el estado actual
+	 */
+	public AllPairsShortestPaths<E> allPairsShortestPaths() {
+		return AllPairsShortestPaths.from(freeze(), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Distancias mínimas desde cada origen hacia cada destino, con un Dijkstra
+	 * por origen repartido en paralelo (ver DistanceMatrix).
+	 * 
+	 * @param sources Orígenes (filas de la matriz)
+	 * @param targets Destinos (columnas de la matriz)
+	 * @return Matriz plana de distancias sobre el estado actual
+	 */
+	public DistanceMatrix<E> distanceMatrix(E[] sources, E[] targets) {
+		return DistanceMatrix.compute(freeze(), sources, targets, ForkJoinPool.commonPool());
+	}
+
 	/**
 	 * Retorna representación en cadena de todos los vértices del grafo.
 	 * Delega a la implementación toString() de la lista de vértices.
@@ -1,8 +1,21 @@
 package graph;
 
+import ClassAux.EpochVisitedSet;
+import ClassAux.VisitedSet;
+import ImpHash.HashIndex;
+import ImpHash.LongHashIndex;
 import ImpQueue.Queue;
 import ImpQueue.QueueLink;
 import ListLinked.ListaEnlazada;
+import graph.GraphEventListener.Property;
+import graph.GraphEventListener.Rejection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
 /**
  * Soporta tanto grafos dirigidos como no dirigidos.
  * 
@@ -10,15 +23,40 @@ import ListLinked.ListaEnlazada;
  * @param <E> Tipo de dato para el peso de las aristas (debe ser comparable)
  */
 public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
+    /** Filas mínimas por tarea al recorrer una matriz de adyacencia */
+    private static final int FILAS_POR_TAREA = 64;
+    
 	/** Lista de todos los vértices del grafo */
     private ListaEnlazada<VertexObj<V, E>> secVertex;
     
-    /** Lista de todas las aristas del grafo */
-    private ListaEnlazada<EdgeObj<V, E>> secEdge;
+    /** Diccionario valor -> vértice, sincronizado con secVertex */
+    private HashIndex<V, VertexObj<V, E>> vertexIndex;
+    
+    /** Vértices por posición: las posiciones son ids densos 0..n-1 */
+    private VertexObj<V, E>[] vertexByPosition;
+    
+    /**
+     * Conjunto de visitados reutilizable entre recorridos (null mientras está
+     * en uso). Se presta de forma atómica para que las consultas concurrentes
+     * no lo compartan.
+     */
+    private final AtomicReference<VisitedSet> visitedCache = new AtomicReference<>();
+    
+    /** Aristas por posición: las posiciones son ids densos 0..numEdges-1 */
+    private EdgeObj<V, E>[] edgeByPosition;
+    
+    /** Cantidad de aristas del grafo */
+    private int numEdges;
+    
+    /** Aristas por par de posiciones de sus extremos, sincronizado con edgeByPosition */
+    private LongHashIndex<EdgeObj<V, E>> edgeIndex;
     
     /** Indica si el grafo es dirigido (true) o no dirigido (false) */
     private boolean isDirected;
     
+    /** Destino de los eventos; por defecto los ignora */
+    private GraphEventListener<V> listener = GraphEventListener.none();
+    
     /**
      * Constructor por defecto que crea un grafo no dirigido vacío.
      */
@@ -33,7 +71,10 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      */
     public GraphListEdge(boolean isDirected) {
         this.secVertex = new ListaEnlazada<>();
-        this.secEdge = new ListaEnlazada<>();
+        this.vertexIndex = new HashIndex<>();
+        this.vertexByPosition = newVertexArray(16);
+        this.edgeByPosition = newEdgeArray(16);
+        this.edgeIndex = new LongHashIndex<>();
         this.isDirected = isDirected;
     }
     
@@ -45,17 +86,24 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      */
     public boolean insertVertex(V v) {
         if (v == null) {
-            System.out.println("Error: No se puede insertar un vértice null");
+            listener.rejected(Rejection.NULL_VERTEX, null, null);
             return false;
         }
         
         if (!searchVertex(v)) {
-            secVertex.insertLast(new VertexObj<>(v, secVertex.length()));
-            System.out.println("Vértice '" + v + "' insertado correctamente");
+            int position = vertexIndex.size();
+            VertexObj<V, E> vertex = new VertexObj<>(v, position);
+            secVertex.insertLast(vertex);
+            vertexIndex.put(v, vertex);
+            if (position == vertexByPosition.length) {
+                vertexByPosition = Arrays.copyOf(vertexByPosition, position * 2);
+            }
+            vertexByPosition[position] = vertex;
+            listener.vertexAdded(v);
             return true;
         }
         
-        System.out.println("Advertencia: El vértice '" + v + "' ya existe");
+        listener.rejected(Rejection.DUPLICATE_VERTEX, v, null);
         return false;
     }
     
@@ -82,7 +130,7 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      */
     public boolean insertEdgeWeight(V v1, V v2, E weight) {
         if (v1 == null || v2 == null) {
-            System.out.println("Error: Los vértices no pueden ser null");
+            listener.rejected(Rejection.NULL_VERTEX, v1, v2);
             return false;
         }
         
@@ -90,18 +138,23 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
         VertexObj<V, E> vert2 = getVertex(v2);
 
         if (vert1 == null || vert2 == null) {
-            System.out.println("Error: Uno o ambos vértices no existen en el grafo");
+            listener.rejected(Rejection.UNKNOWN_VERTEX, v1, v2);
             return false;
         }
         
-        if (searchEdge(v1, v2)) {
-            System.out.println("Advertencia: La arista entre '" + v1 + "' y '" + v2 + "' ya existe");
+        if (findEdge(vert1, vert2) != null) {
+            listener.rejected(Rejection.DUPLICATE_EDGE, v1, v2);
             return false;
         }
 
-        secEdge.insertLast(new EdgeObj<>(vert1, vert2, weight, secEdge.length()));
-        String direction = isDirected ? " -> " : " - ";
-        System.out.println("Arista '" + v1 + direction + v2 + "' insertada correctamente");
+        EdgeObj<V, E> edge = new EdgeObj<>(vert1, vert2, weight, numEdges);
+        if (numEdges == edgeByPosition.length) {
+            edgeByPosition = Arrays.copyOf(edgeByPosition, numEdges * 2);
+        }
+        edgeByPosition[numEdges++] = edge;
+        edgeIndex.putIfAbsent(clave(vert1, vert2), edge);
+        link(edge);
+        listener.edgeAdded(v1, v2);
         return true;
     }
     
@@ -131,24 +184,67 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
         VertexObj<V, E> vert2 = getVertex(v2);
 
         if (vert1 == null || vert2 == null) return false;
+        return findEdge(vert1, vert2) != null;
+    }
 
-        for (EdgeObj<V, E> edge : secEdge) {
-            if (isDirected) {
-                // En grafo dirigido, solo v1->v2
-                if (edge.getEndVertex1().equals(vert1) && edge.getEndVertex2().equals(vert2)) {
-                    return true;
-                }
-            } else {
-                // En grafo no dirigido, v1-v2 o v2-v1
-                if ((edge.getEndVertex1().equals(vert1) && edge.getEndVertex2().equals(vert2)) ||
-                    (edge.getEndVertex1().equals(vert2) && edge.getEndVertex2().equals(vert1))) {
-                    return true;
-                }
-            }
+    /**
+     * Busca la arista vert1 -> vert2 (en no dirigidos, en cualquier sentido)
+     * en el índice por par de posiciones: O(1) esperado.
+     *
+     * @return La arista, o null si no existe
+     */
+    private EdgeObj<V, E> findEdge(VertexObj<V, E> vert1, VertexObj<V, E> vert2) {
+        return edgeIndex.get(clave(vert1, vert2));
+    }
+
+    /**
+     * Empaqueta las posiciones de los extremos en la clave del índice de
+     * aristas. En no dirigidos el par se ordena, así que u-v y v-u comparten
+     * clave.
+     */
+    private long clave(VertexObj<V, E> vert1, VertexObj<V, E> vert2) {
+        int a = vert1.getPosition();
+        int b = vert2.getPosition();
+        if (!isDirected && a > b) {
+            int aux = a;
+            a = b;
+            b = aux;
         }
-        return false;
+        return (long) a << 32 | b;
     }
-    
+
+    private long clave(EdgeObj<V, E> edge) {
+        return clave(edge.getEndVertex1(), edge.getEndVertex2());
+    }
+
+    /**
+     * Registra la arista en las incidencias de sus extremos.
+     */
+    private void link(EdgeObj<V, E> edge) {
+        VertexObj<V, E> a = edge.getEndVertex1();
+        VertexObj<V, E> b = edge.getEndVertex2();
+        a.salientes.add(edge);
+        if (isDirected) {
+            b.entrantes.add(edge);
+        } else if (b != a) {
+            b.salientes.add(edge);
+        }
+    }
+
+    /**
+     * Quita la arista de las incidencias de sus extremos: O(1).
+     */
+    private void unlink(EdgeObj<V, E> edge) {
+        VertexObj<V, E> a = edge.getEndVertex1();
+        VertexObj<V, E> b = edge.getEndVertex2();
+        a.salientes.remove(edge);
+        if (isDirected) {
+            b.entrantes.remove(edge);
+        } else if (b != a) {
+            b.salientes.remove(edge);
+        }
+    }
+
     /**
      * Elimina una arista entre dos vértices.
      * 
@@ -158,7 +254,7 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      */
     public boolean removeEdge(V v1, V v2) {
         if (v1 == null || v2 == null) {
-            System.out.println("Error: Los vértices no pueden ser null");
+            listener.rejected(Rejection.NULL_VERTEX, v1, v2);
             return false;
         }
         
@@ -166,42 +262,56 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
         VertexObj<V, E> vert2 = getVertex(v2);
 
         if (vert1 == null || vert2 == null) {
-            System.out.println("Error: Uno o ambos vértices no existen");
+            listener.rejected(Rejection.UNKNOWN_VERTEX, v1, v2);
             return false;
         }
 
-        EdgeObj<V, E> edgeToRemove = null;
-        for (EdgeObj<V, E> edge : secEdge) {
-            boolean shouldRemove = false;
-            
-            if (isDirected) {
-                // En grafo dirigido, solo v1->v2
-                shouldRemove = edge.getEndVertex1().equals(vert1) && edge.getEndVertex2().equals(vert2);
-            } else {
-                // En grafo no dirigido, cualquier dirección
-                shouldRemove = (edge.getEndVertex1().equals(vert1) && edge.getEndVertex2().equals(vert2)) ||
-                              (edge.getEndVertex1().equals(vert2) && edge.getEndVertex2().equals(vert1));
-            }
-            
-            if (shouldRemove) {
-                edgeToRemove = edge;
-                break;
-            }
-        }
-        
+        EdgeObj<V, E> edgeToRemove = findEdge(vert1, vert2);
         if (edgeToRemove != null) {
-            boolean removed = secEdge.remove(edgeToRemove);
-            if (removed) {
-                String direction = isDirected ? " -> " : " - ";
-                System.out.println("Arista '" + v1 + direction + v2 + "' eliminada correctamente");
-            }
-            return removed;
+            edgeIndex.remove(clave(edgeToRemove));
+            unlink(edgeToRemove);
+            dropEdge(edgeToRemove);
+            listener.edgeRemoved(v1, v2);
+            return true;
         }
         
-        System.out.println("Advertencia: No se encontró la arista entre '" + v1 + "' y '" + v2 + "'");
+        listener.rejected(Rejection.UNKNOWN_EDGE, v1, v2);
         return false;
     }
 
+    /**
+     * Quita la arista del arreglo de aristas en O(1): la última arista pasa a
+     * ocupar la posición liberada, igual que con los vértices.
+     */
+    private void dropEdge(EdgeObj<V, E> edge) {
+        int position = edge.getPosition();
+        EdgeObj<V, E> ultima = edgeByPosition[--numEdges];
+        ultima.setPosition(position);
+        edgeByPosition[position] = ultima;
+        edgeByPosition[numEdges] = null;
+    }
+
+    /**
+     * Mueve el vértice a otra posición actualizando las claves de sus aristas
+     * en el índice: O(grado).
+     */
+    private void rekeyEdges(VertexObj<V, E> vertex, int position) {
+        // En dirigidos un lazo está en ambas listas; quitarlo dos veces no hace nada
+        for (int i = 0; i < vertex.salientes.size(); i++) {
+            edgeIndex.remove(clave(vertex.salientes.get(i)));
+        }
+        for (int i = 0; i < vertex.entrantes.size(); i++) {
+            edgeIndex.remove(clave(vertex.entrantes.get(i)));
+        }
+        vertex.setPosition(position);
+        for (int i = 0; i < vertex.salientes.size(); i++) {
+            edgeIndex.putIfAbsent(clave(vertex.salientes.get(i)), vertex.salientes.get(i));
+        }
+        for (int i = 0; i < vertex.entrantes.size(); i++) {
+            edgeIndex.putIfAbsent(clave(vertex.entrantes.get(i)), vertex.entrantes.get(i));
+        }
+    }
+
     /**
      * Elimina un vértice y todas las aristas que lo involucran.
      * Este método mantiene la integridad del grafo eliminando automáticamente
@@ -212,39 +322,56 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      */
     public boolean removeVertex(V v) {
         if (v == null) {
-            System.out.println("Error: No se puede eliminar un vértice null");
+            listener.rejected(Rejection.NULL_VERTEX, null, null);
             return false;
         }
         
         VertexObj<V, E> vertex = getVertex(v);
         if (vertex == null) {
-            System.out.println("Advertencia: El vértice '" + v + "' no existe");
+            listener.rejected(Rejection.UNKNOWN_VERTEX, v, null);
             return false;
         }
 
-        // Recopilar todas las aristas que involucran este vértice
-        ListaEnlazada<EdgeObj<V, E>> edgesToRemove = new ListaEnlazada<>();
-        
-        for (EdgeObj<V, E> edge : secEdge) {
-            if (edge.getEndVertex1().equals(vertex) || edge.getEndVertex2().equals(vertex)) {
-                edgesToRemove.insertLast(edge);
+        // Quitar solo las aristas incidentes (del índice, del arreglo de aristas
+        // y de las incidencias del otro extremo): O(grado)
+        int edgesRemoved = 0;
+        for (int i = 0; i < vertex.salientes.size(); i++) {
+            EdgeObj<V, E> edge = vertex.salientes.get(i);
+            VertexObj<V, E> other = vertex.vecino(i);
+            if (other != vertex) {
+                (isDirected ? other.entrantes : other.salientes).remove(edge);
             }
+            edgeIndex.remove(clave(edge));
+            dropEdge(edge);
+            edgesRemoved++;
         }
-
-        // Eliminar las aristas encontradas
-        int edgesRemoved = 0;
-        for (EdgeObj<V, E> edge : edgesToRemove) {
-            if (secEdge.remove(edge)) {
+        for (int i = 0; i < vertex.entrantes.size(); i++) {
+            EdgeObj<V, E> edge = vertex.entrantes.get(i);
+            // Los lazos ya se quitaron con las salientes
+            if (edge.getEndVertex1() != vertex) {
+                edge.getEndVertex1().salientes.remove(edge);
+                edgeIndex.remove(clave(edge));
+                dropEdge(edge);
                 edgesRemoved++;
             }
         }
 
+        // Mantener posiciones densas: el último vértice ocupa la posición liberada
+        int ultimaPosicion = vertexIndex.size() - 1;
+        VertexObj<V, E> ultimo = vertexByPosition[ultimaPosicion];
+        if (ultimo != vertex) {
+            // Las claves de sus aristas usan la posición vieja
+            rekeyEdges(ultimo, vertex.getPosition());
+        }
+        vertexByPosition[vertex.getPosition()] = ultimo;
+        vertexByPosition[ultimaPosicion] = null;
+
         // Eliminar el vértice
+        vertexIndex.remove(v);
         boolean vertexRemoved = secVertex.remove(vertex);
         
         if (vertexRemoved) {
-            System.out.println("Vértice '" + v + "' eliminado correctamente (junto con " + 
-                             edgesRemoved + " arista(s))");
+            listener.vertexRemoved(v, edgesRemoved);
         }
         
         return vertexRemoved;
@@ -270,40 +397,51 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
             return false;
         }
 
-        // Usamos listas para tracking de visitados y cola para BFS
-        ListaEnlazada<VertexObj<V, E>> visited = new ListaEnlazada<>();
-        Queue<VertexObj<V, E>> queue = new QueueLink<>();
+        System.out.print("Recorrido BFS desde '" + startVertex + "': ");
+        bfs(startVertex, v -> {
+            System.out.print(v + " ");
+            return true;
+        });
+        System.out.println(); // Nueva línea al final
+        return true;
+    }
 
-        try {
-            // Inicializar: marcar el vértice inicial como visitado y agregarlo a la cola
-            queue.enqueue(start);
-            visited.insertLast(start);
-
-            System.out.print("Recorrido BFS desde '" + startVertex + "': ");
-
-            while (!queue.isEmpty()) {
-                // Extraer el siguiente vértice de la cola
-                VertexObj<V, E> current = queue.dequeue();
-                System.out.print(current.getInfo() + " ");
-
-                // Obtener todos los vecinos del vértice actual
-                ListaEnlazada<VertexObj<V, E>> neighbors = getNeighbors(current);
-                
-                for (VertexObj<V, E> neighbor : neighbors) {
-                    // Si el vecino no ha sido visitado, marcarlo y agregarlo a la cola
-                    if (!isVertexInList(neighbor, visited)) {
-                        visited.insertLast(neighbor);
-                        queue.enqueue(neighbor);
-                    }
+    /**
+     * Recorrido BFS que entrega cada vértice al visitor en orden de visita,
+     * sin imprimir. La cola es un arreglo de posiciones.
+     * 
+     * @param startVertex Vértice desde donde comenzar el recorrido
+     * @param visitor Recibe cada vértice; si retorna false el recorrido se detiene
+     * @return true si se realizó el recorrido, false si el vértice no existe
+     */
+    public boolean bfs(V startVertex, GraphVisitor<V> visitor) {
+        VertexObj<V, E> start = getVertex(startVertex);
+        if (start == null) return false;
+
+        // Conjunto de visitados por posición y cola de posiciones
+        VisitedSet visited = takeVisitedSet();
+        int[] queue = new int[vertexIndex.size()];
+        int head = 0, tail = 0;
+
+        // Inicializar: marcar el vértice inicial como visitado y agregarlo a la cola
+        queue[tail++] = start.getPosition();
+        visited.mark(start.getPosition());
+
+        while (head < tail) {
+            // Extraer el siguiente vértice de la cola
+            VertexObj<V, E> current = vertexByPosition[queue[head++]];
+            if (!visitor.visit(current.getInfo())) break;
+
+            // Si el vecino no ha sido visitado, marcarlo y agregarlo a la cola
+            for (int i = 0; i < current.salientes.size(); i++) {
+                int neighbor = current.vecino(i).getPosition();
+                if (visited.mark(neighbor)) {
+                    queue[tail++] = neighbor;
                 }
             }
-            System.out.println(); // Nueva línea al final
-            return true;
-            
-        } catch (Exception e) {
-            System.out.println("\nError durante BFS: " + e.getMessage());
-            return false;
         }
+        releaseVisitedSet(visited);
+        return true;
     }
 
     /**
@@ -319,45 +457,66 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
             return false;
         }
         
-        VertexObj<V, E> start = getVertex(startVertex);
-        if (start == null) {
+        if (getVertex(startVertex) == null) {
             System.out.println("Error: El vértice de inicio '" + startVertex + "' no existe");
             return false;
         }
 
-        ListaEnlazada<VertexObj<V, E>> visited = new ListaEnlazada<>();
         System.out.print("Recorrido DFS desde '" + startVertex + "': ");
-        
-        try {
-            dfsRecursive(start, visited);
-            System.out.println(); // Nueva línea al final
+        dfs(startVertex, v -> {
+            System.out.print(v + " ");
             return true;
-        } catch (Exception e) {
-            System.out.println("\nError durante DFS: " + e.getMessage());
-            return false;
-        }
+        });
+        System.out.println(); // Nueva línea al final
+        return true;
     }
 
     /**
-     * Método auxiliar recursivo para DFS.
-     * Implementa la lógica recursiva del recorrido en profundidad.
+     * Recorrido DFS que entrega cada vértice al visitor en orden de
+     * descubrimiento, sin imprimir.
      * 
-     * @param current Vértice actual que se está visitando
-     * @param visited Lista de vértices ya visitados
+     * @param startVertex Vértice desde donde comenzar el recorrido
+     * @param visitor Recibe cada vértice; si retorna false el recorrido se detiene
+     * @return true si se realizó el recorrido, false si el vértice no existe
      */
-    private void dfsRecursive(VertexObj<V, E> current, ListaEnlazada<VertexObj<V, E>> visited) {
-        // Marcar el vértice actual como visitado y procesarlo
-        visited.insertLast(current);
-        System.out.print(current.getInfo() + " ");
+    public boolean dfs(V startVertex, GraphVisitor<V> visitor) {
+        VertexObj<V, E> start = getVertex(startVertex);
+        if (start == null) return false;
 
-        // Obtener todos los vecinos del vértice actual
-        ListaEnlazada<VertexObj<V, E>> neighbors = getNeighbors(current);
-        
-        // Para cada vecino no visitado, hacer llamada recursiva
-        for (VertexObj<V, E> neighbor : neighbors) {
-            if (!isVertexInList(neighbor, visited)) {
-                dfsRecursive(neighbor, visited);
-            }
+        VisitedSet visited = takeVisitedSet();
+        int n = vertexIndex.size();
+        new DfsEngine(n).run(new CursorIncidencias(n), n, start.getPosition(), visited,
+                (v, parent) -> visitor.visit(vertexByPosition[v].getInfo()));
+        releaseVisitedSet(visited);
+        return true;
+    }
+
+    /**
+     * Cursor de DfsEngine sobre las incidencias: cada marco guarda su vértice
+     * y el índice de la siguiente arista por revisar. Los ids son posiciones.
+     */
+    private final class CursorIncidencias implements DfsCursor {
+        private final VertexObj<V, E>[] vertices;
+        private final int[] indices;
+
+        CursorIncidencias(int n) {
+            vertices = newVertexArray(n);
+            indices = new int[n];
+        }
+
+        @Override
+        public void start(int frame, int v) {
+            vertices[frame] = vertexByPosition[v];
+            indices[frame] = 0;
+        }
+
+        @Override
+        public int next(int frame) {
+            VertexObj<V, E> current = vertices[frame];
+            int i = indices[frame];
+            if (i == current.salientes.size()) return -1;
+            indices[frame] = i + 1;
+            return current.vecino(i).getPosition();
         }
     }
         
@@ -376,9 +535,21 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      * @return Cantidad de aristas
      */
     public int getEdgeCount() {
-        return secEdge.length();
+        return numEdges;
     }
     
+    /**
+     * Vista de solo lectura de todas las aristas por posición, para
+     * algoritmos que trabajan sobre la lista de aristas. Sigue el orden de
+     * inserción hasta que se elimina una arista: la última pasa a ocupar la
+     * posición liberada.
+     *
+     * @return Aristas del grafo
+     */
+    public Iterable<EdgeObj<V, E>> getEdges() {
+        return Collections.unmodifiableList(Arrays.asList(edgeByPosition).subList(0, numEdges));
+    }
+
     /**
      * Verifica si el grafo es dirigido.
      * 
@@ -387,7 +558,68 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
     public boolean isDirected() {
         return isDirected;
     }
-    
+
+    /**
+     * Registra quién recibe los eventos del grafo (vértices y aristas
+     * agregados o eliminados, operaciones rechazadas, verificaciones). Para
+     * ver los mensajes en consola, usar ConsoleGraphListener.
+     *
+     * @param listener Destino de los eventos; null vuelve a ignorarlos
+     */
+    public void setEventListener(GraphEventListener<V> listener) {
+        this.listener = listener == null ? GraphEventListener.none() : listener;
+    }
+
+    /**
+     * Congela el estado actual en una instantánea CSR con ids iguales a las
+     * posiciones de los vértices. En grafos no dirigidos cada arista aparece
+     * en ambos sentidos (los lazos una sola vez).
+     *
+     * @param weightOf Traduce el peso de cada arista a int (las aristas sin peso valen 1)
+     * @return Instantánea CSR del grafo
+     */
+    @SuppressWarnings("unchecked")
+    public CsrGraph<V> freeze(ToIntFunction<E> weightOf) {
+        int n = secVertex.length();
+        V[] labels = (V[]) new Comparable<?>[n];
+        VertexDictionary<V> ids = new VertexDictionary<>(n);
+        for (int i = 0; i < n; i++) {
+            labels[i] = vertexByPosition[i].getInfo();
+            ids.add(labels[i]);
+        }
+
+        /* Contar aristas por origen y acumular */
+        int[] offsets = new int[n + 1];
+        for (int k = 0; k < numEdges; k++) {
+            EdgeObj<V, E> edge = edgeByPosition[k];
+            int a = edge.getEndVertex1().getPosition();
+            int b = edge.getEndVertex2().getPosition();
+            offsets[a + 1]++;
+            if (!isDirected && a != b) offsets[b + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        /* Volcar destinos y pesos en el orden de las posiciones de las aristas */
+        int[] siguiente = Arrays.copyOf(offsets, n);
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int k = 0; k < numEdges; k++) {
+            EdgeObj<V, E> edge = edgeByPosition[k];
+            int a = edge.getEndVertex1().getPosition();
+            int b = edge.getEndVertex2().getPosition();
+            int peso = edge.getWeight() == null ? 1 : weightOf.applyAsInt(edge.getWeight());
+            targets[siguiente[a]] = b;
+            weights[siguiente[a]++] = peso;
+            if (!isDirected && a != b) {
+                targets[siguiente[b]] = a;
+                weights[siguiente[b]++] = peso;
+            }
+        }
+        return new CsrGraph<>(labels, ids, offsets, targets, weights, isDirected);
+    }
+
     /**
      * Muestra una representación del grafo en consola.
      * Útil para debugging y visualización.
@@ -404,7 +636,8 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
         }
         
         System.out.println("\nAristas:");
-        for (EdgeObj<V, E> edge : secEdge) {
+        for (int k = 0; k < numEdges; k++) {
+            EdgeObj<V, E> edge = edgeByPosition[k];
             String direction = isDirected ? " -> " : " - ";
             String weight = edge.getWeight() != null ? " (peso: " + edge.getWeight() + ")" : "";
             System.out.println("  - " + edge.getEndVertex1().getInfo() + 
@@ -422,43 +655,26 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      */
     private VertexObj<V, E> getVertex(V data) {
         if (data == null) return null;
-        
-        for (VertexObj<V, E> v : secVertex) {
-            if (v.getInfo().equals(data)) {
-                return v;
-            }
-        }
-        return null;
+        return vertexIndex.get(data);
     }
 
     /**
      * Obtiene todos los vértices vecinos (adyacentes) de un vértice dado.
      * En grafos dirigidos, solo considera las aristas salientes.
      * En grafos no dirigidos, considera conexiones en ambas direcciones.
+     * Recorre solo las aristas incidentes del vértice: O(grado).
      * 
      * @param vertex El vértice del cual obtener los vecinos
      * @return Lista de vértices vecinos
      */
     private ListaEnlazada<VertexObj<V, E>> getNeighbors(VertexObj<V, E> vertex) {
         ListaEnlazada<VertexObj<V, E>> neighbors = new ListaEnlazada<>();
-        
-        for (EdgeObj<V, E> edge : secEdge) {
-            if (isDirected) {
-                // En grafo dirigido, solo considerar aristas salientes
-                if (edge.getEndVertex1().equals(vertex)) {
-                    neighbors.insertLast(edge.getEndVertex2());
-                }
-            } else {
-                // En grafo no dirigido, considerar ambas direcciones
-                if (edge.getEndVertex1().equals(vertex)) {
-                    neighbors.insertLast(edge.getEndVertex2());
-                } else if (edge.getEndVertex2().equals(vertex)) {
-                    neighbors.insertLast(edge.getEndVertex1());
-                }
-            }
+        for (int i = 0; i < vertex.salientes.size(); i++) {
+            neighbors.insertLast(vertex.vecino(i));
         }
         return neighbors;
     }
+
     /**
      * Obtiene el grado de un nodo específico.
      * 
@@ -469,11 +685,12 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
         VertexObj<V, E> vertex = getVertex(v);
         if (vertex == null) return -1;
 
-        int degree = 0;
-        for (EdgeObj<V, E> edge : secEdge) {
-            if (edge.getEndVertex1().equals(vertex) || edge.getEndVertex2().equals(vertex)) {
-                degree++;
-            }
+        if (!isDirected) return vertex.salientes.size();
+
+        // En dirigidos un lazo está en ambas listas pero cuenta una sola vez
+        int degree = vertex.salientes.size() + vertex.entrantes.size();
+        for (int i = 0; i < vertex.salientes.size(); i++) {
+            if (vertex.vecino(i) == vertex) degree--;
         }
         return degree;
     }
@@ -547,81 +764,255 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
         }
 
         return (nodesWithDegreeN1 == 1) && (nodesWithDegree3 == n - 1);
-    }                 
+    }
+
     /**
+     * Reemplaza el contenido del grafo de una sola vez, sin las búsquedas ni
+     * los mensajes de insertVertex/insertEdgeWeight. Entre aristas repetidas
+     * se conserva la primera.
+     *
+     * @param vertices Vértices en orden de posición
+     * @param origenes Posición del primer extremo de cada arista
+     * @param destinos Posición del segundo extremo de cada arista
+     * @param pesos Peso de cada arista (puede contener null)
+     * @throws IllegalArgumentException Si hay vértices null o repetidos
+     */
+    void bulkLoad(V[] vertices, int numVertices, int[] origenes, int[] destinos, E[] pesos, int numAristas) {
+        HashIndex<V, VertexObj<V, E>> index = new HashIndex<>(numVertices);
+        VertexObj<V, E>[] porPosicion = crearVertices(vertices, numVertices, index);
+        instalar(index, porPosicion, numVertices, origenes, destinos, pesos, numAristas);
+    }
+
+    /**
+     * Crea los vértices con posiciones 0..n-1 y los agrega al índice.
+     *
+     * @throws IllegalArgumentException Si hay vértices null o repetidos
+     */
+    private VertexObj<V, E>[] crearVertices(V[] vertices, int n, HashIndex<V, VertexObj<V, E>> index) {
+        VertexObj<V, E>[] porPosicion = newVertexArray(Math.max(16, n));
+        for (int i = 0; i < n; i++) {
+            if (vertices[i] == null) {
+                throw new IllegalArgumentException("Vértice null en la posición " + i);
+            }
+            porPosicion[i] = new VertexObj<>(vertices[i], i);
+            if (index.put(vertices[i], porPosicion[i]) != null) {
+                throw new IllegalArgumentException("Vértice repetido: " + vertices[i]);
+            }
+        }
+        return porPosicion;
+    }
+
+    /**
+     * Reemplaza vértices y aristas por los ya validados. Descarta las aristas
+     * repetidas con el índice de aristas y reserva las incidencias de cada
+     * vértice con su tamaño exacto antes de enlazarlas.
+     */
+    private void instalar(HashIndex<V, VertexObj<V, E>> index, VertexObj<V, E>[] porPosicion, int n,
+                          int[] origenes, int[] destinos, E[] pesos, int m) {
+        LongHashIndex<EdgeObj<V, E>> indice = new LongHashIndex<>(m);
+        EdgeObj<V, E>[] aristas = newEdgeArray(Math.max(16, m));
+        int[] salientes = new int[n];
+        int[] entrantes = isDirected ? new int[n] : null;
+        int unicas = 0;
+        for (int k = 0; k < m; k++) {
+            VertexObj<V, E> a = porPosicion[origenes[k]];
+            VertexObj<V, E> b = porPosicion[destinos[k]];
+            EdgeObj<V, E> edge = new EdgeObj<>(a, b, pesos[k], unicas);
+            if (indice.putIfAbsent(clave(a, b), edge) != null) continue;
+            aristas[unicas++] = edge;
+            salientes[origenes[k]]++;
+            if (isDirected) {
+                entrantes[destinos[k]]++;
+            } else if (origenes[k] != destinos[k]) {
+                salientes[destinos[k]]++;
+            }
+        }
+
+        this.secVertex = new ListaEnlazada<>();
+        for (int i = 0; i < n; i++) {
+            porPosicion[i].salientes.reserve(salientes[i]);
+            if (isDirected) porPosicion[i].entrantes.reserve(entrantes[i]);
+            secVertex.insertLast(porPosicion[i]);
+        }
+        for (int k = 0; k < unicas; k++) {
+            link(aristas[k]);
+        }
+        this.edgeByPosition = aristas;
+        this.numEdges = unicas;
+        this.vertexIndex = index;
+        this.vertexByPosition = porPosicion;
+        this.edgeIndex = indice;
+    }
+
+    /**
+     * Define un grafo no dirigido con los vértices y aristas dados, cargados
+     * en bloque. Las aristas repetidas se ignoran (se conserva la primera).
+     *
      * @param vertices Lista enlazada con vértices
      * @param edges Lista enlazada con aristas (EdgeObj con vértices y peso)
+     * @throws IllegalArgumentException Si hay vértices null o repetidos, o
+     *         una arista usa un vértice que no está en la lista; el grafo no
+     *         se modifica
      */
     public void defineFromFormal(ListaEnlazada<V> vertices, ListaEnlazada<EdgeObj<V, E>> edges) {
-        this.secVertex = new ListaEnlazada<>();
-        this.secEdge = new ListaEnlazada<>();
-        this.isDirected = false;
-
+        V[] labels = newLabelArray(vertices.length());
+        int n = 0;
         for (V v : vertices) {
-            this.insertVertex(v);
+            labels[n++] = v;
         }
+        defineFromEdges(labels, edges);
+    }
 
-        for (EdgeObj<V, E> e : edges) {
-            V v1 = e.getEndVertex1().getInfo();
-            V v2 = e.getEndVertex2().getInfo();
-            E w = e.getWeight();
-            this.insertEdgeWeight(v1, v2, w);
-        }
+    /**
+     * Define un grafo no dirigido desde la matriz usando
+     * ForkJoinPool.commonPool() para recorrerla.
+     *
+     * @see #defineFromAdjacencyMatrix(Comparable[], Comparable[][], ForkJoinPool)
+     */
+    public void defineFromAdjacencyMatrix(V[] vertexOrder, E[][] adjacencyMatrix) {
+        defineFromAdjacencyMatrix(vertexOrder, adjacencyMatrix, ForkJoinPool.commonPool());
     }
 
     /**
-     * La matriz debe ser cuadrada y simétrica.
+     * La matriz debe ser cuadrada y simétrica; solo se lee el triángulo
+     * superior. Las filas se recorren en paralelo y las aristas quedan en
+     * orden de fila y columna.
+     *
      * @param vertexOrder Array con orden de vértices (filas y columnas)
      * @param adjacencyMatrix Matriz bidimensional con pesos o null
+     * @param pool Pool donde se reparten las filas
+     * @throws IllegalArgumentException Si la matriz no es cuadrada o hay
+     *         vértices null o repetidos; el grafo no se modifica
      */
-    public void defineFromAdjacencyMatrix(V[] vertexOrder, E[][] adjacencyMatrix) {
-        this.secVertex = new ListaEnlazada<>();
-        this.secEdge = new ListaEnlazada<>();
-        this.isDirected = false;
-
+    public void defineFromAdjacencyMatrix(V[] vertexOrder, E[][] adjacencyMatrix, ForkJoinPool pool) {
         int n = vertexOrder.length;
         if (adjacencyMatrix.length != n) {
             throw new IllegalArgumentException("Matriz no cuadrada");
         }
         for (E[] row : adjacencyMatrix) {
-            if (row.length != n) {
+            if (row == null || row.length != n) {
                 throw new IllegalArgumentException("Matriz no cuadrada");
             }
         }
+        HashIndex<V, VertexObj<V, E>> index = new HashIndex<>(n);
+        VertexObj<V, E>[] porPosicion = crearVertices(vertexOrder, n, index);
 
-        for (V v : vertexOrder) {
-            this.insertVertex(v);
-        }
+        // Columnas con arista de cada fila
+        int[][] columnas = new int[n][];
+        int bloque = Math.max(FILAS_POR_TAREA, n / (4 * pool.getParallelism()) + 1);
+        pool.invoke(new EscaneoFilas(adjacencyMatrix, columnas, 0, n, bloque));
 
+        int m = 0;
+        for (int[] fila : columnas) {
+            m = Math.addExact(m, fila.length);
+        }
+        int[] origenes = new int[m];
+        int[] destinos = new int[m];
+        E[] pesos = newWeightArray(m);
+        int k = 0;
         for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                E w = adjacencyMatrix[i][j];
-                if (w != null && !w.equals(zeroEquivalent(w))) {
-                    this.insertEdgeWeight(vertexOrder[i], vertexOrder[j], w);
-                }
+            for (int j : columnas[i]) {
+                origenes[k] = i;
+                destinos[k] = j;
+                pesos[k++] = adjacencyMatrix[i][j];
             }
+            columnas[i] = null;
         }
+        this.isDirected = false;
+        instalar(index, porPosicion, n, origenes, destinos, pesos, m);
     }
 
     /**
+     * Define un grafo no dirigido con los vértices y aristas dados, cargados
+     * en bloque. Las aristas repetidas se ignoran (se conserva la primera).
+     *
      * @param vertices Lista enlazada de VertexObj
      * @param edges Lista enlazada de EdgeObj
+     * @throws IllegalArgumentException Si hay vértices null o repetidos, o
+     *         una arista usa un vértice que no está en la lista; el grafo no
+     *         se modifica
      */
     public void defineFromAdjacencyLists(ListaEnlazada<VertexObj<V,E>> vertices, ListaEnlazada<EdgeObj<V,E>> edges) {
-        this.secVertex = new ListaEnlazada<>();
-        this.secEdge = new ListaEnlazada<>();
+        V[] labels = newLabelArray(vertices.length());
+        int n = 0;
+        for (VertexObj<V, E> v : vertices) {
+            labels[n++] = v == null ? null : v.getInfo();
+        }
+        defineFromEdges(labels, edges);
+    }
+
+    /**
+     * Valida y traduce las aristas a posiciones en una pasada, y carga el
+     * grafo (no dirigido) en bloque.
+     */
+    private void defineFromEdges(V[] labels, ListaEnlazada<EdgeObj<V, E>> edges) {
+        HashIndex<V, VertexObj<V, E>> index = new HashIndex<>(labels.length);
+        VertexObj<V, E>[] porPosicion = crearVertices(labels, labels.length, index);
+        int m = edges.length();
+        int[] origenes = new int[m];
+        int[] destinos = new int[m];
+        E[] pesos = newWeightArray(m);
+        int k = 0;
+        for (EdgeObj<V, E> edge : edges) {
+            origenes[k] = posicionEn(index, edge.getEndVertex1());
+            destinos[k] = posicionEn(index, edge.getEndVertex2());
+            pesos[k++] = edge.getWeight();
+        }
         this.isDirected = false;
+        instalar(index, porPosicion, labels.length, origenes, destinos, pesos, m);
+    }
 
-        for (VertexObj<V,E> v : vertices) {
-            this.insertVertex(v.getInfo());
+    /**
+     * @return Posición del extremo en el índice en construcción
+     * @throws IllegalArgumentException Si el extremo no está en la lista de vértices
+     */
+    private int posicionEn(HashIndex<V, VertexObj<V, E>> index, VertexObj<V, E> extremo) {
+        VertexObj<V, E> vertex = extremo == null ? null : index.get(extremo.getInfo());
+        if (vertex == null) {
+            throw new IllegalArgumentException("La arista usa un vértice que no está en la lista: " + extremo);
+        }
+        return vertex.getPosition();
+    }
+
+    /**
+     * Busca en paralelo las columnas con arista de cada fila del triángulo
+     * superior de la matriz. Cada hoja reutiliza un búfer de una fila.
+     */
+    @SuppressWarnings("serial")
+    private class EscaneoFilas extends RecursiveAction {
+        private final E[][] matriz;
+        private final int[][] columnas;
+        private final int desde, hasta, bloque;
+
+        EscaneoFilas(E[][] matriz, int[][] columnas, int desde, int hasta, int bloque) {
+            this.matriz = matriz;
+            this.columnas = columnas;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.bloque = bloque;
         }
 
-        for (EdgeObj<V,E> edge : edges) {
-            this.insertEdgeWeight(
-                edge.getEndVertex1().getInfo(),
-                edge.getEndVertex2().getInfo(),
-                edge.getWeight()
-            );
+        @Override
+        protected void compute() {
+            if (hasta - desde > bloque) {
+                int medio = (desde + hasta) >>> 1;
+                invokeAll(new EscaneoFilas(matriz, columnas, desde, medio, bloque),
+                          new EscaneoFilas(matriz, columnas, medio, hasta, bloque));
+                return;
+            }
+            int n = matriz.length;
+            int[] bufer = new int[n];
+            for (int i = desde; i < hasta; i++) {
+                E[] fila = matriz[i];
+                int c = 0;
+                for (int j = i + 1; j < n; j++) {
+                    E w = fila[j];
+                    if (w != null && !w.equals(zeroEquivalent(w))) {
+                        bufer[c++] = j;
+                    }
+                }
+                columnas[i] = Arrays.copyOf(bufer, c);
+            }
         }
     }
 
@@ -645,42 +1036,46 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
         if (this.getVertexCount() != otherGraph.getVertexCount() ||
             this.getEdgeCount() != otherGraph.getEdgeCount() ||
             this.isDirected() != otherGraph.isDirected()) {
-            System.out.println("Los grafos no son isomorfos: diferencias en vértices, aristas o tipo.");
+            listener.propertyChecked(Property.ISOMORPHIC, false, "diferencias en vértices, aristas o tipo");
             return false;
         }
 
-        ListaEnlazada<Integer> thisDegrees = new ListaEnlazada<>();
-        for (VertexObj<V, E> v : this.secVertex) {
-            thisDegrees.insertLast(this.getNodeDegree(v.getInfo()));
-        }
-        thisDegrees.contains();
-
-        ListaEnlazada<Integer> otherDegrees = new ListaEnlazada<>();
-        for (VertexObj<V, E> v : otherGraph.secVertex) {
-            otherDegrees.insertLast(otherGraph.getNodeDegree(v.getInfo()));
-        }
-        otherDegrees.contains();
-
-        if (!thisDegrees.equals(otherDegrees)) { // asume equals compara contenido
-            System.out.println("Los grafos no son isomorfos: secuencia de grados diferente.");
+        if (!Arrays.equals(this.degreeSequence(), otherGraph.degreeSequence())) {
+            listener.propertyChecked(Property.ISOMORPHIC, false, "secuencia de grados diferente");
             return false;
         }
-        System.out.println("Los grafos SON isomorfos (básico).");
+        listener.propertyChecked(Property.ISOMORPHIC, true, "misma secuencia de grados (básico)");
         return true; // Para simplificar, asumimos isomorfismo si secuencia coincide
     }
 
+    /**
+     * @return Grados de todos los vértices, ordenados
+     */
+    private int[] degreeSequence() {
+        int n = vertexIndex.size();
+        int[] degrees = new int[n];
+        for (int i = 0; i < n; i++) {
+            degrees[i] = getNodeDegree(vertexByPosition[i].getInfo());
+        }
+        Arrays.sort(degrees);
+        return degrees;
+    }
+
     /**
      * Verifica planitud básica con regla de Euler y cantidad de vértices/aristas.
      */
     public boolean isPlanar() {
         int v = getVertexCount();
         int e = getEdgeCount();
-        if (v <= 4) return true;
+        if (v <= 4) {
+            listener.propertyChecked(Property.PLANAR, true, "a lo sumo 4 vértices");
+            return true;
+        }
         if (e > 3 * v - 6) {
-            System.out.println("No es plano: más de 3v-6 aristas.");
+            listener.propertyChecked(Property.PLANAR, false, "más de 3v-6 aristas");
             return false;
         }
-        System.out.println("Es plano por condición básica de Euler.");
+        listener.propertyChecked(Property.PLANAR, true, "condición básica de Euler");
         return true;
     }
 
@@ -689,22 +1084,23 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
      */
     public boolean isConnected() {
         if (secVertex.length() == 0) return true;
-        VertexObj<V, E> start = secVertex.getClass(0);
-        ListaEnlazada<VertexObj<V, E>> visited = new ListaEnlazada<>();
+        VertexObj<V, E> start = secVertex.getFirst().getData();
+        VisitedSet visited = takeVisitedSet();
         Queue<VertexObj<V, E>> queue = new QueueLink<>();
         queue.enqueue(start);
-        visited.insertLast(start);
+        visited.mark(start.getPosition());
         while (!queue.isEmpty()) {
             VertexObj<V, E> current = queue.dequeue();
             ListaEnlazada<VertexObj<V, E>> neighbors = getNeighbors(current);
             for (VertexObj<V, E> neighbor : neighbors) {
-                if (!visited.contains(neighbor)) {
-                    visited.insertLast(neighbor);
+                if (visited.mark(neighbor.getPosition())) {
                     queue.enqueue(neighbor);
                 }
             }
         }
-        return visited.length() == secVertex.length();
+        boolean connected = visited.count() == secVertex.length();
+        releaseVisitedSet(visited);
+        return connected;
     }
 
     /**
@@ -713,11 +1109,13 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
     public boolean isSelfComplementary() {
         int n = getVertexCount();
         if (n % 4 != 0 && n % 4 != 1) {
-            System.out.println("No es auto-complementario: n mod 4 distinto de 0 o 1.");
+            listener.propertyChecked(Property.SELF_COMPLEMENTARY, false, "n mod 4 distinto de 0 o 1");
             return false;
         }
         GraphListEdge<V, E> complement = createComplement();
-        return this.isIsomorphic(complement);
+        boolean selfComplementary = this.isIsomorphic(complement);
+        listener.propertyChecked(Property.SELF_COMPLEMENTARY, selfComplementary, "isomorfo a su complemento");
+        return selfComplementary;
     }
 
     // Crea complemento básico (sin peso) para isSelfComplementary
@@ -741,19 +1139,48 @@ public class GraphListEdge<V extends Comparable<V>, E extends Comparable<E>> {
  
 
     /**
-     * Verifica si un vértice está presente en una lista de vértices.
-     * Método auxiliar para reemplazar el contains() que podría no existir.
+     * Entrega el conjunto de visitados reutilizable, ya limpio y con capacidad
+     * para todas las posiciones actuales. Si está prestado (recorrido anidado
+     * u otro hilo), crea otro.
      * 
-     * @param vertex El vértice a buscar
-     * @param list La lista donde buscar
-     * @return true si el vértice está en la lista, false en caso contrario
-     */
-    private boolean isVertexInList(VertexObj<V, E> vertex, ListaEnlazada<VertexObj<V, E>> list) {
-        for (VertexObj<V, E> v : list) {
-            if (v.equals(vertex)) {
-                return true;
-            }
+     * @return Conjunto de visitados vacío
+     */
+    private VisitedSet takeVisitedSet() {
+        VisitedSet visited = visitedCache.getAndSet(null);
+        if (visited == null) {
+            return new EpochVisitedSet(vertexIndex.size());
         }
-        return false;
+        visited.reset(vertexIndex.size());
+        return visited;
+    }
+
+    /**
+     * Devuelve el conjunto de visitados para el siguiente recorrido; si ya
+     * hay otro guardado, este se descarta.
+     * 
+     * @param visited Conjunto prestado por takeVisitedSet()
+     */
+    private void releaseVisitedSet(VisitedSet visited) {
+        visitedCache.compareAndSet(null, visited);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E> VertexObj<V, E>[] newVertexArray(int capacity) {
+        return (VertexObj<V, E>[]) new VertexObj<?, ?>[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E> EdgeObj<V, E>[] newEdgeArray(int capacity) {
+        return (EdgeObj<V, E>[]) new EdgeObj<?, ?>[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V[] newLabelArray(int capacity) {
+        return (V[]) new Comparable<?>[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] newWeightArray(int capacity) {
+        return (E[]) new Comparable<?>[capacity];
     }
 }
@@ -0,0 +1,31 @@
+package graph;
+
+/**
+ * Vista de solo lectura de un grafo con vértices numerados de forma densa
+ * (0..n-1). Las aristas salientes de v se acceden por índice 0..degree(v)-1,
+ * lo que permite escribir algoritmos sobre enteros sin depender de cómo
+ * está almacenado el grafo.
+ */
+public interface GraphView {
+	int getVertexCount();
+
+	/**
+	 * @param v Id del vértice
+	 * @return Cantidad de aristas salientes de v
+	 */
+	int degree(int v);
+
+	/**
+	 * @param v Id del vértice
+	 * @param i Índice de la arista (0 <= i < degree(v))
+	 * @return Id del vértice destino de la i-ésima arista de v
+	 */
+	int target(int v, int i);
+
+	/**
+	 * @param v Id del vértice
+	 * @param i Índice de la arista (0 <= i < degree(v))
+	 * @return Peso de la i-ésima arista de v
+	 */
+	int weight(int v, int i);
+}
@@ -0,0 +1,170 @@
+package graph;
+
+import ClassAux.BitVisitedSet;
+import ClassAux.VisitedSet;
+import ImpQueue.PriorityQueueIntHeap;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * BFS, DFS y Dijkstra sobre cualquier GraphView (CsrGraph, IntGraph,
+ * MappedCsrGraph), con vértices identificados por id. CsrGraph e IntGraph
+ * delegan aquí sus recorridos, así que hay una sola copia de cada núcleo.
+ *
+ * Solo reservan arreglos de tamaño n (visitados, cola, distancias); las
+ * aristas se leen siempre a través de la vista, así que con un grafo mapeado
+ * el heap usado no depende de la cantidad de aristas.
+ */
+public final class GraphViewSearch {
+	private GraphViewSearch() {
+	}
+
+	/**
+	 * Recorrido BFS que entrega cada id al visitor en orden de visita.
+	 *
+	 * @param visitor Recibe cada id; si retorna false el recorrido se detiene
+	 * @return Cantidad de vértices visitados
+	 */
+	public static int bfs(GraphView g, int origen, IntPredicate visitor) {
+		int n = g.getVertexCount();
+		VisitedSet visitados = new BitVisitedSet(n);
+		int[] cola = new int[n];
+		int cabeza = 0, fin = 0;
+		cola[fin++] = origen;
+		visitados.mark(origen);
+		while (cabeza < fin) {
+			int actual = cola[cabeza++];
+			if (!visitor.test(actual)) break;
+			for (int i = 0; i < g.degree(actual); i++) {
+				int vecino = g.target(actual, i);
+				if (visitados.mark(vecino)) cola[fin++] = vecino;
+			}
+		}
+		return cabeza;
+	}
+
+	/**
+	 * @return Distancia en saltos desde el origen por id, -1 si no se alcanza
+	 */
+	public static int[] levels(GraphView g, int origen) {
+		int n = g.getVertexCount();
+		int[] nivel = new int[n];
+		Arrays.fill(nivel, -1);
+		int[] cola = new int[n];
+		int cabeza = 0, fin = 0;
+		cola[fin++] = origen;
+		nivel[origen] = 0;
+		while (cabeza < fin) {
+			int actual = cola[cabeza++];
+			for (int i = 0; i < g.degree(actual); i++) {
+				int vecino = g.target(actual, i);
+				if (nivel[vecino] < 0) {
+					nivel[vecino] = nivel[actual] + 1;
+					cola[fin++] = vecino;
+				}
+			}
+		}
+		return nivel;
+	}
+
+	/**
+	 * Camino más corto en número de aristas; se detiene al sacar el destino.
+	 *
+	 * @return Ids del camino desde el origen hasta el destino, vacío si no existe
+	 */
+	public static int[] shortPath(GraphView g, int origen, int destino) {
+		int n = g.getVertexCount();
+		VisitedSet visitados = new BitVisitedSet(n);
+		int[] padre = new int[n];
+		int[] cola = new int[n];
+		int cabeza = 0, fin = 0;
+		cola[fin++] = origen;
+		visitados.mark(origen);
+		padre[origen] = -1;
+		while (cabeza < fin) {
+			int actual = cola[cabeza++];
+			if (actual == destino) return camino(padre, destino);
+			for (int i = 0; i < g.degree(actual); i++) {
+				int vecino = g.target(actual, i);
+				if (visitados.mark(vecino)) {
+					padre[vecino] = actual;
+					cola[fin++] = vecino;
+				}
+			}
+		}
+		return new int[0];
+	}
+
+	/**
+	 * Recorrido DFS iterativo (DfsEngine) en orden de descubrimiento.
+	 *
+	 * @param visitor Recibe cada id; si retorna false el recorrido se detiene
+	 */
+	public static void dfs(GraphView g, int origen, IntPredicate visitor) {
+		new DfsEngine(g.getVertexCount()).run(g, origen, new BitVisitedSet(g.getVertexCount()),
+				(v, padre) -> visitor.test(v));
+	}
+
+	/**
+	 * Dijkstra uno-a-todos. Requiere pesos no negativos.
+	 *
+	 * @return Distancias por id, -1 si no se alcanza
+	 */
+	public static int[] dijkstra(GraphView g, int origen) {
+		int[] dist = dijkstra(g, origen, -1, null);
+		for (int v = 0; v < dist.length; v++) {
+			if (dist[v] == Integer.MAX_VALUE) dist[v] = -1;
+		}
+		return dist;
+	}
+
+	/**
+	 * Camino de menor peso; se detiene al asentar el destino.
+	 *
+	 * @return Ids del camino desde el origen hasta el destino, vacío si no existe
+	 */
+	public static int[] dijkstraPath(GraphView g, int origen, int destino) {
+		int[] padre = new int[g.getVertexCount()];
+		int[] dist = dijkstra(g, origen, destino, padre);
+		if (dist[destino] == Integer.MAX_VALUE) return new int[0];
+		return camino(padre, destino);
+	}
+
+	/* Ids desde la raíz hasta el destino siguiendo los padres */
+	private static int[] camino(int[] padre, int destino) {
+		int largo = 0;
+		for (int v = destino; v != -1; v = padre[v]) largo++;
+		int[] camino = new int[largo];
+		for (int v = destino; v != -1; v = padre[v]) camino[--largo] = v;
+		return camino;
+	}
+
+	/* Núcleo de Dijkstra; t = -1 para calcular todos, padre puede ser null */
+	static int[] dijkstra(GraphView g, int s, int t, int[] padre) {
+		int n = g.getVertexCount();
+		int[] dist = new int[n];
+		Arrays.fill(dist, Integer.MAX_VALUE);
+		if (padre != null) Arrays.fill(padre, -1);
+		VisitedSet visitados = new BitVisitedSet(n);
+		dist[s] = 0;
+		PriorityQueueIntHeap cola = new PriorityQueueIntHeap(n);
+		cola.enqueue(s, 0);
+		while (!cola.isEmpty()) {
+			int actual = cola.dequeue();
+			visitados.mark(actual);
+			if (actual == t) break;
+			for (int i = 0; i < g.degree(actual); i++) {
+				int vecino = g.target(actual, i);
+				if (visitados.isMarked(vecino)) continue;
+				int nueva = dist[actual] + g.weight(actual, i);
+				if (nueva < dist[vecino]) {
+					dist[vecino] = nueva;
+					if (padre != null) padre[vecino] = actual;
+					cola.updatePriority(vecino, nueva);
+				}
+			}
+		}
+		return dist;
+	}
+}
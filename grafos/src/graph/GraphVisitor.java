@@ -0,0 +1,14 @@
+package graph;
+
+/**
+ * Recibe los vértices de un recorrido (BFS o DFS) en orden de visita.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public interface GraphVisitor<E> {
+	/**
+	 * @param vertex Dato del vértice visitado
+	 * @return true para continuar, false para detener el recorrido
+	 */
+	boolean visit(E vertex);
+}
@@ -0,0 +1,14 @@
+package graph;
+
+/**
+ * Cota inferior de la distancia entre dos vértices, usada para guiar A*.
+ * Debe ser admisible: nunca mayor que la distancia real.
+ */
+public interface Heuristic {
+	/**
+	 * @param v Id del vértice actual
+	 * @param destino Id del vértice de destino
+	 * @return Estimación no negativa de la distancia de v al destino
+	 */
+	int estimate(int v, int destino);
+}
@@ -0,0 +1,78 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Aristas incidentes a un vértice de GraphListEdge. Arreglo que crece al
+ * doble; cada arista guarda su índice en las incidencias de sus extremos
+ * (slot1 en las del primero, slot2 en las del segundo), así que quitar es
+ * O(1): la última arista pasa a ocupar el lugar liberado. El orden es el de
+ * inserción hasta la primera eliminación.
+ */
+final class Incidencias<V, E> {
+    /* Compartido mientras no haya aristas, para no reservar en vértices aislados */
+    private static final EdgeObj<?, ?>[] VACIO = new EdgeObj<?, ?>[0];
+
+    private final VertexObj<V, E> vertice;
+    /* Entrantes de un dirigido: el vértice siempre es el segundo extremo */
+    private final boolean entrantes;
+    private EdgeObj<V, E>[] aristas;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    Incidencias(VertexObj<V, E> vertice, boolean entrantes) {
+        this.vertice = vertice;
+        this.entrantes = entrantes;
+        aristas = (EdgeObj<V, E>[]) VACIO;
+    }
+
+    int size() {
+        return size;
+    }
+
+    EdgeObj<V, E> get(int i) {
+        return aristas[i];
+    }
+
+    /**
+     * Reserva espacio exacto cuando la cantidad de aristas se conoce de
+     * antemano (carga en bloque).
+     */
+    void reserve(int capacidad) {
+        if (capacidad > aristas.length) {
+            aristas = Arrays.copyOf(aristas, capacidad);
+        }
+    }
+
+    void add(EdgeObj<V, E> arista) {
+        if (size == aristas.length) {
+            aristas = Arrays.copyOf(aristas, Math.max(2, size * 2));
+        }
+        setSlot(arista, size);
+        aristas[size++] = arista;
+    }
+
+    /**
+     * Quita la arista, que debe estar en estas incidencias.
+     */
+    void remove(EdgeObj<V, E> arista) {
+        int i = slot(arista);
+        EdgeObj<V, E> ultima = aristas[--size];
+        aristas[i] = ultima;
+        setSlot(ultima, i);
+        aristas[size] = null;
+    }
+
+    /* En un lazo no dirigido el vértice es ambos extremos; se usa slot1 */
+    private int slot(EdgeObj<V, E> arista) {
+        return !entrantes && arista.getEndVertex1() == vertice ? arista.slot1 : arista.slot2;
+    }
+
+    private void setSlot(EdgeObj<V, E> arista, int i) {
+        if (!entrantes && arista.getEndVertex1() == vertice) {
+            arista.slot1 = i;
+        } else {
+            arista.slot2 = i;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Grafo con vértices enteros y adyacencia en arreglos primitivos.
+ *
+ * Es la variante sin objetos por arista de GraphLink: los vértices son ids
+ * enteros no negativos elegidos por el llamador, y cada vértice tiene un
+ * int[] de destinos y otro de pesos que crecen al doble cuando se llenan.
+ * Una arista ocupa 8 bytes en lugar de un Edge, un Node y la referencia al
+ * Vertex destino.
+ *
+ * Los arreglos se indexan directamente por id, así que conviene usar ids
+ * cercanos a 0..n-1. Los ids que no se insertaron o que se eliminaron no
+ * tienen aristas; para GraphView, getVertexCount() es el rango de ids
+ * (mayor id + 1) y getNumVertices() la cantidad de vértices presentes.
+ *
+ * Eliminar una arista mueve la última del vértice a su lugar, por lo que el
+ * orden de los vecinos puede cambiar.
+ */
+public class IntGraph implements GraphView {
+	private static final int[] VACIO = new int[0];
+
+	private final boolean isDirected;
+	private int[][] destinos;
+	private int[][] pesos;
+	private int[] grado;
+	private boolean[] presente;
+	/* Mayor id presente + 1 */
+	private int rango;
+	private int numVertices;
+	private int numAristas;
+	private long modCount;
+
+	public IntGraph(boolean isDirected) {
+		this(isDirected, 16);
+	}
+
+	/**
+	 * @param isDirected true para grafo dirigido
+	 * @param capacity Rango de ids esperado, para no crecer al insertar
+	 */
+	public IntGraph(boolean isDirected, int capacity) {
+		this.isDirected = isDirected;
+		int c = Math.max(1, capacity);
+		destinos = new int[c][];
+		pesos = new int[c][];
+		grado = new int[c];
+		presente = new boolean[c];
+	}
+
+	/**
+	 * Construye el grafo de una vez a partir de adyacencias en formato CSR,
+	 * con los vértices 0..n-1 presentes y sin verificar aristas repetidas.
+	 */
+	static IntGraph fromAdjacency(boolean isDirected, int n, int[] offsets, int[] targets, int[] weights) {
+		IntGraph graph = new IntGraph(isDirected, n);
+		for (int v = 0; v < n; v++) {
+			graph.destinos[v] = Arrays.copyOfRange(targets, offsets[v], offsets[v + 1]);
+			graph.pesos[v] = Arrays.copyOfRange(weights, offsets[v], offsets[v + 1]);
+			graph.grado[v] = offsets[v + 1] - offsets[v];
+			graph.presente[v] = true;
+		}
+		graph.rango = n;
+		graph.numVertices = n;
+		graph.numAristas = offsets[n];
+		graph.modCount = n + offsets[n];
+		return graph;
+	}
+
+	/**
+	 * Inserta un vértice si no existe previamente.
+	 *
+	 * @param v Id del vértice (no negativo)
+	 */
+	public void insertVertex(int v) {
+		if (v < 0) throw new IllegalArgumentException("El id de vértice no puede ser negativo: " + v);
+		if (v >= presente.length) crecer(Math.max(v + 1, presente.length * 2));
+		if (presente[v]) return;
+		presente[v] = true;
+		destinos[v] = VACIO;
+		pesos[v] = VACIO;
+		numVertices++;
+		if (v >= rango) rango = v + 1;
+		modCount++;
+	}
+
+	private void crecer(int capacidad) {
+		destinos = Arrays.copyOf(destinos, capacidad);
+		pesos = Arrays.copyOf(pesos, capacidad);
+		grado = Arrays.copyOf(grado, capacidad);
+		presente = Arrays.copyOf(presente, capacidad);
+	}
+
+	public boolean searchVertex(int v) {
+		return v >= 0 && v < rango && presente[v];
+	}
+
+	/**
+	 * Inserta una arista con peso 1.
+	 */
+	public void insertEdge(int origen, int destino) {
+		insertEdgeWeight(origen, destino, 1);
+	}
+
+	/**
+	 * Inserta una arista con peso si no existe previamente.
+	 * En grafos no dirigidos también inserta la inversa.
+	 */
+	public void insertEdgeWeight(int origen, int destino, int weight) {
+		if (!searchVertex(origen)) {
+			throw new IllegalArgumentException("El vértice de origen " + origen + " no existe.");
+		}
+		if (!searchVertex(destino)) {
+			throw new IllegalArgumentException("El vértice de destino " + destino + " no existe.");
+		}
+		if (posicion(origen, destino) < 0) agregar(origen, destino, weight);
+		if (!isDirected && posicion(destino, origen) < 0) agregar(destino, origen, weight);
+	}
+
+	private void agregar(int u, int v, int w) {
+		int g = grado[u];
+		if (g == destinos[u].length) {
+			int capacidad = Math.max(4, g * 2);
+			destinos[u] = Arrays.copyOf(destinos[u], capacidad);
+			pesos[u] = Arrays.copyOf(pesos[u], capacidad);
+		}
+		destinos[u][g] = v;
+		pesos[u][g] = w;
+		grado[u] = g + 1;
+		numAristas++;
+		modCount++;
+	}
+
+	/* Índice de la arista u -> v en la adyacencia de u, -1 si no existe */
+	private int posicion(int u, int v) {
+		int[] d = destinos[u];
+		for (int i = 0; i < grado[u]; i++) {
+			if (d[i] == v) return i;
+		}
+		return -1;
+	}
+
+	public boolean searchEdge(int origen, int destino) {
+		return searchVertex(origen) && searchVertex(destino) && posicion(origen, destino) >= 0;
+	}
+
+	/**
+	 * Elimina la arista (y la inversa en grafos no dirigidos).
+	 *
+	 * @return true si existía
+	 */
+	public boolean removeEdge(int origen, int destino) {
+		if (!searchVertex(origen) || !searchVertex(destino)) return false;
+		boolean quitada = quitar(origen, destino);
+		if (!isDirected) quitar(destino, origen);
+		return quitada;
+	}
+
+	private boolean quitar(int u, int v) {
+		int i = posicion(u, v);
+		if (i < 0) return false;
+		int ultimo = --grado[u];
+		destinos[u][i] = destinos[u][ultimo];
+		pesos[u][i] = pesos[u][ultimo];
+		numAristas--;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Elimina el vértice y todas las aristas que llegan o salen de él.
+	 * En grafos dirigidos las entrantes se buscan en todos los vértices.
+	 *
+	 * @return true si el vértice existía
+	 */
+	public boolean removeVertex(int v) {
+		if (!searchVertex(v)) return false;
+		if (isDirected) {
+			for (int u = 0; u < rango; u++) {
+				if (u != v && presente[u]) quitar(u, v);
+			}
+		} else {
+			for (int i = 0; i < grado[v]; i++) {
+				if (destinos[v][i] != v) quitar(destinos[v][i], v);
+			}
+		}
+		numAristas -= grado[v];
+		grado[v] = 0;
+		destinos[v] = null;
+		pesos[v] = null;
+		presente[v] = false;
+		numVertices--;
+		while (rango > 0 && !presente[rango - 1]) rango--;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * @return Contador de modificaciones (ver GraphLink.getVersion())
+	 */
+	public long getVersion() {
+		return modCount;
+	}
+
+	public boolean isDirected() {
+		return isDirected;
+	}
+
+	/**
+	 * @return Cantidad de vértices presentes
+	 */
+	public int getNumVertices() {
+		return numVertices;
+	}
+
+	/**
+	 * @return Cantidad de aristas guardadas (en no dirigidos, cada una cuenta dos veces)
+	 */
+	public int getEdgeCount() {
+		return numAristas;
+	}
+
+	/**
+	 * @return Rango de ids (mayor id presente + 1)
+	 */
+	@Override
+	public int getVertexCount() {
+		return rango;
+	}
+
+	@Override
+	public int degree(int v) {
+		return grado[v];
+	}
+
+	@Override
+	public int target(int v, int i) {
+		return destinos[v][i];
+	}
+
+	@Override
+	public int weight(int v, int i) {
+		return pesos[v][i];
+	}
+
+	/**
+	 * @param v Id del vértice
+	 * @return Cantidad de aristas salientes, -1 si no existe
+	 */
+	public int getNodeDegree(int v) {
+		return searchVertex(v) ? grado[v] : -1;
+	}
+
+	/**
+	 * Recorrido BFS que entrega cada id al visitor en orden de visita.
+	 *
+	 * @param visitor Recibe cada id; si retorna false el recorrido se detiene
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean bfs(int origen, IntPredicate visitor) {
+		if (!searchVertex(origen)) return false;
+		GraphViewSearch.bfs(this, origen, visitor);
+		return true;
+	}
+
+	/**
+	 * Recorrido DFS que entrega cada id al visitor en orden de descubrimiento.
+	 *
+	 * @param visitor Recibe cada id; si retorna false el recorrido se detiene
+	 * @return true si se realizó el recorrido, false si el vértice no existe
+	 */
+	public boolean dfs(int origen, IntPredicate visitor) {
+		if (!searchVertex(origen)) return false;
+		GraphViewSearch.dfs(this, origen, visitor);
+		return true;
+	}
+
+	/**
+	 * Camino más corto en número de aristas.
+	 *
+	 * @return Ids del camino desde el origen hasta el destino, vacío si no existe
+	 */
+	public int[] shortPath(int origen, int destino) {
+		if (!searchVertex(origen) || !searchVertex(destino)) return VACIO;
+		return GraphViewSearch.shortPath(this, origen, destino);
+	}
+
+	/**
+	 * Camino de menor peso entre dos vértices; se detiene al asentar el destino.
+	 * Requiere pesos no negativos.
+	 *
+	 * @return Ids del camino desde el origen hasta el destino, vacío si no existe
+	 */
+	public int[] Dijkstra(int origen, int destino) {
+		if (!searchVertex(origen) || !searchVertex(destino)) return VACIO;
+		return GraphViewSearch.dijkstraPath(this, origen, destino);
+	}
+
+	/**
+	 * Dijkstra uno-a-todos. Requiere pesos no negativos.
+	 *
+	 * @return Distancias indexadas por id (-1 si no se alcanza o no existe), null si el origen no existe
+	 */
+	public int[] Dijkstra(int origen) {
+		if (!searchVertex(origen)) return null;
+		return GraphViewSearch.dijkstra(this, origen);
+	}
+
+	/**
+	 * @return Ids presentes en orden creciente (orden de filas y columnas de las matrices)
+	 */
+	public int[] getVertexOrder() {
+		int[] orden = new int[numVertices];
+		int k = 0;
+		for (int v = 0; v < rango; v++) {
+			if (presente[v]) orden[k++] = v;
+		}
+		return orden;
+	}
+
+	/**
+	 * Matriz de adyacencia en el orden de getVertexOrder().
+	 * En la matriz: 0 = no hay arista, peso = hay arista con ese peso
+	 */
+	public int[][] getAdjacencyMatrix() {
+		return matriz(false);
+	}
+
+	/**
+	 * Matriz de adyacencia binaria en el orden de getVertexOrder().
+	 * En la matriz: 0 = no hay arista, 1 = hay arista
+	 */
+	public int[][] getBinaryAdjacencyMatrix() {
+		return matriz(true);
+	}
+
+	private int[][] matriz(boolean binaria) {
+		int[] orden = getVertexOrder();
+		/* Posición de cada id en el orden, para ubicar columnas en O(1) */
+		int[] fila = new int[rango];
+		for (int i = 0; i < orden.length; i++) {
+			fila[orden[i]] = i;
+		}
+		int[][] matrix = new int[orden.length][orden.length];
+		for (int i = 0; i < orden.length; i++) {
+			int u = orden[i];
+			for (int k = 0; k < grado[u]; k++) {
+				matrix[i][fila[destinos[u][k]]] = binaria ? 1 : pesos[u][k];
+			}
+		}
+		return matrix;
+	}
+
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int v = 0; v < rango; v++) {
+			if (!presente[v]) continue;
+			if (sb.length() > 0) sb.append(", ");
+			sb.append(v).append("-->");
+			for (int i = 0; i < grado[v]; i++) {
+				if (i > 0) sb.append(", ");
+				sb.append(destinos[v][i]).append("(").append(pesos[v][i]).append(")");
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,53 @@
+package graph;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Convierte las etiquetas de los vértices a bytes y de vuelta, para
+ * guardarlas en un GraphFile. Dos etiquetas iguales deben dar los mismos
+ * bytes, porque el diccionario del archivo compara bytes.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public interface LabelCodec<E> {
+	/** Etiquetas String en UTF-8 */
+	LabelCodec<String> STRING = new LabelCodec<String>() {
+		public int tag() {
+			return 1;
+		}
+
+		public byte[] encode(String label) {
+			return label.getBytes(StandardCharsets.UTF_8);
+		}
+
+		public String decode(byte[] bytes) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
+	/** Etiquetas Integer en 4 bytes big-endian */
+	LabelCodec<Integer> INTEGER = new LabelCodec<Integer>() {
+		public int tag() {
+			return 2;
+		}
+
+		public byte[] encode(Integer label) {
+			int v = label;
+			return new byte[] { (byte) (v >>> 24), (byte) (v >>> 16), (byte) (v >>> 8), (byte) v };
+		}
+
+		public Integer decode(byte[] bytes) {
+			return (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+		}
+	};
+
+	/**
+	 * @return Identificador del formato de las etiquetas; se guarda en el
+	 *         archivo y se verifica al abrirlo (1 y 2 están reservados)
+	 */
+	int tag();
+
+	byte[] encode(E label);
+
+	E decode(byte[] bytes);
+}
@@ -0,0 +1,49 @@
+package graph;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Convierte un campo de texto de una lista de aristas (bytes UTF-8 de la
+ * línea) en la etiqueta del vértice, sin pasar por String.split.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public interface LabelParser<E> {
+	/** El campo tal cual, como String */
+	LabelParser<String> STRING = (b, desde, hasta) -> new String(b, desde, hasta - desde, StandardCharsets.UTF_8);
+
+	/** Entero decimal con signo opcional, leído sin crear un String */
+	LabelParser<Integer> INTEGER = (b, desde, hasta) -> parseInt(b, desde, hasta);
+
+	/**
+	 * @param b Bytes del búfer de lectura
+	 * @param desde Primer byte del campo (sin separadores ni espacios)
+	 * @param hasta Fin exclusivo del campo
+	 * @return Etiqueta del vértice
+	 * @throws IllegalArgumentException Si el campo no tiene el formato esperado
+	 */
+	E parse(byte[] b, int desde, int hasta);
+
+	/**
+	 * Lee un entero decimal de un rango de bytes ASCII.
+	 *
+	 * @throws IllegalArgumentException Si el rango está vacío, tiene otros caracteres o desborda un int
+	 */
+	static int parseInt(byte[] b, int desde, int hasta) {
+		boolean negativo = desde < hasta && b[desde] == '-';
+		int i = negativo || (desde < hasta && b[desde] == '+') ? desde + 1 : desde;
+		if (i == hasta) throw new IllegalArgumentException("Número vacío");
+		long valor = 0;
+		for (; i < hasta; i++) {
+			int d = b[i] - '0';
+			if (d < 0 || d > 9) {
+				throw new IllegalArgumentException("Número inválido: " + new String(b, desde, hasta - desde, StandardCharsets.UTF_8));
+			}
+			valor = valor * 10 + d;
+			if (valor > Integer.MAX_VALUE + 1L) throw new IllegalArgumentException("Número fuera de rango");
+		}
+		valor = negativo ? -valor : valor;
+		if (valor > Integer.MAX_VALUE) throw new IllegalArgumentException("Número fuera de rango");
+		return (int) valor;
+	}
+}
@@ -0,0 +1,263 @@
+package graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Índice de landmarks (ALT) que da cotas inferiores para A*.
+ *
+ * Para cada landmark L se guardan las distancias L -> v y v -> L de todos los
+ * vértices. Por desigualdad triangular, d(v, t) >= d(L, t) - d(L, v) y
+ * d(v, t) >= d(v, L) - d(t, L); la heurística es el máximo sobre los landmarks.
+ *
+ * Los landmarks se eligen por punto más lejano (en saltos): cada uno es el
+ * vértice más alejado de los ya elegidos, lo que también cubre componentes
+ * no alcanzadas. La elección es secuencial; las distancias se calculan en
+ * paralelo con una tarea por landmark y dirección.
+ *
+ * El índice se puede guardar en disco y volver a cargar para el mismo grafo;
+ * al cargarlo se verifica una huella de la instantánea CSR.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class LandmarkIndex<E extends Comparable<E>> implements Heuristic {
+	private static final int MAGIC = 0x414C5431; // "ALT1"
+	private static final int VERSION = 1;
+
+	private final CsrGraph<E> graph;
+	private final int[] landmarks;
+	/* desde[i][v] = d(L_i, v), hacia[i][v] = d(v, L_i); Integer.MAX_VALUE si no hay camino */
+	private final int[][] desde;
+	private final int[][] hacia;
+
+	private LandmarkIndex(CsrGraph<E> graph, int[] landmarks, int[][] desde, int[][] hacia) {
+		this.graph = graph;
+		this.landmarks = landmarks;
+		this.desde = desde;
+		this.hacia = hacia;
+	}
+
+	/**
+	 * Construye el índice sobre el estado actual del grafo.
+	 *
+	 * @param graph Grafo con pesos no negativos
+	 * @param k Cantidad de landmarks
+	 * @return Índice sobre una instantánea nueva (ver getGraph())
+	 */
+	public static <E extends Comparable<E>> LandmarkIndex<E> build(GraphLink<E> graph, int k) {
+		return build(graph.freeze(), k, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param graph Instantánea CSR con pesos no negativos
+	 * @param k Cantidad de landmarks (se limita a la cantidad de vértices)
+	 * @param pool Pool donde se calculan las distancias de cada landmark
+	 * @return Índice sobre la instantánea dada
+	 */
+	public static <E extends Comparable<E>> LandmarkIndex<E> build(CsrGraph<E> graph, int k, ForkJoinPool pool) {
+		if (k < 1) throw new IllegalArgumentException("Se necesita al menos un landmark");
+		int[] landmarks = elegirLandmarks(graph, Math.min(k, graph.getVertexCount()), pool);
+		int[][] desde = new int[landmarks.length][];
+		/* En no dirigidos d(L, v) == d(v, L): ambas direcciones comparten arreglos */
+		int[][] hacia = graph.isDirected() ? new int[landmarks.length][] : desde;
+
+		/* Una tarea por landmark y dirección */
+		CsrGraph<E> transpuesto = graph.isDirected() ? graph.transpose() : null;
+		RecursiveAction[] tareas = new RecursiveAction[graph.isDirected() ? 2 * landmarks.length : landmarks.length];
+		for (int i = 0; i < landmarks.length; i++) {
+			tareas[i] = new Distancias(graph, landmarks[i], desde, i);
+			if (transpuesto != null) tareas[landmarks.length + i] = new Distancias(transpuesto, landmarks[i], hacia, i);
+		}
+		for (RecursiveAction tarea : tareas) {
+			pool.execute(tarea);
+		}
+		for (RecursiveAction tarea : tareas) {
+			tarea.join();
+		}
+		return new LandmarkIndex<>(graph, landmarks, desde, hacia);
+	}
+
+	/* Punto más lejano en saltos: cada landmark maximiza la distancia mínima a los anteriores */
+	private static int[] elegirLandmarks(CsrGraph<?> graph, int k, ForkJoinPool pool) {
+		int n = graph.getVertexCount();
+		int[] elegidos = new int[k];
+		if (k == 0) return elegidos;
+		ParallelBfs<?> bfs = new ParallelBfs<>(graph, pool);
+		int[] minima = new int[n];
+		Arrays.fill(minima, Integer.MAX_VALUE);
+
+		/* El primero es el vértice más lejano del vértice 0 */
+		int[] niveles = bfs.run(0).getLevels();
+		int primero = 0;
+		for (int v = 0; v < n; v++) {
+			if (niveles[v] > niveles[primero]) primero = v;
+		}
+		elegidos[0] = primero;
+		for (int i = 1; i <= k; i++) {
+			niveles = bfs.run(elegidos[i - 1]).getLevels();
+			for (int v = 0; v < n; v++) {
+				if (niveles[v] >= 0 && niveles[v] < minima[v]) minima[v] = niveles[v];
+			}
+			if (i == k) break;
+			int siguiente = 0;
+			for (int v = 1; v < n; v++) {
+				if (minima[v] > minima[siguiente]) siguiente = v;
+			}
+			elegidos[i] = siguiente;
+		}
+		return elegidos;
+	}
+
+	/* Distancias de un landmark a todos los vértices sobre el grafo dado */
+	@SuppressWarnings("serial")
+	private static class Distancias extends RecursiveAction {
+		private final CsrGraph<?> graph;
+		private final int landmark;
+		private final int[][] destino;
+		private final int indice;
+
+		Distancias(CsrGraph<?> graph, int landmark, int[][] destino, int indice) {
+			this.graph = graph;
+			this.landmark = landmark;
+			this.destino = destino;
+			this.indice = indice;
+		}
+
+		@Override
+		protected void compute() {
+			ShortestPathTree<?> arbol = graph.dijkstraById(landmark);
+			int[] dist = new int[graph.getVertexCount()];
+			for (int v = 0; v < dist.length; v++) {
+				dist[v] = arbol.getDistanceById(v);
+			}
+			destino[indice] = dist;
+		}
+	}
+
+	/**
+	 * Cota inferior de d(v, destino) por desigualdad triangular.
+	 * Los términos con distancias infinitas se omiten.
+	 */
+	@Override
+	public int estimate(int v, int destino) {
+		int mejor = 0;
+		for (int i = 0; i < landmarks.length; i++) {
+			int[] d = desde[i];
+			if (d[v] != Integer.MAX_VALUE && d[destino] != Integer.MAX_VALUE) {
+				mejor = Math.max(mejor, d[destino] - d[v]);
+			}
+			int[] h = hacia[i];
+			if (h[v] != Integer.MAX_VALUE && h[destino] != Integer.MAX_VALUE) {
+				mejor = Math.max(mejor, h[v] - h[destino]);
+			}
+		}
+		return mejor;
+	}
+
+	/**
+	 * @return Instantánea sobre la que se calcularon las distancias; las
+	 *         búsquedas que usen este índice deben hacerse sobre ella
+	 */
+	public CsrGraph<E> getGraph() {
+		return graph;
+	}
+
+	/**
+	 * @return Datos de los vértices elegidos como landmarks
+	 */
+	public E[] getLandmarks() {
+		@SuppressWarnings("unchecked")
+		E[] datos = (E[]) new Comparable<?>[landmarks.length];
+		for (int i = 0; i < landmarks.length; i++) {
+			datos[i] = graph.labelOf(landmarks[i]);
+		}
+		return datos;
+	}
+
+	/**
+	 * Guarda el índice en disco (sin el grafo, solo su huella).
+	 *
+	 * @param archivo Ruta del archivo a escribir
+	 */
+	public void save(Path archivo) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archivo)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(graph.getVertexCount());
+			out.writeLong(huella(graph));
+			out.writeBoolean(hacia != desde);
+			out.writeInt(landmarks.length);
+			for (int i = 0; i < landmarks.length; i++) {
+				out.writeInt(landmarks[i]);
+				escribir(out, desde[i]);
+				if (hacia != desde) escribir(out, hacia[i]);
+			}
+		}
+	}
+
+	/**
+	 * Carga un índice guardado con save() para la misma instantánea.
+	 *
+	 * @param archivo Ruta del archivo a leer
+	 * @param graph Instantánea CSR del grafo (por ejemplo, GraphLink.freeze())
+	 * @return Índice listo para usar como heurística
+	 * @throws IOException Si el archivo no es válido o corresponde a otro grafo
+	 */
+	public static <E extends Comparable<E>> LandmarkIndex<E> load(Path archivo, CsrGraph<E> graph) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(archivo)))) {
+			if (in.readInt() != MAGIC) throw new IOException("No es un índice de landmarks");
+			if (in.readInt() != VERSION) throw new IOException("Versión de índice no soportada");
+			int n = in.readInt();
+			if (n != graph.getVertexCount() || in.readLong() != huella(graph)) {
+				throw new IOException("El índice no corresponde al grafo");
+			}
+			boolean separados = in.readBoolean();
+			int k = in.readInt();
+			int[] landmarks = new int[k];
+			int[][] desde = new int[k][];
+			int[][] hacia = separados ? new int[k][] : desde;
+			for (int i = 0; i < k; i++) {
+				landmarks[i] = in.readInt();
+				desde[i] = leer(in, n);
+				if (separados) hacia[i] = leer(in, n);
+			}
+			return new LandmarkIndex<>(graph, landmarks, desde, hacia);
+		}
+	}
+
+	private static void escribir(DataOutputStream out, int[] datos) throws IOException {
+		for (int x : datos) {
+			out.writeInt(x);
+		}
+	}
+
+	private static int[] leer(DataInputStream in, int n) throws IOException {
+		int[] datos = new int[n];
+		for (int i = 0; i < n; i++) {
+			datos[i] = in.readInt();
+		}
+		return datos;
+	}
+
+	/* Huella FNV-1a de la estructura y los pesos del grafo */
+	private static long huella(CsrGraph<?> graph) {
+		long h = 0xcbf29ce484222325L;
+		int n = graph.getVertexCount();
+		for (int v = 0; v < n; v++) {
+			h = (h ^ graph.degree(v)) * 0x100000001b3L;
+			for (int i = 0; i < graph.degree(v); i++) {
+				h = (h ^ graph.target(v, i)) * 0x100000001b3L;
+				h = (h ^ graph.weight(v, i)) * 0x100000001b3L;
+			}
+		}
+		return h;
+	}
+}
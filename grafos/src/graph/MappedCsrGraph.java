@@ -0,0 +1,94 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grafo CSR de solo lectura guardado en un archivo y mapeado en memoria
+ * (FileChannel.map), fuera del heap de la JVM.
+ *
+ * Los arreglos offsets, targets y weights se leen directamente de las
+ * páginas del archivo: el heap solo contiene los encabezados de los búferes,
+ * así que el uso de heap y las pausas del recolector no crecen con la
+ * cantidad de aristas, y el sistema operativo puede descartar páginas frías.
+ * Implementa GraphView, por lo que sirve a DfsEngine y a GraphViewSearch.
+ *
+ * El formato del archivo está descrito en GraphFile; este grafo solo usa la
+ * sección de estructura (offsets, targets, weights). Cada región se mapea en trozos de hasta 1 GB, por lo que
+ * admite más de 2^31 bytes por arreglo. La memoria mapeada se libera cuando
+ * el objeto es recolectado.
+ */
+public class MappedCsrGraph implements GraphView {
+	private final int n;
+	private final long m;
+	private final boolean isDirected;
+	private final MappedRegion offsets;
+	private final MappedRegion targets;
+	private final MappedRegion weights;
+
+	/* Mapea la estructura de un archivo cuyo encabezado ya fue validado */
+	MappedCsrGraph(FileChannel canal, GraphFile.Encabezado enc) throws IOException {
+		this.n = enc.n;
+		this.m = enc.m;
+		this.isDirected = (enc.flags & 1) != 0;
+		this.offsets = MappedRegion.map(canal, GraphFile.Encabezado.TAMAÑO, n + 1L, 3);
+		this.targets = MappedRegion.map(canal, enc.inicioTargets(), m, 2);
+		this.weights = MappedRegion.map(canal, enc.inicioWeights(), m, 2);
+	}
+
+	/**
+	 * Escribe cualquier GraphView en el formato del archivo mapeado, sin
+	 * diccionario de etiquetas. Recorre el grafo tres veces y no arma copias
+	 * en memoria, así que también sirve para grafos generados al vuelo.
+	 *
+	 * @param graph Grafo a guardar (ids 0..getVertexCount()-1)
+	 * @param isDirected Marca de dirigido que se guarda en el encabezado
+	 * @param archivo Ruta del archivo a escribir (se reemplaza si existe)
+	 */
+	public static void write(GraphView graph, boolean isDirected, Path archivo) throws IOException {
+		GraphFile.write(graph, isDirected, null, null, archivo);
+	}
+
+	/**
+	 * Mapea la estructura de un archivo escrito con write() o GraphFile.write().
+	 *
+	 * @param archivo Ruta del archivo
+	 * @return Grafo de solo lectura respaldado por el archivo
+	 * @throws IOException Si el archivo no tiene el formato esperado
+	 */
+	public static MappedCsrGraph open(Path archivo) throws IOException {
+		try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+			return new MappedCsrGraph(canal, GraphFile.Encabezado.leer(canal));
+		}
+	}
+
+	@Override
+	public int getVertexCount() {
+		return n;
+	}
+
+	public long getEdgeCount() {
+		return m;
+	}
+
+	public boolean isDirected() {
+		return isDirected;
+	}
+
+	@Override
+	public int degree(int v) {
+		return (int) (offsets.getLong(v + 1L) - offsets.getLong(v));
+	}
+
+	@Override
+	public int target(int v, int i) {
+		return targets.getInt(offsets.getLong(v) + i);
+	}
+
+	@Override
+	public int weight(int v, int i) {
+		return weights.getInt(offsets.getLong(v) + i);
+	}
+}
@@ -0,0 +1,72 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Región de un archivo mapeada en memoria y leída como arreglo de elementos
+ * de 2^escala bytes (little-endian). Se mapea en trozos de hasta 1 GB, por lo
+ * que la región puede superar los 2^31 bytes de un solo MappedByteBuffer.
+ */
+final class MappedRegion {
+	/* Bytes por trozo mapeado */
+	private static final int BITS_TROZO = 30;
+
+	private final ByteBuffer[] trozos;
+	private final int escala;
+	private final int bitsElementos;
+	private final int mascara;
+
+	private MappedRegion(ByteBuffer[] trozos, int escala) {
+		this.trozos = trozos;
+		this.escala = escala;
+		this.bitsElementos = BITS_TROZO - escala;
+		this.mascara = (1 << bitsElementos) - 1;
+	}
+
+	/**
+	 * @param inicio Posición en bytes del primer elemento
+	 * @param elementos Cantidad de elementos
+	 * @param escala log2 del tamaño del elemento (0 = byte, 2 = int, 3 = long)
+	 */
+	static MappedRegion map(FileChannel canal, long inicio, long elementos, int escala) throws IOException {
+		long bytes = elementos << escala;
+		int cantidad = (int) ((bytes + (1L << BITS_TROZO) - 1) >>> BITS_TROZO);
+		ByteBuffer[] trozos = new ByteBuffer[cantidad];
+		for (int k = 0; k < cantidad; k++) {
+			long desde = (long) k << BITS_TROZO;
+			long largo = Math.min(1L << BITS_TROZO, bytes - desde);
+			trozos[k] = canal.map(FileChannel.MapMode.READ_ONLY, inicio + desde, largo).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new MappedRegion(trozos, escala);
+	}
+
+	int getInt(long i) {
+		return trozos[(int) (i >>> bitsElementos)].getInt(((int) i & mascara) << escala);
+	}
+
+	long getLong(long i) {
+		return trozos[(int) (i >>> bitsElementos)].getLong(((int) i & mascara) << escala);
+	}
+
+	byte getByte(long i) {
+		return trozos[(int) (i >>> bitsElementos)].get((int) i & mascara);
+	}
+
+	/**
+	 * Copia bytes de una región de bytes (escala 0) aunque crucen de trozo.
+	 */
+	void getBytes(long desde, byte[] destino) {
+		int copiados = 0;
+		while (copiados < destino.length) {
+			long pos = desde + copiados;
+			ByteBuffer trozo = trozos[(int) (pos >>> BITS_TROZO)];
+			int enTrozo = (int) pos & mascara;
+			int cantidad = Math.min(destino.length - copiados, trozo.capacity() - enTrozo);
+			trozo.get(enTrozo, destino, copiados, cantidad);
+			copiados += cantidad;
+		}
+	}
+}
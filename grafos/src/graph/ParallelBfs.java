@@ -0,0 +1,255 @@
+package graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BFS paralelo por niveles con optimización de dirección (Beamer et al.).
+ *
+ * Cada nivel reparte la frontera entre las tareas de un ForkJoinPool y elige
+ * el paso más barato:
+ * - Top-down: cada vértice de la frontera reclama a sus vecinos no visitados
+ *   con compare-and-set sobre el arreglo de niveles.
+ * - Bottom-up: cada vértice no visitado busca entre sus vecinos entrantes
+ *   alguno que esté en la frontera (un bitset) y se detiene en el primero.
+ * Se pasa a bottom-up cuando las aristas de la frontera superan a las
+ * aristas sin explorar divididas por alpha, y se vuelve a top-down cuando la
+ * frontera cae por debajo de n / beta.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class ParallelBfs<E extends Comparable<E>> {
+	private static final VarHandle LEVEL = MethodHandles.arrayElementVarHandle(int[].class);
+
+	/* Tamaño mínimo de un bloque de trabajo (múltiplo de 64 para el bitset) */
+	private static final int GRANO = 1024;
+
+	private final CsrGraph<E> out;
+	private final CsrGraph<E> in;
+	private final ForkJoinPool pool;
+	private int alpha = 14;
+	private int beta = 24;
+
+	public ParallelBfs(CsrGraph<E> graph) {
+		this(graph, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param graph Grafo a recorrer
+	 * @param pool Pool donde se ejecutan las tareas de cada nivel
+	 */
+	public ParallelBfs(CsrGraph<E> graph, ForkJoinPool pool) {
+		this.out = graph;
+		/* El paso bottom-up necesita las aristas entrantes */
+		this.in = graph.isDirected() ? graph.transpose() : graph;
+		this.pool = pool;
+	}
+
+	/**
+	 * @param alpha Umbral para pasar a bottom-up (por defecto 14)
+	 */
+	public void setAlpha(int alpha) {
+		if (alpha < 1) throw new IllegalArgumentException("alpha debe ser positivo");
+		this.alpha = alpha;
+	}
+
+	/**
+	 * @param beta Umbral para volver a top-down (por defecto 24)
+	 */
+	public void setBeta(int beta) {
+		if (beta < 1) throw new IllegalArgumentException("beta debe ser positivo");
+		this.beta = beta;
+	}
+
+	/**
+	 * Ejecuta el BFS desde un vértice.
+	 *
+	 * @param origen Vértice de inicio
+	 * @return Niveles y padres de cada vértice, null si el origen no existe
+	 */
+	public BfsResult<E> run(E origen) {
+		int s = out.indexOf(origen);
+		if (s < 0) return null;
+		return run(s);
+	}
+
+	/**
+	 * Ejecuta el BFS desde un id de vértice.
+	 *
+	 * @param s Id del vértice de inicio
+	 * @return Niveles y padres de cada vértice
+	 */
+	public BfsResult<E> run(int s) {
+		int n = out.getVertexCount();
+		int palabras = (n + 63) >>> 6;
+		int[] level = new int[n];
+		int[] parent = new int[n];
+		Arrays.fill(level, -1);
+		Arrays.fill(parent, -1);
+		level[s] = 0;
+
+		int[] frontera = new int[n];
+		int[] siguiente = new int[n];
+		long[] bitmap = null;
+		frontera[0] = s;
+		int tamFrontera = 1;
+		int alcanzados = 1;
+		boolean bottomUp = false;
+
+		long aristasFrontera = out.degree(s);
+		long aristasSinExplorar = out.getEdgeCount() - aristasFrontera;
+		int nivel = 0;
+
+		LongAdder contador = new LongAdder();
+		LongAdder aristas = new LongAdder();
+
+		while (tamFrontera > 0) {
+			/* Elegir dirección según el tamaño de la frontera */
+			if (!bottomUp && aristasFrontera > aristasSinExplorar / alpha) {
+				bottomUp = true;
+				bitmap = new long[palabras];
+				for (int i = 0; i < tamFrontera; i++) {
+					bitmap[frontera[i] >>> 6] |= 1L << frontera[i];
+				}
+			} else if (bottomUp && tamFrontera < n / beta) {
+				bottomUp = false;
+				tamFrontera = 0;
+				for (int w = 0; w < palabras; w++) {
+					for (long bits = bitmap[w]; bits != 0; bits &= bits - 1) {
+						frontera[tamFrontera++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+					}
+				}
+			}
+
+			nivel++;
+			contador.reset();
+			aristas.reset();
+			if (bottomUp) {
+				long[] proximo = new long[palabras];
+				pool.invoke(new BottomUp(0, n, bitmap, proximo, level, parent, nivel, contador, aristas));
+				bitmap = proximo;
+				tamFrontera = contador.intValue();
+			} else {
+				AtomicInteger fin = new AtomicInteger();
+				pool.invoke(new TopDown(frontera, 0, tamFrontera, siguiente, fin, level, parent, nivel, aristas));
+				int[] aux = frontera;
+				frontera = siguiente;
+				siguiente = aux;
+				tamFrontera = fin.get();
+			}
+			alcanzados += tamFrontera;
+			aristasFrontera = aristas.sum();
+			aristasSinExplorar -= aristasFrontera;
+		}
+		return new BfsResult<>(out, s, level, parent, alcanzados, nivel - 1);
+	}
+
+	/* Paso top-down sobre un rango de la frontera */
+	@SuppressWarnings("serial")
+	private class TopDown extends RecursiveAction {
+		private final int[] frontera, siguiente, level, parent;
+		private final int desde, hasta, nivel;
+		private final AtomicInteger fin;
+		private final LongAdder aristas;
+
+		TopDown(int[] frontera, int desde, int hasta, int[] siguiente, AtomicInteger fin,
+				int[] level, int[] parent, int nivel, LongAdder aristas) {
+			this.frontera = frontera;
+			this.desde = desde;
+			this.hasta = hasta;
+			this.siguiente = siguiente;
+			this.fin = fin;
+			this.level = level;
+			this.parent = parent;
+			this.nivel = nivel;
+			this.aristas = aristas;
+		}
+
+		@Override
+		protected void compute() {
+			if (hasta - desde > GRANO) {
+				int medio = (desde + hasta) >>> 1;
+				invokeAll(new TopDown(frontera, desde, medio, siguiente, fin, level, parent, nivel, aristas),
+						new TopDown(frontera, medio, hasta, siguiente, fin, level, parent, nivel, aristas));
+				return;
+			}
+			/* Descubrir en un búfer local y publicarlo con una sola reserva */
+			int[] local = new int[64];
+			int cuenta = 0;
+			long grados = 0;
+			for (int i = desde; i < hasta; i++) {
+				int u = frontera[i];
+				int grado = out.degree(u);
+				for (int k = 0; k < grado; k++) {
+					int v = out.target(u, k);
+					if ((int) LEVEL.getOpaque(level, v) == -1 && LEVEL.compareAndSet(level, v, -1, nivel)) {
+						parent[v] = u;
+						if (cuenta == local.length) local = Arrays.copyOf(local, cuenta * 2);
+						local[cuenta++] = v;
+						grados += out.degree(v);
+					}
+				}
+			}
+			int pos = fin.getAndAdd(cuenta);
+			System.arraycopy(local, 0, siguiente, pos, cuenta);
+			aristas.add(grados);
+		}
+	}
+
+	/* Paso bottom-up sobre un rango de vértices alineado a 64 */
+	@SuppressWarnings("serial")
+	private class BottomUp extends RecursiveAction {
+		private final int desde, hasta, nivel;
+		private final long[] frontera, proximo;
+		private final int[] level, parent;
+		private final LongAdder contador, aristas;
+
+		BottomUp(int desde, int hasta, long[] frontera, long[] proximo, int[] level, int[] parent,
+				int nivel, LongAdder contador, LongAdder aristas) {
+			this.desde = desde;
+			this.hasta = hasta;
+			this.frontera = frontera;
+			this.proximo = proximo;
+			this.level = level;
+			this.parent = parent;
+			this.nivel = nivel;
+			this.contador = contador;
+			this.aristas = aristas;
+		}
+
+		@Override
+		protected void compute() {
+			if (hasta - desde > GRANO) {
+				/* Cortar en múltiplo de 64 para que cada palabra del bitset tenga un solo dueño */
+				int medio = ((desde + hasta) >>> 1) & ~63;
+				invokeAll(new BottomUp(desde, medio, frontera, proximo, level, parent, nivel, contador, aristas),
+						new BottomUp(medio, hasta, frontera, proximo, level, parent, nivel, contador, aristas));
+				return;
+			}
+			int cuenta = 0;
+			long grados = 0;
+			for (int v = desde; v < hasta; v++) {
+				if (level[v] != -1) continue;
+				int grado = in.degree(v);
+				for (int k = 0; k < grado; k++) {
+					int u = in.target(v, k);
+					if ((frontera[u >>> 6] & (1L << u)) != 0) {
+						level[v] = nivel;
+						parent[v] = u;
+						proximo[v >>> 6] |= 1L << v;
+						cuenta++;
+						grados += out.degree(v);
+						break;
+					}
+				}
+			}
+			contador.add(cuenta);
+			aristas.add(grados);
+		}
+	}
+}
@@ -0,0 +1,306 @@
+package graph;
+
+import ImpHash.HashIndex;
+import ImpStack.StackLink;
+import ListLinked.ListaEnlazada;
+
+/**
+ * Caché LRU de resultados de caminos sobre un GraphLink.
+ *
+ * Guarda caminos en saltos (shortPath), caminos de menor peso (Dijkstra punto
+ * a punto) y árboles uno-a-todos (Dijkstra desde un origen), con la clave de
+ * la consulta. Cada entrada queda asociada a la versión del grafo con la que
+ * se calculó: si el grafo cambia (ver GraphLink.getVersion()), la caché se
+ * vacía en el siguiente acceso en lugar de devolver resultados viejos.
+ *
+ * El tamaño se limita por un presupuesto aproximado de memoria; al superarlo
+ * se descartan las entradas usadas hace más tiempo. Un resultado que por sí
+ * solo excede el presupuesto se devuelve sin guardarse.
+ *
+ * Los caminos se guardan como arreglos y cada acierto entrega una lista o pila
+ * nueva, porque quien la recibe suele consumirla. Los árboles son inmutables y
+ * se comparten. La caché no es segura para uso concurrente.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class PathCache<E extends Comparable<E>> {
+	private static final int CAMINO = 0;
+	private static final int DIJKSTRA = 1;
+	private static final int ARBOL = 2;
+
+	/* Estimación de bytes: encabezado de entrada y clave, más lo que ocupa cada resultado */
+	private static final long BYTES_ENTRADA = 96;
+	private static final long BYTES_POR_ELEMENTO = 8;
+	private static final long BYTES_POR_VERTICE_ARBOL = 12;
+
+	private final GraphLink<E> graph;
+	private final long memoryBudget;
+	private final HashIndex<Clave<E>, Entrada<E>> indice = new HashIndex<>();
+
+	/* Lista doblemente enlazada de uso: cabeza = más reciente, cola = menos reciente */
+	private Entrada<E> cabeza;
+	private Entrada<E> cola;
+	private long version;
+	private long memoryUsed;
+
+	private long hits;
+	private long misses;
+	private long evictions;
+	private long invalidations;
+
+	/**
+	 * @param graph Grafo cuyas consultas se guardan
+	 * @param memoryBudgetBytes Memoria aproximada que pueden ocupar los resultados
+	 */
+	public PathCache(GraphLink<E> graph, long memoryBudgetBytes) {
+		if (graph == null) throw new IllegalArgumentException("El grafo no puede ser null");
+		if (memoryBudgetBytes <= 0) throw new IllegalArgumentException("El presupuesto debe ser positivo");
+		this.graph = graph;
+		this.memoryBudget = memoryBudgetBytes;
+		this.version = graph.getVersion();
+	}
+
+	/**
+	 * Camino más corto en número de aristas (ver GraphLink.shortPath).
+	 *
+	 * @return Lista nueva con el camino, vacía si no existe
+	 */
+	public ListaEnlazada<E> shortPath(E origen, E destino) {
+		Clave<E> clave = new Clave<>(CAMINO, origen, destino);
+		Entrada<E> entrada = buscar(clave);
+		if (entrada == null) {
+			misses++;
+			ListaEnlazada<E> camino = graph.shortPath(origen, destino);
+			Object[] datos = new Object[camino.length()];
+			int i = 0;
+			for (E v : camino) {
+				datos[i++] = v;
+			}
+			entrada = guardar(clave, datos, null, BYTES_ENTRADA + BYTES_POR_ELEMENTO * datos.length);
+		} else {
+			hits++;
+		}
+		ListaEnlazada<E> resultado = new ListaEnlazada<>();
+		for (Object v : entrada.camino) {
+			resultado.insertLast(dato(v));
+		}
+		return resultado;
+	}
+
+	/**
+	 * Camino de menor peso entre dos vértices (ver GraphLink.Dijkstra(E, E)).
+	 * Si hay un árbol guardado para el mismo origen, se responde con él.
+	 *
+	 * @return Pila nueva con el camino (el origen en el tope), vacía si no existe
+	 */
+	public StackLink<E> Dijkstra(E origen, E destino) {
+		Clave<E> clave = new Clave<>(DIJKSTRA, origen, destino);
+		Entrada<E> entrada = buscar(clave);
+		if (entrada == null) {
+			Entrada<E> arbol = buscar(new Clave<>(ARBOL, origen, null));
+			if (arbol != null) {
+				hits++;
+				return arbol.arbol.pathTo(destino);
+			}
+			misses++;
+			StackLink<E> pila = graph.Dijkstra(origen, destino);
+			ListaEnlazada<E> orden = new ListaEnlazada<>();
+			while (!pila.isEmpty()) {
+				orden.insertLast(pila.pop());
+			}
+			Object[] datos = new Object[orden.length()];
+			int i = 0;
+			for (E v : orden) {
+				datos[i++] = v;
+			}
+			entrada = guardar(clave, datos, null, BYTES_ENTRADA + BYTES_POR_ELEMENTO * datos.length);
+		} else {
+			hits++;
+		}
+		StackLink<E> resultado = new StackLink<>();
+		for (int i = entrada.camino.length - 1; i >= 0; i--) {
+			resultado.push(dato(entrada.camino[i]));
+		}
+		return resultado;
+	}
+
+	/**
+	 * Árbol de caminos mínimos desde un origen (ver GraphLink.Dijkstra(E)).
+	 * El árbol devuelto se comparte entre aciertos; es de solo lectura.
+	 *
+	 * @return Árbol de caminos mínimos, null si el origen no existe
+	 */
+	public ShortestPathTree<E> Dijkstra(E origen) {
+		Clave<E> clave = new Clave<>(ARBOL, origen, null);
+		Entrada<E> entrada = buscar(clave);
+		if (entrada != null) {
+			hits++;
+			return entrada.arbol;
+		}
+		misses++;
+		ShortestPathTree<E> arbol = graph.Dijkstra(origen);
+		if (arbol == null) return null;
+		guardar(clave, null, arbol, BYTES_ENTRADA + BYTES_POR_VERTICE_ARBOL * arbol.size());
+		return arbol;
+	}
+
+	/* Valida la versión y, si la clave está, la marca como la más reciente */
+	private Entrada<E> buscar(Clave<E> clave) {
+		long actual = graph.getVersion();
+		if (actual != version) {
+			if (!indice.isEmpty()) invalidations++;
+			vaciar();
+			version = actual;
+		}
+		Entrada<E> entrada = indice.get(clave);
+		if (entrada != null) subirAlFrente(entrada);
+		return entrada;
+	}
+
+	/* Inserta el resultado y descarta las entradas menos recientes hasta caber en el presupuesto */
+	private Entrada<E> guardar(Clave<E> clave, Object[] camino, ShortestPathTree<E> arbol, long bytes) {
+		Entrada<E> entrada = new Entrada<>(clave, camino, arbol, bytes);
+		if (bytes > memoryBudget) return entrada;
+		while (memoryUsed + bytes > memoryBudget) {
+			Entrada<E> victima = cola;
+			desenlazar(victima);
+			indice.remove(victima.clave);
+			memoryUsed -= victima.bytes;
+			evictions++;
+		}
+		indice.put(clave, entrada);
+		enlazarAlFrente(entrada);
+		memoryUsed += bytes;
+		return entrada;
+	}
+
+	private void subirAlFrente(Entrada<E> entrada) {
+		if (entrada == cabeza) return;
+		desenlazar(entrada);
+		enlazarAlFrente(entrada);
+	}
+
+	private void enlazarAlFrente(Entrada<E> entrada) {
+		entrada.anterior = null;
+		entrada.siguiente = cabeza;
+		if (cabeza != null) cabeza.anterior = entrada;
+		cabeza = entrada;
+		if (cola == null) cola = entrada;
+	}
+
+	private void desenlazar(Entrada<E> entrada) {
+		if (entrada.anterior != null) entrada.anterior.siguiente = entrada.siguiente;
+		else cabeza = entrada.siguiente;
+		if (entrada.siguiente != null) entrada.siguiente.anterior = entrada.anterior;
+		else cola = entrada.anterior;
+		entrada.anterior = entrada.siguiente = null;
+	}
+
+	private void vaciar() {
+		indice.clear();
+		cabeza = cola = null;
+		memoryUsed = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E dato(Object v) {
+		return (E) v;
+	}
+
+	/**
+	 * Descarta todas las entradas; los contadores se conservan.
+	 */
+	public void clear() {
+		vaciar();
+	}
+
+	/**
+	 * @return Cantidad de resultados guardados (puede incluir entradas de una
+	 *         versión anterior hasta el siguiente acceso)
+	 */
+	public int size() {
+		return indice.size();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return Entradas descartadas por falta de presupuesto
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * @return Veces que la caché se vació porque el grafo cambió
+	 */
+	public long getInvalidations() {
+		return invalidations;
+	}
+
+	/**
+	 * @return Memoria estimada que ocupan las entradas guardadas, en bytes
+	 */
+	public long getMemoryUsed() {
+		return memoryUsed;
+	}
+
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/* Clave de consulta: tipo, origen y destino (null para árboles) */
+	private static final class Clave<E> {
+		private final int tipo;
+		private final E origen;
+		private final E destino;
+
+		Clave(int tipo, E origen, E destino) {
+			this.tipo = tipo;
+			this.origen = origen;
+			this.destino = destino;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Clave<?>)) return false;
+			Clave<?> otra = (Clave<?>) o;
+			return tipo == otra.tipo && iguales(origen, otra.origen) && iguales(destino, otra.destino);
+		}
+
+		@Override
+		public int hashCode() {
+			int h = tipo;
+			h = 31 * h + (origen == null ? 0 : origen.hashCode());
+			h = 31 * h + (destino == null ? 0 : destino.hashCode());
+			return h;
+		}
+
+		private static boolean iguales(Object a, Object b) {
+			return a == null ? b == null : a.equals(b);
+		}
+	}
+
+	/* Nodo de la lista de uso; guarda un camino o un árbol */
+	private static final class Entrada<E> {
+		private final Clave<E> clave;
+		private final Object[] camino;
+		private final ShortestPathTree<E> arbol;
+		private final long bytes;
+		private Entrada<E> anterior;
+		private Entrada<E> siguiente;
+
+		Entrada(Clave<E> clave, Object[] camino, ShortestPathTree<E> arbol, long bytes) {
+			this.clave = clave;
+			this.camino = camino;
+			this.arbol = arbol;
+			this.bytes = bytes;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package graph;
+
+import ListLinked.ListaEnlazada;
+
+/**
+ * Resultado de una consulta punto a punto: camino, peso y cantidad de
+ * vértices asentados (extraídos de la cola) para medir el trabajo realizado.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class PathResult<E extends Comparable<E>> {
+	private final ListaEnlazada<E> path;
+	private final int distance;
+	private final int settled;
+
+	PathResult(ListaEnlazada<E> path, int distance, int settled) {
+		this.path = path;
+		this.distance = distance;
+		this.settled = settled;
+	}
+
+	public boolean hasPath() {
+		return distance >= 0;
+	}
+
+	/**
+	 * @return Peso del camino mínimo, -1 si no existe camino
+	 */
+	public int getDistance() {
+		return distance;
+	}
+
+	/**
+	 * @return Lista con el camino del origen al destino (vacía si no existe)
+	 */
+	public ListaEnlazada<E> getPath() {
+		return path;
+	}
+
+	/**
+	 * @return Cantidad de vértices asentados por la búsqueda
+	 */
+	public int getSettledCount() {
+		return settled;
+	}
+}
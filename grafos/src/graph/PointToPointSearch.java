@@ -0,0 +1,224 @@
+package graph;
+
+import ImpQueue.PriorityQueueIntHeap;
+import ListLinked.ListaEnlazada;
+
+import java.util.Arrays;
+
+/**
+ * Consultas de camino mínimo entre dos vértices sobre una instantánea CSR:
+ * Dijkstra, Dijkstra bidireccional y A* con heurística del llamador.
+ *
+ * Los arreglos de distancias, padres y colas se reservan una vez y se
+ * reutilizan entre consultas; cada entrada lleva la marca de la consulta que
+ * la escribió, así iniciar una consulta no cuesta O(n). Por eso una instancia
+ * no debe usarse desde varios hilos a la vez.
+ *
+ * Requiere pesos no negativos.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class PointToPointSearch<E extends Comparable<E>> {
+	private final CsrGraph<E> out;
+	private final CsrGraph<E> in;
+
+	/* Búsqueda hacia adelante (desde el origen) */
+	private final int[] distF, padreF, alcanzadoF, asentadoF;
+	private final PriorityQueueIntHeap colaF;
+
+	/* Búsqueda hacia atrás (desde el destino, sobre aristas entrantes) */
+	private final int[] distB, padreB, alcanzadoB, asentadoB;
+	private final PriorityQueueIntHeap colaB;
+
+	private int consulta;
+
+	/**
+	 * @param graph Grafo con pesos no negativos
+	 */
+	public PointToPointSearch(CsrGraph<E> graph) {
+		int n = graph.getVertexCount();
+		this.out = graph;
+		/* La búsqueda hacia atrás necesita las aristas entrantes */
+		this.in = graph.isDirected() ? graph.transpose() : graph;
+		distF = new int[n];
+		padreF = new int[n];
+		alcanzadoF = new int[n];
+		asentadoF = new int[n];
+		colaF = new PriorityQueueIntHeap(n);
+		distB = new int[n];
+		padreB = new int[n];
+		alcanzadoB = new int[n];
+		asentadoB = new int[n];
+		colaB = new PriorityQueueIntHeap(n);
+	}
+
+	/**
+	 * Dijkstra desde el origen hasta extraer el destino.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @return Camino, peso y vértices asentados
+	 */
+	public PathResult<E> dijkstra(E origen, E destino) {
+		int s = out.indexOf(origen);
+		int t = out.indexOf(destino);
+		if (s < 0 || t < 0) return sinCamino(0);
+		iniciar();
+		alcanzar(distF, padreF, alcanzadoF, s, 0, -1);
+		colaF.enqueue(s, 0);
+		int asentados = 0;
+		while (!colaF.isEmpty()) {
+			int u = colaF.dequeue();
+			asentadoF[u] = consulta;
+			asentados++;
+			if (u == t) break;
+			for (int i = 0; i < out.degree(u); i++) {
+				int v = out.target(u, i);
+				if (asentadoF[v] == consulta) continue;
+				int nueva = distF[u] + out.weight(u, i);
+				if (alcanzadoF[v] != consulta || nueva < distF[v]) {
+					alcanzar(distF, padreF, alcanzadoF, v, nueva, u);
+					colaF.updatePriority(v, nueva);
+				}
+			}
+		}
+		if (alcanzadoF[t] != consulta) return sinCamino(asentados);
+		return new PathResult<>(caminoHasta(t, false), distF[t], asentados);
+	}
+
+	/**
+	 * Dijkstra bidireccional: avanza desde el origen y desde el destino,
+	 * expandiendo cada vez la cola más chica, y se detiene cuando la suma de
+	 * los mínimos de ambas colas alcanza al mejor camino encontrado.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @return Camino, peso y vértices asentados (de ambas búsquedas)
+	 */
+	public PathResult<E> bidirectionalDijkstra(E origen, E destino) {
+		int s = out.indexOf(origen);
+		int t = out.indexOf(destino);
+		if (s < 0 || t < 0) return sinCamino(0);
+		iniciar();
+		alcanzar(distF, padreF, alcanzadoF, s, 0, -1);
+		alcanzar(distB, padreB, alcanzadoB, t, 0, -1);
+		colaF.enqueue(s, 0);
+		colaB.enqueue(t, 0);
+
+		/* Mejor camino conocido y el vértice donde se unen ambas mitades */
+		long mejor = s == t ? 0 : Long.MAX_VALUE;
+		int encuentro = s == t ? s : -1;
+		int asentados = 0;
+
+		while (!colaF.isEmpty() && !colaB.isEmpty()) {
+			if ((long) colaF.frontPriority() + colaB.frontPriority() >= mejor) break;
+			boolean adelante = colaF.size() <= colaB.size();
+			CsrGraph<E> grafo = adelante ? out : in;
+			int[] dist = adelante ? distF : distB;
+			int[] padre = adelante ? padreF : padreB;
+			int[] alcanzado = adelante ? alcanzadoF : alcanzadoB;
+			int[] asentado = adelante ? asentadoF : asentadoB;
+			PriorityQueueIntHeap cola = adelante ? colaF : colaB;
+			int[] distOtra = adelante ? distB : distF;
+			int[] alcanzadoOtra = adelante ? alcanzadoB : alcanzadoF;
+
+			int u = cola.dequeue();
+			asentado[u] = consulta;
+			asentados++;
+			for (int i = 0; i < grafo.degree(u); i++) {
+				int v = grafo.target(u, i);
+				if (asentado[v] == consulta) continue;
+				int nueva = dist[u] + grafo.weight(u, i);
+				if (alcanzado[v] != consulta || nueva < dist[v]) {
+					alcanzar(dist, padre, alcanzado, v, nueva, u);
+					cola.updatePriority(v, nueva);
+					/* Si la otra búsqueda ya llegó a v, hay un camino completo por v */
+					if (alcanzadoOtra[v] == consulta && (long) nueva + distOtra[v] < mejor) {
+						mejor = (long) nueva + distOtra[v];
+						encuentro = v;
+					}
+				}
+			}
+		}
+		if (encuentro < 0) return sinCamino(asentados);
+		return new PathResult<>(caminoHasta(encuentro, true), (int) mejor, asentados);
+	}
+
+	/**
+	 * A*: Dijkstra ordenado por distancia + estimación al destino.
+	 * Con una heurística admisible el camino es mínimo; si además es
+	 * consistente, ningún vértice se extrae dos veces.
+	 *
+	 * @param origen Vértice de inicio
+	 * @param destino Vértice de destino
+	 * @param heuristica Cota inferior de la distancia entre ids de vértices
+	 * @return Camino, peso y vértices extraídos de la cola
+	 */
+	public PathResult<E> aStar(E origen, E destino, Heuristic heuristica) {
+		int s = out.indexOf(origen);
+		int t = out.indexOf(destino);
+		if (s < 0 || t < 0) return sinCamino(0);
+		iniciar();
+		alcanzar(distF, padreF, alcanzadoF, s, 0, -1);
+		colaF.enqueue(s, heuristica.estimate(s, t));
+		int asentados = 0;
+		while (!colaF.isEmpty()) {
+			int u = colaF.dequeue();
+			asentados++;
+			if (u == t) break;
+			for (int i = 0; i < out.degree(u); i++) {
+				int v = out.target(u, i);
+				int nueva = distF[u] + out.weight(u, i);
+				/* Sin marca de asentado: una heurística inconsistente puede reabrir vértices */
+				if (alcanzadoF[v] != consulta || nueva < distF[v]) {
+					alcanzar(distF, padreF, alcanzadoF, v, nueva, u);
+					colaF.updatePriority(v, nueva + heuristica.estimate(v, t));
+				}
+			}
+		}
+		if (alcanzadoF[t] != consulta) return sinCamino(asentados);
+		return new PathResult<>(caminoHasta(t, false), distF[t], asentados);
+	}
+
+	/* Nueva consulta: invalida todas las marcas anteriores sin recorrer los arreglos */
+	private void iniciar() {
+		colaF.clear();
+		colaB.clear();
+		if (consulta == Integer.MAX_VALUE) {
+			/* Las marcas volverían a repetirse: limpiar una vez */
+			Arrays.fill(alcanzadoF, 0);
+			Arrays.fill(asentadoF, 0);
+			Arrays.fill(alcanzadoB, 0);
+			Arrays.fill(asentadoB, 0);
+			consulta = 0;
+		}
+		consulta++;
+	}
+
+	private void alcanzar(int[] dist, int[] padre, int[] alcanzado, int v, int d, int p) {
+		dist[v] = d;
+		padre[v] = p;
+		alcanzado[v] = consulta;
+	}
+
+	/*
+	 * Camino origen -> medio por los padres de la búsqueda hacia adelante y,
+	 * si conVuelta, medio -> destino por los padres de la búsqueda hacia atrás.
+	 */
+	private ListaEnlazada<E> caminoHasta(int medio, boolean conVuelta) {
+		ListaEnlazada<E> camino = new ListaEnlazada<>();
+		for (int v = medio; v != -1; v = padreF[v]) {
+			camino.insertFirst(out.labelOf(v));
+		}
+		if (conVuelta) {
+			for (int v = padreB[medio]; v != -1; v = padreB[v]) {
+				camino.insertLast(out.labelOf(v));
+			}
+		}
+		return camino;
+	}
+
+	private PathResult<E> sinCamino(int asentados) {
+		return new PathResult<>(new ListaEnlazada<E>(), -1, asentados);
+	}
+}
@@ -0,0 +1,128 @@
+package graph;
+
+import ImpStack.StackLink;
+
+/**
+ * Árbol de caminos mínimos desde un origen (resultado uno-a-todos de Dijkstra).
+ *
+ * Guarda la distancia y el padre de cada vértice en arreglos indexados por el
+ * id denso del vértice, de modo que consultar varios destinos desde el mismo
+ * origen no requiere volver a ejecutar el algoritmo.
+ *
+ * El árbol es una instantánea independiente del grafo: guarda su propio
+ * diccionario dato -> id, así que no mantiene vivo al grafo y, si el grafo
+ * cambia después (por ejemplo, ids reasignados al eliminar vértices), las
+ * consultas siguen usando los ids del momento del cálculo.
+ *
+ * @param <E> Tipo de dato de los vértices
+ */
+public class ShortestPathTree<E> {
+	private final E[] labels;
+	private final int[] dist;
+	private final int[] parent;
+	private final int source;
+	private final VertexDictionary<E> ids;
+
+	/**
+	 * Construye el diccionario dato -> id a partir de las etiquetas.
+	 *
+	 * @param labels Dato de cada vértice por id (copia propia del árbol)
+	 * @param dist Distancia desde el origen por id (Integer.MAX_VALUE si no se alcanza)
+	 * @param parent Padre en el árbol por id (-1 para el origen y los no alcanzados)
+	 * @param source Id del vértice origen
+	 */
+	ShortestPathTree(E[] labels, int[] dist, int[] parent, int source) {
+		this(labels, diccionario(labels), dist, parent, source);
+	}
+
+	/**
+	 * Comparte un diccionario que no va a cambiar (el de un grafo inmutable).
+	 *
+	 * @param ids Diccionario dato -> id coherente con labels
+	 */
+	ShortestPathTree(E[] labels, VertexDictionary<E> ids, int[] dist, int[] parent, int source) {
+		this.labels = labels;
+		this.dist = dist;
+		this.parent = parent;
+		this.source = source;
+		this.ids = ids;
+	}
+
+	public E getSource() {
+		return labels[source];
+	}
+
+	/**
+	 * @return Cantidad de vértices cubiertos por el árbol
+	 */
+	public int size() {
+		return labels.length;
+	}
+
+	/**
+	 * Verifica si existe camino desde el origen hasta el destino.
+	 *
+	 * @param destino Vértice de destino
+	 * @return true si el destino es alcanzable, false en caso contrario
+	 */
+	public boolean hasPathTo(E destino) {
+		return getDistance(destino) >= 0;
+	}
+
+	/**
+	 * Distancia mínima desde el origen hasta el destino.
+	 *
+	 * @param destino Vértice de destino
+	 * @return Peso del camino mínimo, -1 si no existe camino
+	 */
+	public int getDistance(E destino) {
+		int t = resolve(destino);
+		if (t < 0 || dist[t] == Integer.MAX_VALUE) return -1;
+		return dist[t];
+	}
+
+	/**
+	 * Reconstruye el camino mínimo siguiendo la cadena de padres.
+	 *
+	 * @param destino Vértice de destino
+	 * @return Pila con el camino (el origen en el tope), vacía si no existe
+	 */
+	public StackLink<E> pathTo(E destino) {
+		StackLink<E> camino = new StackLink<>();
+		int t = resolve(destino);
+		if (t < 0 || dist[t] == Integer.MAX_VALUE) return camino;
+		for (int v = t; v != -1; v = parent[v]) {
+			camino.push(labels[v]); /* Usar pila para obtener orden correcto */
+		}
+		return camino;
+	}
+
+	/**
+	 * @param id Id denso del vértice
+	 * @return Distancia desde el origen, Integer.MAX_VALUE si no se alcanza
+	 */
+	public int getDistanceById(int id) {
+		return dist[id];
+	}
+
+	/**
+	 * @param id Id denso del vértice
+	 * @return Id del padre en el árbol, -1 si no tiene
+	 */
+	public int getParentById(int id) {
+		return parent[id];
+	}
+
+	/* Traduce el dato a su id en la instantánea (-1 si no existe) */
+	private int resolve(E data) {
+		return ids.idOf(data);
+	}
+
+	private static <E> VertexDictionary<E> diccionario(E[] labels) {
+		VertexDictionary<E> ids = new VertexDictionary<>(labels.length);
+		for (E label : labels) {
+			ids.add(label);
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,60 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Matriz de adyacencia dispersa en formato CSR: para cada fila, sus
+ * columnas con arista en orden creciente y el peso de cada una. Ocupa
+ * O(n + m) en lugar de O(n²); get busca la columna por búsqueda binaria en
+ * la fila.
+ */
+public final class SparseAdjacencyMatrix implements AdjacencyMatrix {
+	private final int n;
+	private final int[] offsets;
+	private final int[] columns;
+	/* null en las binarias: todas las entradas valen 1 */
+	private final int[] weights;
+
+	/**
+	 * @param offsets Inicio de cada fila en columns (n + 1 valores)
+	 * @param columns Columnas de cada fila, ordenadas y sin repetir
+	 * @param weights Peso de cada entrada; null = matriz binaria
+	 */
+	SparseAdjacencyMatrix(int n, int[] offsets, int[] columns, int[] weights) {
+		this.n = n;
+		this.offsets = offsets;
+		this.columns = columns;
+		this.weights = weights;
+	}
+
+	/**
+	 * @return Cantidad de entradas distintas de 0
+	 */
+	public int nonZeros() {
+		return offsets[n];
+	}
+
+	@Override
+	public int size() {
+		return n;
+	}
+
+	@Override
+	public int get(int row, int column) {
+		int k = Arrays.binarySearch(columns, offsets[row], offsets[row + 1], column);
+		if (k < 0) return 0;
+		return weights == null ? 1 : weights[k];
+	}
+
+	@Override
+	public int nextNonZero(int row, int from) {
+		int k = Arrays.binarySearch(columns, offsets[row], offsets[row + 1], from);
+		if (k < 0) k = -k - 1;
+		return k < offsets[row + 1] ? columns[k] : n;
+	}
+
+	@Override
+	public long memoryBytes() {
+		return 4L * offsets.length + 4L * columns.length + (weights == null ? 0 : 4L * weights.length);
+	}
+}
@@ -9,6 +9,7 @@ import ListLinked.ListaEnlazada;
 public class Vertex<E> implements Comparable<Vertex<E>>{
 	private E data;
 	protected ListaEnlazada<Edge<E>> listAdj; //lista que va aguardar las arista
+	int id; //indice denso asignado por el grafo (0..n-1)
 
 	public Vertex(E data) {
 		this.data = data;
@@ -28,6 +29,11 @@ public class Vertex<E> implements Comparable<Vertex<E>>{
 		return false;
 	}
 	
+	//consistente con equals, para poder usar el vertice como clave hash
+	public int hashCode() {
+		return this.data.hashCode();
+	}
+	
     public int compareTo(Vertex<E> o) {
         if (this.data instanceof Comparable) {
             return ((Comparable<E>) this.data).compareTo(o.data);
@@ -0,0 +1,206 @@
+package graph;
+
+import ImpHash.StringPool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Diccionario de vértices: asigna a cada dato un id denso (0..size()-1) al
+ * insertarlo y permite volver del id al dato para mostrar resultados.
+ *
+ * La tabla hash guarda ids (no referencias) con sondeo lineal, y el hash de
+ * cada dato se calcula una sola vez al insertarlo; las búsquedas comparan
+ * primero el hash guardado y solo llaman a equals cuando coincide. Los ids no
+ * se encajan en Integer.
+ *
+ * Con pooled(), las etiquetas String se guardan en un StringPool en lugar de
+ * como objetos String, para grafos con decenas de millones de etiquetas.
+ * labelOf() decodifica una cadena nueva en cada llamada.
+ *
+ * Eliminar un dato mueve el último id al hueco, igual que GraphLink con sus
+ * vértices, para que los ids sigan siendo densos. En la variante con
+ * StringPool, los bytes del dato eliminado quedan en la arena.
+ *
+ * @param <E> Tipo de dato de los vértices (debe implementar equals/hashCode)
+ */
+public class VertexDictionary<E> {
+	private Object[] labels;
+	private final StringPool pool;
+	/* Con pool: referencia de la etiqueta de cada id en la arena */
+	private int[] refs;
+	/* Hash mezclado de la etiqueta de cada id */
+	private int[] hashes;
+	/* Tabla de sondeo lineal: id + 1, 0 = vacío */
+	private int[] tabla;
+	private int mask;
+	private int size;
+
+	public VertexDictionary() {
+		this(16);
+	}
+
+	/**
+	 * @param expected Cantidad esperada de vértices
+	 */
+	public VertexDictionary(int expected) {
+		this(expected, null);
+	}
+
+	private VertexDictionary(int expected, StringPool pool) {
+		int cap = 16;
+		/* Mantener el factor de carga por debajo de 0.5 */
+		while (cap < expected * 2) cap <<= 1;
+		int n = Math.max(1, expected);
+		this.pool = pool;
+		if (pool == null) labels = new Object[n];
+		else refs = new int[n];
+		hashes = new int[n];
+		tabla = new int[cap];
+		mask = cap - 1;
+	}
+
+	/**
+	 * Diccionario de etiquetas String guardadas en una arena compacta.
+	 *
+	 * @param expected Cantidad esperada de vértices
+	 * @param pool Arena donde se copian las etiquetas
+	 */
+	public static VertexDictionary<String> pooled(int expected, StringPool pool) {
+		if (pool == null) throw new IllegalArgumentException("El pool no puede ser null");
+		return new VertexDictionary<>(expected, pool);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param data Dato del vértice
+	 * @return Id denso del dato, -1 si no existe
+	 */
+	public int idOf(E data) {
+		if (data == null) return -1;
+		return buscar(data, hash(data));
+	}
+
+	/**
+	 * Inserta el dato si no existe.
+	 *
+	 * @param data Dato del vértice (no null)
+	 * @return Id del dato (el existente si ya estaba, size() - 1 si es nuevo)
+	 */
+	public int add(E data) {
+		if (data == null) throw new IllegalArgumentException("El dato no puede ser null");
+		int h = hash(data);
+		int existente = buscar(data, h);
+		if (existente >= 0) return existente;
+		int i = h & mask;
+		while (tabla[i] != 0) i = (i + 1) & mask;
+		int id = size++;
+		if (id == hashes.length) {
+			int cap = hashes.length * 2;
+			hashes = Arrays.copyOf(hashes, cap);
+			if (pool == null) labels = Arrays.copyOf(labels, cap);
+			else refs = Arrays.copyOf(refs, cap);
+		}
+		hashes[id] = h;
+		if (pool == null) labels[id] = data;
+		else refs[id] = pool.add((String) data);
+		tabla[i] = id + 1;
+		if (size * 2 > tabla.length) resize(tabla.length << 1);
+		return id;
+	}
+
+	/**
+	 * @param id Id denso (0 <= id < size())
+	 * @return Dato con ese id
+	 */
+	@SuppressWarnings("unchecked")
+	public E labelOf(int id) {
+		if (id < 0 || id >= size) throw new IndexOutOfBoundsException("Id fuera de rango: " + id);
+		return pool == null ? (E) labels[id] : (E) pool.get(refs[id]);
+	}
+
+	/**
+	 * Elimina el dato; el que tenía el último id pasa a ocupar el id liberado.
+	 *
+	 * @param data Dato a eliminar
+	 * @return Id que tenía el dato (ahora del que era el último), -1 si no existía
+	 */
+	public int remove(E data) {
+		int id = idOf(data);
+		if (id < 0) return -1;
+		borrarCasilla(casillaDe(id));
+		int ultimo = --size;
+		if (ultimo != id) {
+			/* Reapuntar la casilla del último id al id liberado */
+			tabla[casillaDe(ultimo)] = id + 1;
+			hashes[id] = hashes[ultimo];
+			if (pool == null) labels[id] = labels[ultimo];
+			else refs[id] = refs[ultimo];
+		}
+		if (pool == null) labels[ultimo] = null;
+		return id;
+	}
+
+	public void clear() {
+		Arrays.fill(tabla, 0);
+		if (pool == null) Arrays.fill(labels, 0, size, null);
+		size = 0;
+	}
+
+	/* Casilla de la tabla que guarda el id dado */
+	private int casillaDe(int id) {
+		int i = hashes[id] & mask;
+		while (tabla[i] != id + 1) i = (i + 1) & mask;
+		return i;
+	}
+
+	/* Desplazamiento hacia atrás, como HashIndex: la tabla no acumula lápidas */
+	private void borrarCasilla(int i) {
+		int hueco = i;
+		int j = (i + 1) & mask;
+		while (tabla[j] != 0) {
+			int ideal = hashes[tabla[j] - 1] & mask;
+			if (((j - ideal) & mask) >= ((j - hueco) & mask)) {
+				tabla[hueco] = tabla[j];
+				hueco = j;
+			}
+			j = (j + 1) & mask;
+		}
+		tabla[hueco] = 0;
+	}
+
+	private void resize(int cap) {
+		tabla = new int[cap];
+		mask = cap - 1;
+		for (int id = 0; id < size; id++) {
+			int i = hashes[id] & mask;
+			while (tabla[i] != 0) i = (i + 1) & mask;
+			tabla[i] = id + 1;
+		}
+	}
+
+	/* Id del dato con ese hash, -1 si no está; con pool codifica la clave solo si algún hash coincide */
+	private int buscar(E data, int h) {
+		byte[] utf8 = null;
+		for (int i = h & mask; tabla[i] != 0; i = (i + 1) & mask) {
+			int id = tabla[i] - 1;
+			if (hashes[id] != h) continue;
+			if (pool == null) {
+				if (labels[id].equals(data)) return id;
+			} else {
+				if (utf8 == null) utf8 = ((String) data).getBytes(StandardCharsets.UTF_8);
+				if (pool.equalsAt(refs[id], utf8)) return id;
+			}
+		}
+		return -1;
+	}
+
+	/* Mezcla los bits del hashCode para repartir mejor claves con patrones */
+	private static int hash(Object data) {
+		int h = data.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -4,6 +4,10 @@ public class VertexObj<V, E> implements Comparable<VertexObj<V, E>> {
     private V info;
     private int position;
 
+    /* Aristas salientes (en no dirigidos, todas las incidentes) y entrantes (solo dirigidos) */
+    final Incidencias<V, E> salientes = new Incidencias<>(this, false);
+    final Incidencias<V, E> entrantes = new Incidencias<>(this, true);
+
     public VertexObj(V info, int position) {
         this.info = info;
         this.position = position;
@@ -17,6 +21,20 @@ public class VertexObj<V, E> implements Comparable<VertexObj<V, E>> {
         return position;
     }
 
+    /** Reasigna la posición cuando el grafo compacta sus ids densos. */
+    void setPosition(int position) {
+        this.position = position;
+    }
+
+    /**
+     * @return Extremo de la i-ésima arista saliente distinto de este vértice
+     *         (este mismo en un lazo)
+     */
+    VertexObj<V, E> vecino(int i) {
+        EdgeObj<V, E> arista = salientes.get(i);
+        return arista.getEndVertex1() == this ? arista.getEndVertex2() : arista.getEndVertex1();
+    }
+
     @Override
     public int compareTo(VertexObj<V, E> other) {
         return Integer.compare(this.position, other.position);